@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2022 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.config.TweetwallSettings;
 import org.tweetwallfx.controls.Wordle;
+import org.tweetwallfx.controls.WordleSkin;
 
 /**
  * TweetWallFX - Devoxx 2014-17 {@literal @}johanvos {@literal @}SvenNB
@@ -47,6 +48,7 @@ public class TagTweets {
 
     private final BorderPane root;
     private final HBox hWordle = new HBox();
+    private Wordle wordle;
 
     public TagTweets(final BorderPane root) {
         this.root = root;
@@ -64,7 +66,7 @@ public class TagTweets {
 
         LOGGER.trace("** create wordle");
 
-        final Wordle wordle = new Wordle();
+        wordle = new Wordle();
         hWordle.getChildren().setAll(wordle);
         wordle.prefWidthProperty().bind(hWordle.widthProperty());
         wordle.prefHeightProperty().bind(hWordle.heightProperty());
@@ -72,4 +74,13 @@ public class TagTweets {
         LOGGER.trace("** create wordle done");
         LOGGER.trace("** 2. Starting new Tweets search for {}", searchText);
     }
+
+    public void stop() {
+        LOGGER.trace("TagTweets.stop");
+        if (null != wordle
+                && wordle.getSkin() instanceof WordleSkin wordleSkin
+                && null != wordleSkin.getStepEngine()) {
+            wordleSkin.getStepEngine().stop();
+        }
+    }
 }
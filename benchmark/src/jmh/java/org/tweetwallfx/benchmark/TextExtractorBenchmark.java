@@ -0,0 +1,279 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.EmojiTweetEntry;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * JMH benchmark of {@link Tweet.TextExtractor} on entry heavy tweets as
+ * processed by the tag cloud and the tweet layouts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class TextExtractorBenchmark {
+
+    private static final Pattern ENTRY_PATTERN = Pattern.compile("(#\\w+)|(@\\w+)|(https?://\\S+)");
+    private static final List<String> TEXTS = List.of(
+            "Great keynote by @duke and @openjdk at #Devoxx 🎉🎉 #Java #JavaFX https://t.co/abc123 https://t.co/def456",
+            "@speaker1 @speaker2 thanks for the   awesome talk on #virtualthreads 🧵 slides: https://t.co/slides42 #jfx #loom",
+            "RT @conference: Only 2 days left until #JavaOne!!! 🚀🚀🚀 Get your ticket now https://t.co/tix #java #cloud #ai",
+            "Just a plain tweet without any entries but with some     extra    whitespace to collapse",
+            "@a @b @c @d #one #two #three #four https://t.co/1 https://t.co/2 🙂🙃😉😊 done");
+    private Tweet[] tweets;
+
+    @Setup
+    public void setup() {
+        tweets = TEXTS.stream()
+                .map(EntryTweet::parse)
+                .toArray(Tweet[]::new);
+    }
+
+    @Benchmark
+    public void displayEnhancedText(final Blackhole blackhole) {
+        for (final Tweet tweet : tweets) {
+            blackhole.consume(tweet.getDisplayEnhancedText());
+        }
+    }
+
+    @Benchmark
+    public void tagCloudText(final Blackhole blackhole) {
+        for (final Tweet tweet : tweets) {
+            blackhole.consume(tweet.getTextWithout(UrlTweetEntry.class)
+                    .getTextWithout(MediaTweetEntry.class)
+                    .getTextWithout(UserMentionTweetEntry.class)
+                    .get());
+        }
+    }
+
+    @Benchmark
+    public void allEntriesRemoved(final Blackhole blackhole) {
+        for (final Tweet tweet : tweets) {
+            blackhole.consume(tweet.getTextWithout(UrlTweetEntry.class)
+                    .getTextWithout(HashtagTweetEntry.class)
+                    .getTextWithout(UserMentionTweetEntry.class)
+                    .getTextWithout(EmojiTweetEntry.class)
+                    .get());
+        }
+    }
+
+    private record Entry(String text, int start, int end)
+            implements HashtagTweetEntry, UrlTweetEntry, UserMentionTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public String getName() {
+            return text.substring(1);
+        }
+
+        @Override
+        public String getScreenName() {
+            return text.substring(1);
+        }
+
+        @Override
+        public long getId() {
+            return text.hashCode();
+        }
+
+        @Override
+        public String getURL() {
+            return text;
+        }
+
+        @Override
+        public String getExpandedURL() {
+            return text;
+        }
+
+        @Override
+        public String getDisplayURL() {
+            return text;
+        }
+    }
+
+    private record EntryTweet(
+            String text,
+            List<HashtagTweetEntry> hashtagEntries,
+            List<UserMentionTweetEntry> userMentionEntries,
+            List<UrlTweetEntry> urlEntries) implements Tweet {
+
+        private static EntryTweet parse(final String text) {
+            final List<HashtagTweetEntry> hashtags = new ArrayList<>();
+            final List<UserMentionTweetEntry> userMentions = new ArrayList<>();
+            final List<UrlTweetEntry> urls = new ArrayList<>();
+            final Matcher matcher = ENTRY_PATTERN.matcher(text);
+
+            while (matcher.find()) {
+                final Entry entry = new Entry(matcher.group(), matcher.start(), matcher.end());
+
+                if (null != matcher.group(1)) {
+                    hashtags.add(entry);
+                } else if (null != matcher.group(2)) {
+                    userMentions.add(entry);
+                } else {
+                    urls.add(entry);
+                }
+            }
+
+            return new EntryTweet(text, List.copyOf(hashtags), List.copyOf(userMentions), List.copyOf(urls));
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return LocalDateTime.MIN;
+        }
+
+        @Override
+        public int getFavoriteCount() {
+            return 0;
+        }
+
+        @Override
+        public long getId() {
+            return text.hashCode();
+        }
+
+        @Override
+        public long getInReplyToTweetId() {
+            return -1;
+        }
+
+        @Override
+        public long getInReplyToUserId() {
+            return -1;
+        }
+
+        @Override
+        public String getInReplyToScreenName() {
+            return null;
+        }
+
+        @Override
+        public String getLang() {
+            return "en";
+        }
+
+        @Override
+        public int getRetweetCount() {
+            return 0;
+        }
+
+        @Override
+        public Tweet getRetweetedTweet() {
+            return null;
+        }
+
+        @Override
+        public Tweet getOriginTweet() {
+            return this;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public User getUser() {
+            return null;
+        }
+
+        @Override
+        public boolean isRetweet() {
+            return false;
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return false;
+        }
+
+        @Override
+        public List<HashtagTweetEntry> getHashtagEntries() {
+            return hashtagEntries;
+        }
+
+        @Override
+        public List<MediaTweetEntry> getMediaEntries() {
+            return List.of();
+        }
+
+        @Override
+        public List<SymbolTweetEntry> getSymbolEntries() {
+            return List.of();
+        }
+
+        @Override
+        public List<UrlTweetEntry> getUrlEntries() {
+            return urlEntries;
+        }
+
+        @Override
+        public List<UserMentionTweetEntry> getUserMentionEntries() {
+            return userMentionEntries;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.benchmark;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.controls.Wordle;
+import org.tweetwallfx.controls.WordleSkin;
+import org.tweetwallfx.stepengine.api.StepEngine;
+import org.tweetwallfx.stepengine.api.StepMetrics;
+import org.tweetwallfx.tweet.api.Tweeter;
+
+/**
+ * Benchmark driving the {@link StepEngine} of a {@link Wordle} on the headless
+ * JavaFX platform (Monocle) with the mock tweeter producing a reproducible
+ * sequence of posts.
+ *
+ * <p>
+ * The preferred durations of the steps are ignored so that the steps are
+ * executed back to back. After a warm up phase the number of steps executed
+ * per second, the time the JavaFX application thread has been busy per step
+ * and the amount of memory allocated per step are reported along with the
+ * step and frame statistics of the {@link StepEngine}.
+ *
+ * <p>
+ * The benchmark is configured via the following system properties:
+ * <ul>
+ * <li>{@code org.tweetwallfx.benchmark.warmupSteps}: number of steps executed
+ * before measuring (defaults to {@code 50})</li>
+ * <li>{@code org.tweetwallfx.benchmark.steps}: number of steps measured
+ * (defaults to {@code 500})</li>
+ * <li>{@code org.tweetwallfx.benchmark.timeoutSeconds}: maximum runtime of the
+ * benchmark (defaults to {@code 600})</li>
+ * </ul>
+ * The steps and the seed of the mock tweeter are taken from
+ * {@code benchmarkConfig.json}. Recorded traffic is replayed instead by
+ * disabling the mock tweeter and enabling the {@code replay} tweeter in the
+ * configuration.
+ */
+public class StepEngineBenchmark extends Application {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StepEngineBenchmark.class);
+    private static final String PROPERTY_PREFIX = "org.tweetwallfx.benchmark.";
+    private static final int WARMUP_STEPS = Integer.getInteger(PROPERTY_PREFIX + "warmupSteps", 50);
+    private static final int MEASURED_STEPS = Integer.getInteger(PROPERTY_PREFIX + "steps", 500);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong(PROPERTY_PREFIX + "timeoutSeconds", 600));
+    private static final AtomicInteger RC = new AtomicInteger();
+    private StepEngine stepEngine;
+
+    @Override
+    public void start(final Stage primaryStage) {
+        final BorderPane borderPane = new BorderPane();
+        final Wordle wordle = new Wordle();
+        borderPane.setCenter(wordle);
+        final Scene scene = new Scene(borderPane, 1920, 1080);
+        primaryStage.setScene(scene);
+        // enforces the creation of the skin and thereby of the step engine
+        borderPane.applyCss();
+        primaryStage.show();
+
+        if (wordle.getSkin() instanceof WordleSkin wordleSkin) {
+            final StepEngine stepEngine = wordleSkin.getStepEngine();
+            this.stepEngine = stepEngine;
+            final long fxThreadId = Thread.currentThread().threadId();
+            Thread.ofPlatform()
+                    .name("benchmark")
+                    .daemon(true)
+                    .start(() -> runBenchmark(stepEngine, fxThreadId));
+        } else {
+            LOG.error("Wordle has no WordleSkin: {}", wordle.getSkin());
+            exitApplication(1);
+        }
+    }
+
+    private static void runBenchmark(final StepEngine stepEngine, final long fxThreadId) {
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadMXBean.setThreadCpuTimeEnabled(true);
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        final StepMetrics stepMetrics = stepEngine.getStepMetrics();
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        try {
+            LOG.info("Warming up for {} steps", WARMUP_STEPS);
+            awaitExecutions(stepMetrics, WARMUP_STEPS, deadline);
+            final Sample start = Sample.take(stepMetrics, threadMXBean, fxThreadId);
+            LOG.info("Measuring {} steps", MEASURED_STEPS);
+            awaitExecutions(stepMetrics, start.executions() + MEASURED_STEPS, deadline);
+            final Sample end = Sample.take(stepMetrics, threadMXBean, fxThreadId);
+            report(start, end, stepEngine);
+        } catch (final TimeoutException te) {
+            LOG.error("Benchmark did not finish within {}", TIMEOUT, te);
+            RC.set(1);
+        } catch (final InterruptedException ie) {
+            LOG.error("Benchmark interrupted", ie);
+            Thread.currentThread().interrupt();
+            RC.set(1);
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static void awaitExecutions(final StepMetrics stepMetrics, final long executions, final long deadline) throws InterruptedException, TimeoutException {
+        while (executions(stepMetrics) < executions) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("Only " + executions(stepMetrics) + " of " + executions + " steps executed");
+            }
+
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    private static long executions(final StepMetrics stepMetrics) {
+        return stepMetrics.getStatistics().values().stream()
+                .mapToLong(StepMetrics.StepStatistics::executions)
+                .sum();
+    }
+
+    private static void report(final Sample start, final Sample end, final StepEngine stepEngine) {
+        final long steps = end.executions() - start.executions();
+        final long nanos = end.nanos() - start.nanos();
+
+        LOG.info(String.format(
+                "Benchmark result:%n"
+                + "    steps:                %d%n"
+                + "    duration:             %.3f s%n"
+                + "    steps per second:     %.2f%n"
+                + "    FX busy per step:     %.3f ms%n"
+                + "    FX alloc per step:    %.1f KiB%n"
+                + "    total alloc per step: %.1f KiB%n"
+                + "%s%n"
+                + "%s",
+                steps,
+                nanos / 1e9,
+                steps * 1e9 / nanos,
+                (end.fxCpuNanos() - start.fxCpuNanos()) / 1e6 / steps,
+                (end.fxAllocatedBytes() - start.fxAllocatedBytes()) / 1024.0 / steps,
+                (end.totalAllocatedBytes() - start.totalAllocatedBytes()) / 1024.0 / steps,
+                stepEngine.getStepMetrics().dump(),
+                stepEngine.getFrameMetrics().dump()));
+    }
+
+    private void exitApplication(final int exitCode) {
+        LOG.info("Exit application with rc={}", exitCode);
+        RC.set(exitCode);
+        Platform.exit();
+    }
+
+    @Override
+    public void stop() {
+        LOG.info("closing...");
+        if (null != stepEngine) {
+            stepEngine.stop();
+        }
+        Tweeter.shutdownTweeter();
+    }
+
+    /**
+     * Starts the benchmark from command line.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(final String[] args) {
+        setPropertyIfAbsent("glass.platform", "Monocle");
+        setPropertyIfAbsent("monocle.platform", "Headless");
+        setPropertyIfAbsent("prism.order", "sw");
+        setPropertyIfAbsent("org.tweetwall.config.fileName", "benchmarkConfig.json");
+        setPropertyIfAbsent(StepEngine.IGNORE_PREFERRED_STEP_DURATION_PROPERTY, "true");
+        launch(args);
+        System.exit(RC.get());
+    }
+
+    private static void setPropertyIfAbsent(final String key, final String value) {
+        if (null == System.getProperty(key)) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private record Sample(
+            long executions,
+            long nanos,
+            long fxCpuNanos,
+            long fxAllocatedBytes,
+            long totalAllocatedBytes) {
+
+        private static Sample take(final StepMetrics stepMetrics, final ThreadMXBean threadMXBean, final long fxThreadId) {
+            return new Sample(
+                    executions(stepMetrics),
+                    System.nanoTime(),
+                    threadMXBean.getThreadCpuTime(fxThreadId),
+                    threadMXBean.getThreadAllocatedBytes(fxThreadId),
+                    threadMXBean.getTotalThreadAllocatedBytes());
+        }
+    }
+}
@@ -69,6 +69,7 @@ public final class ShowTopRated implements Step {
     private final Function<MachineContext, Collection<VotedTalk>> votedTalksConverter;
     private final Config config;
     private final String lookupId;
+    private volatile List<Pane> preparedTalkPanes;
 
     private ShowTopRated(
             final Function<MachineContext, Collection<VotedTalk>> votedTalksConverter,
@@ -116,22 +117,12 @@ public final class ShowTopRated implements Step {
 
             wordleSkin.getPane().getChildren().add(topRatedNode);
 
-            Iterator<VotedTalk> iterator = votedTalksConverter.apply(context).iterator();
-            int row = 0;
-            while (iterator.hasNext()) {
-                var talkPane = createTalkNode(context, iterator.next());
-                double talkWidth = config.width;
-                talkPane.setMinWidth(talkWidth);
-                talkPane.setMaxWidth(talkWidth);
-                talkPane.setPrefWidth(talkWidth);
-                talkPane.setMinHeight(config.talkHeight);
-                talkPane.setMaxHeight(config.talkHeight);
-                talkPane.setPrefHeight(config.talkHeight);
-                talkPane.setLayoutY(config.titleHeight + config.talkVGap + (config.talkHeight + config.talkVGap) * row);
-                topRatedNode.getChildren().add(talkPane);
-                row++;
-            }
+            final List<Pane> talkPanes = preparedTalkPanes;
+            topRatedNode.getChildren().addAll(null == talkPanes
+                    ? createTalkNodes(context)
+                    : talkPanes);
         }
+        preparedTalkPanes = null;
         ParallelTransition flipIns = new ParallelTransition();
         flipIns.getChildren().addAll(transitions);
         flipIns.setOnFinished(e -> context.proceed());
@@ -139,6 +130,32 @@ public final class ShowTopRated implements Step {
         flipIns.play();
     }
 
+    @Override
+    public void prepare(final MachineContext context) {
+        // build the talk nodes ahead of time
+        preparedTalkPanes = createTalkNodes(context);
+    }
+
+    private List<Pane> createTalkNodes(final MachineContext context) {
+        final List<Pane> talkPanes = new ArrayList<>();
+        Iterator<VotedTalk> iterator = votedTalksConverter.apply(context).iterator();
+        int row = 0;
+        while (iterator.hasNext()) {
+            var talkPane = createTalkNode(context, iterator.next());
+            double talkWidth = config.width;
+            talkPane.setMinWidth(talkWidth);
+            talkPane.setMaxWidth(talkWidth);
+            talkPane.setPrefWidth(talkWidth);
+            talkPane.setMinHeight(config.talkHeight);
+            talkPane.setMaxHeight(config.talkHeight);
+            talkPane.setPrefHeight(config.talkHeight);
+            talkPane.setLayoutY(config.titleHeight + config.talkVGap + (config.talkHeight + config.talkVGap) * row);
+            talkPanes.add(talkPane);
+            row++;
+        }
+        return talkPanes;
+    }
+
     private Pane createTalkNode(final MachineContext context, final VotedTalk votedTalk) {
         var ratingAverageScore = new Label(String.format("%.2f", votedTalk.ratingAverageScore));
         ratingAverageScore.getStyleClass().add("ratingAverageScore");
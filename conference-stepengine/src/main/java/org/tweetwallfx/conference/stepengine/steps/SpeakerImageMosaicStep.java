@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2016-2025 TweetWallFX
+ * Copyright (c) 2016-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -49,6 +49,7 @@ import org.tweetwallfx.conference.stepengine.dataprovider.SpeakerImageProvider;
 import org.tweetwallfx.controls.WordleSkin;
 import org.tweetwallfx.controls.steps.ImageMosaicStep;
 import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.RenderQuality;
 import org.tweetwallfx.stepengine.api.Step;
 import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.AbstractConfig;
@@ -61,24 +62,43 @@ public class SpeakerImageMosaicStep implements Step {
     private final Config config;
 
     private static final Random RANDOM = new SecureRandom();
-    private final ImageView[][] rects;
-    private final Bounds[][] bounds;
+    private ImageView[][] rects;
+    private Bounds[][] bounds;
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
     private int count = 0;
+    private volatile Mosaic preparedMosaic;
+    private RenderQuality quality = RenderQuality.HIGH;
+    private int columns;
+    private int rows;
 
     private SpeakerImageMosaicStep(Config config) {
         this.config = config;
-        this.rects = new ImageView[config.columns][config.rows];
-        this.bounds = new Bounds[config.columns][config.rows];
+    }
+
+    @Override
+    public void prepare(final MachineContext context) {
+        // decode the speaker images and build the image views ahead of time
+        preparedMosaic = createMosaic(
+                context.getDataProvider(SpeakerImageProvider.class).getImages().toList(),
+                context.getRenderQuality());
     }
 
     @Override
     public void doStep(final MachineContext context) {
         WordleSkin wordleSkin = (WordleSkin) context.get("WordleSkin");
         pane = wordleSkin.getPane();
-        var speakerImageProvider = context.getDataProvider(SpeakerImageProvider.class);
-        Transition createMosaicTransition = createMosaicTransition(speakerImageProvider);
+        quality = context.getRenderQuality();
+        Mosaic mosaic = preparedMosaic;
+        preparedMosaic = null;
+        if (null == mosaic || mosaic.quality != quality) {
+            mosaic = createMosaic(context.getDataProvider(SpeakerImageProvider.class).getImages().toList(), quality);
+        }
+        rects = mosaic.views;
+        bounds = mosaic.bounds;
+        columns = rects.length;
+        rows = rects[0].length;
+        Transition createMosaicTransition = createMosaicTransition();
         createMosaicTransition.setOnFinished(event
                 -> executeAnimations(context));
         createMosaicTransition.play();
@@ -105,16 +125,16 @@ public class SpeakerImageMosaicStep implements Step {
                 } else {
                     count = 0;
                     ParallelTransition cleanup = new ParallelTransition();
-                    for (int i = 0; i < config.columns; i++) {
-                        for (int j = 0; j < config.rows; j++) {
-                            FadeTransition ft = new FadeTransition(Duration.seconds(0.1), rects[i][j]);
+                    for (int i = 0; i < columns; i++) {
+                        for (int j = 0; j < rows; j++) {
+                            FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(0.1)), rects[i][j]);
                             ft.setToValue(0);
                             cleanup.getChildren().addAll(ft);
                         }
                     }
                     cleanup.setOnFinished(cleanUpDown -> {
-                        for (int i = 0; i < config.columns; i++) {
-                            for (int j = 0; j < config.rows; j++) {
+                        for (int i = 0; i < columns; i++) {
+                            for (int j = 0; j < rows; j++) {
                                 pane.getChildren().remove(rects[i][j]);
                             }
                         }
@@ -127,15 +147,22 @@ public class SpeakerImageMosaicStep implements Step {
         });
     }
 
-    private Transition createMosaicTransition(SpeakerImageProvider speakerImageProvider) {
-        final SequentialTransition fadeIn = new SequentialTransition();
-        final List<FadeTransition> allFadeIns = new ArrayList<>();
-        final double width = config.width / config.columns - 10;
-        final double height = config.height / config.rows - 8;
-        final List<Image> speakerImageList = new ArrayList<>(speakerImageProvider.getImages().toList());
-
-        for (int i = 0; i < config.columns; i++) {
-            for (int j = 0; j < config.rows; j++) {
+    /**
+     * Creates the image views of the mosaic laid out for the given render
+     * quality. The views are not attached to the scene graph, so this may be
+     * called off the JavaFX application thread.
+     */
+    private Mosaic createMosaic(final List<Image> images, final RenderQuality renderQuality) {
+        final int mosaicColumns = renderQuality.scaleCount(config.columns);
+        final int mosaicRows = renderQuality.scaleCount(config.rows);
+        final ImageView[][] views = new ImageView[mosaicColumns][mosaicRows];
+        final Bounds[][] viewBounds = new Bounds[mosaicColumns][mosaicRows];
+        final double width = config.width / mosaicColumns - 10;
+        final double height = config.height / mosaicRows - 8;
+        final List<Image> speakerImageList = new ArrayList<>(images);
+
+        for (int i = 0; i < mosaicColumns; i++) {
+            for (int j = 0; j < mosaicRows; j++) {
                 int index = RANDOM.nextInt(speakerImageList.size());
                 var image = speakerImageList.remove(index);
                 ImageView imageView = new ImageView(image);
@@ -149,14 +176,28 @@ public class SpeakerImageMosaicStep implements Step {
                 var clip = new Rectangle(width, height);
                 imageView.setClip(clip);
                 imageView.setPreserveRatio(true);
-                imageView.setEffect(new GaussianBlur(0));
-                rects[i][j] = imageView;
-                bounds[i][j] = new BoundingBox(i * (width + 10) + 5 + config.layoutX, j * (height + 8) + 4 + config.layoutY, width, height);
-                rects[i][j].setOpacity(0);
-                rects[i][j].setLayoutX(bounds[i][j].getMinX());
-                rects[i][j].setLayoutY(bounds[i][j].getMinY());
+                imageView.setSmooth(renderQuality.isSmoothScaling());
+                if (renderQuality.isBlurEnabled()) {
+                    imageView.setEffect(new GaussianBlur(0));
+                }
+                views[i][j] = imageView;
+                viewBounds[i][j] = new BoundingBox(i * (width + 10) + 5 + config.layoutX, j * (height + 8) + 4 + config.layoutY, width, height);
+                imageView.setOpacity(0);
+                imageView.setLayoutX(viewBounds[i][j].getMinX());
+                imageView.setLayoutY(viewBounds[i][j].getMinY());
+            }
+        }
+        return new Mosaic(renderQuality, views, viewBounds);
+    }
+
+    private Transition createMosaicTransition() {
+        final SequentialTransition fadeIn = new SequentialTransition();
+        final List<FadeTransition> allFadeIns = new ArrayList<>();
+
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
                 pane.getChildren().add(rects[i][j]);
-                FadeTransition ft = new FadeTransition(Duration.seconds(0.3), imageView);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(0.3)), rects[i][j]);
                 ft.setToValue(1);
                 allFadeIns.add(ft);
             }
@@ -170,11 +211,11 @@ public class SpeakerImageMosaicStep implements Step {
         // select next random not but not previously shown image
         int index;
         do {
-            index = RANDOM.nextInt(30);
+            index = RANDOM.nextInt(columns * rows);
         } while (!highlightedIndexes.add(index));
 
-        int column = index % config.columns;
-        int row = index / config.rows;
+        int column = index % columns;
+        int row = index / columns;
 
         ImageView randomView = rects[column][row];
         randomView.setClip(null);
@@ -182,19 +223,19 @@ public class SpeakerImageMosaicStep implements Step {
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
 
-        for (int i = 0; i < config.columns; i++) {
-            for (int j = 0; j < config.rows; j++) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
                 if ((i == column) && (j == row)) {
                     continue;
                 }
-                FadeTransition ft = new FadeTransition(Duration.seconds(1), rects[i][j]);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(1)), rects[i][j]);
                 ft.setToValue(0.3);
                 firstParallelTransition.getChildren().add(ft);
             }
         }
-        for (int i = 0; i < config.columns; i++) {
-            for (int j = 0; j < config.rows; j++) {
-                if ((i == column) && (j == row)) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                if (((i == column) && (j == row)) || !quality.isBlurEnabled()) {
                     continue;
                 }
 
@@ -220,10 +261,10 @@ public class SpeakerImageMosaicStep implements Step {
         double targetWidth = realWidth * scaleFactor;
         double targetheight = realHeight * scaleFactor;
 
-        final SizeTransition zoomBox = new SizeTransition(Duration.millis(config.zoomDurationAnimation), randomView.fitWidthProperty(), randomView.fitHeightProperty())
+        final SizeTransition zoomBox = new SizeTransition(quality.scaleDuration(Duration.millis(config.zoomDurationAnimation)), randomView.fitWidthProperty(), randomView.fitHeightProperty())
                 .withWidth(randomView.getLayoutBounds().getWidth(), targetWidth)
                 .withHeight(randomView.getLayoutBounds().getHeight(), targetheight);
-        final LocationTransition trans = new LocationTransition(Duration.millis(config.zoomDurationAnimation), randomView)
+        final LocationTransition trans = new LocationTransition(quality.scaleDuration(Duration.millis(config.zoomDurationAnimation)), randomView)
                 .withX(randomView.getLayoutX(), config.width / 2 - targetWidth / 2)
                 .withY(randomView.getLayoutY(), config.height / 2 - targetheight / 2);
         secondParallelTransition.getChildren().addAll(trans, zoomBox);
@@ -248,25 +289,25 @@ public class SpeakerImageMosaicStep implements Step {
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
 
-        for (int i = 0; i < config.columns; i++) {
-            for (int j = 0; j < config.rows; j++) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
                 if ((i == column) && (j == row)) {
                     continue;
                 }
-                FadeTransition ft = new FadeTransition(Duration.seconds(1), rects[i][j]);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(1)), rects[i][j]);
                 ft.setFromValue(0.3);
                 ft.setToValue(1.0);
                 firstParallelTransition.getChildren().add(ft);
             }
         }
 
-        double width = config.width / config.columns - 10;
-        double height = config.height / config.rows - 8;
+        double width = config.width / columns - 10;
+        double height = config.height / rows - 8;
 
-        final SizeTransition zoomBox = new SizeTransition(Duration.millis(config.zoomDurationAnimation), randomView.fitWidthProperty(), randomView.fitHeightProperty())
+        final SizeTransition zoomBox = new SizeTransition(quality.scaleDuration(Duration.millis(config.zoomDurationAnimation)), randomView.fitWidthProperty(), randomView.fitHeightProperty())
                 .withWidth(randomView.getLayoutBounds().getWidth(), width)
                 .withHeight(randomView.getLayoutBounds().getHeight(), height);
-        final LocationTransition trans = new LocationTransition(Duration.millis(config.zoomDurationAnimation), randomView)
+        final LocationTransition trans = new LocationTransition(quality.scaleDuration(Duration.millis(config.zoomDurationAnimation)), randomView)
                 .withX(randomView.getLayoutX(), bounds[column][row].getMinX())
                 .withY(randomView.getLayoutY(), bounds[column][row].getMinY());
         secondParallelTransition.getChildren().addAll(trans, zoomBox);
@@ -283,6 +324,19 @@ public class SpeakerImageMosaicStep implements Step {
         return seqT;
     }
 
+    private static class Mosaic {
+
+        private final RenderQuality quality;
+        private final ImageView[][] views;
+        private final Bounds[][] bounds;
+
+        private Mosaic(final RenderQuality quality, final ImageView[][] views, final Bounds[][] bounds) {
+            this.quality = quality;
+            this.views = views;
+            this.bounds = bounds;
+        }
+    }
+
     private static class ImageWallAnimationTransition {
 
         private final Transition transition;
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -63,6 +63,7 @@ public final class WordleSkin extends SkinBase<Wordle> {
     private final int tweetFontSize;
     private final Boolean favIconsVisible;
     private final DateFormat df = new SimpleDateFormat("HH:mm:ss");
+    private StepEngine stepEngine;
 
     public ImageView getSecondLogo() {
         return secondLogo;
@@ -120,6 +121,10 @@ public final class WordleSkin extends SkinBase<Wordle> {
         return tweetFontSize;
     }
 
+    public StepEngine getStepEngine() {
+        return stepEngine;
+    }
+
     public WordleSkin(Wordle wordle) {
         super(wordle);
         //create panes
@@ -240,9 +245,9 @@ public final class WordleSkin extends SkinBase<Wordle> {
     private void prepareStepMachine() {
         LOG.info("Prepare StepMachine");
 
-        final StepEngine s = new StepEngine();
-        s.getContext().put("WordleSkin", this);
+        stepEngine = new StepEngine();
+        stepEngine.getContext().put("WordleSkin", this);
         LOG.info("Prepare StepMachine done");
-        s.go();
+        stepEngine.go();
     }
 }
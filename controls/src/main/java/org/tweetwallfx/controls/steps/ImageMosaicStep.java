@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2016-2025 TweetWallFX
+ * Copyright (c) 2016-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -45,6 +45,7 @@ import javafx.scene.layout.Pane;
 import javafx.util.Duration;
 import org.tweetwallfx.controls.WordleSkin;
 import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.RenderQuality;
 import org.tweetwallfx.stepengine.api.Step;
 import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
@@ -60,11 +61,26 @@ public class ImageMosaicStep implements Step {
     }
 
     private static final Random RANDOM = new SecureRandom();
-    private final ImageView[][] rects = new ImageView[6][5];
-    private final Bounds[][] bounds = new Bounds[6][5];
+    private static final int MAX_COLUMNS = 6;
+    private static final int MAX_ROWS = 5;
+    private ImageView[][] rects;
+    private final Bounds[][] bounds = new Bounds[MAX_COLUMNS][MAX_ROWS];
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
     private int count = 0;
+    private RenderQuality quality = RenderQuality.HIGH;
+    private int columns = MAX_COLUMNS;
+    private int rows = MAX_ROWS;
+    private volatile Mosaic preparedMosaic;
+
+    @Override
+    public void prepare(final MachineContext context) {
+        final List<ImageStore> images = context.getDataProvider(ImageMosaicDataProvider.class).getImages();
+        // build the image views ahead of time, they are sized once the pane is known
+        preparedMosaic = images.size() < 35
+                ? null
+                : createMosaic(images, context.getRenderQuality());
+    }
 
     @Override
     public void doStep(final MachineContext context) {
@@ -74,7 +90,16 @@ public class ImageMosaicStep implements Step {
         if (dataProvider.getImages().size() < 35) {
             context.proceed();
         } else {
-            Transition createMosaicTransition = createMosaicTransition(dataProvider.getImages());
+            quality = context.getRenderQuality();
+            Mosaic mosaic = preparedMosaic;
+            preparedMosaic = null;
+            if (null == mosaic || mosaic.quality != quality) {
+                mosaic = createMosaic(dataProvider.getImages(), quality);
+            }
+            rects = mosaic.views;
+            columns = rects.length;
+            rows = rects[0].length;
+            Transition createMosaicTransition = createMosaicTransition();
             createMosaicTransition.setOnFinished(event
                     -> executeAnimations(context));
 
@@ -103,16 +128,16 @@ public class ImageMosaicStep implements Step {
                 } else {
                     count = 0;
                     ParallelTransition cleanup = new ParallelTransition();
-                    for (int i = 0; i < 6; i++) {
-                        for (int j = 0; j < 5; j++) {
-                            FadeTransition ft = new FadeTransition(Duration.seconds(0.5), rects[i][j]);
+                    for (int i = 0; i < columns; i++) {
+                        for (int j = 0; j < rows; j++) {
+                            FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(0.5)), rects[i][j]);
                             ft.setToValue(0);
                             cleanup.getChildren().addAll(ft);
                         }
                     }
                     cleanup.setOnFinished(cleanUpDown -> {
-                        for (int i = 0; i < 6; i++) {
-                            for (int j = 0; j < 5; j++) {
+                        for (int i = 0; i < columns; i++) {
+                            for (int j = 0; j < rows; j++) {
                                 pane.getChildren().remove(rects[i][j]);
                             }
                         }
@@ -125,30 +150,51 @@ public class ImageMosaicStep implements Step {
         });
     }
 
-    private Transition createMosaicTransition(final List<ImageStore> imageStores) {
-        final SequentialTransition fadeIn = new SequentialTransition();
-        final List<FadeTransition> allFadeIns = new ArrayList<>();
-        final double width = pane.getWidth() / 6.0 - 10;
-        final double height = pane.getHeight() / 5.0 - 8;
+    /**
+     * Creates the image views of the mosaic for the given render quality. The
+     * views are not attached to the scene graph, so this may be called off the
+     * JavaFX application thread.
+     */
+    private static Mosaic createMosaic(final List<ImageStore> imageStores, final RenderQuality renderQuality) {
+        final int mosaicColumns = renderQuality.scaleCount(MAX_COLUMNS);
+        final int mosaicRows = renderQuality.scaleCount(MAX_ROWS);
+        final ImageView[][] views = new ImageView[mosaicColumns][mosaicRows];
         final List<ImageStore> distillingList = new ArrayList<>(imageStores);
 
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
+        for (int i = 0; i < mosaicColumns; i++) {
+            for (int j = 0; j < mosaicRows; j++) {
                 int index = RANDOM.nextInt(distillingList.size());
                 ImageStore selectedImage = distillingList.remove(index);
                 ImageView imageView = new ImageView(selectedImage.getImage());
                 imageView.setCache(true);
                 imageView.setCacheHint(CacheHint.SPEED);
+                imageView.setSmooth(renderQuality.isSmoothScaling());
+                if (renderQuality.isBlurEnabled()) {
+                    imageView.setEffect(new GaussianBlur(0));
+                }
+                imageView.setOpacity(0);
+                views[i][j] = imageView;
+            }
+        }
+        return new Mosaic(renderQuality, views);
+    }
+
+    private Transition createMosaicTransition() {
+        final SequentialTransition fadeIn = new SequentialTransition();
+        final List<FadeTransition> allFadeIns = new ArrayList<>();
+        final double width = pane.getWidth() / columns - 10;
+        final double height = pane.getHeight() / rows - 8;
+
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                ImageView imageView = rects[i][j];
                 imageView.setFitWidth(width);
                 imageView.setFitHeight(height);
-                imageView.setEffect(new GaussianBlur(0));
-                rects[i][j] = imageView;
                 bounds[i][j] = new BoundingBox(i * (width + 10) + 5, j * (height + 8) + 4, width, height);
-                rects[i][j].setOpacity(0);
-                rects[i][j].setLayoutX(bounds[i][j].getMinX());
-                rects[i][j].setLayoutY(bounds[i][j].getMinY());
-                pane.getChildren().add(rects[i][j]);
-                FadeTransition ft = new FadeTransition(Duration.seconds(0.3), imageView);
+                imageView.setLayoutX(bounds[i][j].getMinX());
+                imageView.setLayoutY(bounds[i][j].getMinY());
+                pane.getChildren().add(imageView);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(0.3)), imageView);
                 ft.setToValue(1);
                 allFadeIns.add(ft);
             }
@@ -162,30 +208,30 @@ public class ImageMosaicStep implements Step {
         // select next random not but not previously shown image
         int index;
         do {
-            index = RANDOM.nextInt(30);
+            index = RANDOM.nextInt(columns * rows);
         } while (!highlightedIndexes.add(index));
 
-        int column = index % 6;
-        int row = index / 6;
+        int column = index % columns;
+        int row = index / columns;
 
         ImageView randomView = rects[column][row];
         randomView.toFront();
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
 
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
                 if ((i == column) && (j == row)) {
                     continue;
                 }
-                FadeTransition ft = new FadeTransition(Duration.seconds(1), rects[i][j]);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(1)), rects[i][j]);
                 ft.setToValue(0.3);
                 firstParallelTransition.getChildren().add(ft);
             }
         }
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
-                if ((i == column) && (j == row)) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                if (((i == column) && (j == row)) || !quality.isBlurEnabled()) {
                     continue;
                 }
 
@@ -211,10 +257,10 @@ public class ImageMosaicStep implements Step {
         double targetWidth = realWidth * scaleFactor;
         double targetheight = realHeight * scaleFactor;
 
-        final SizeTransition zoomBox = new SizeTransition(Duration.seconds(2.5), randomView.fitWidthProperty(), randomView.fitHeightProperty())
+        final SizeTransition zoomBox = new SizeTransition(quality.scaleDuration(Duration.seconds(2.5)), randomView.fitWidthProperty(), randomView.fitHeightProperty())
                 .withWidth(randomView.getLayoutBounds().getWidth(), targetWidth)
                 .withHeight(randomView.getLayoutBounds().getHeight(), targetheight);
-        final LocationTransition trans = new LocationTransition(Duration.seconds(2.5), randomView)
+        final LocationTransition trans = new LocationTransition(quality.scaleDuration(Duration.seconds(2.5)), randomView)
                 .withX(randomView.getLayoutX(), pane.getWidth() / 2 - targetWidth / 2)
                 .withY(randomView.getLayoutY(), pane.getHeight() / 2 - targetheight / 2);
         secondParallelTransition.getChildren().addAll(trans, zoomBox);
@@ -239,25 +285,25 @@ public class ImageMosaicStep implements Step {
         ParallelTransition firstParallelTransition = new ParallelTransition();
         ParallelTransition secondParallelTransition = new ParallelTransition();
 
-        for (int i = 0; i < 6; i++) {
-            for (int j = 0; j < 5; j++) {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
                 if ((i == column) && (j == row)) {
                     continue;
                 }
-                FadeTransition ft = new FadeTransition(Duration.seconds(1), rects[i][j]);
+                FadeTransition ft = new FadeTransition(quality.scaleDuration(Duration.seconds(1)), rects[i][j]);
                 ft.setFromValue(0.3);
                 ft.setToValue(1.0);
                 firstParallelTransition.getChildren().add(ft);
             }
         }
 
-        double width = pane.getWidth() / 6.0 - 10;
-        double height = pane.getHeight() / 5.0 - 8;
+        double width = pane.getWidth() / columns - 10;
+        double height = pane.getHeight() / rows - 8;
 
-        final SizeTransition zoomBox = new SizeTransition(Duration.seconds(2.5), randomView.fitWidthProperty(), randomView.fitHeightProperty())
+        final SizeTransition zoomBox = new SizeTransition(quality.scaleDuration(Duration.seconds(2.5)), randomView.fitWidthProperty(), randomView.fitHeightProperty())
                 .withWidth(randomView.getLayoutBounds().getWidth(), width)
                 .withHeight(randomView.getLayoutBounds().getHeight(), height);
-        final LocationTransition trans = new LocationTransition(Duration.seconds(2.5), randomView)
+        final LocationTransition trans = new LocationTransition(quality.scaleDuration(Duration.seconds(2.5)), randomView)
                 .withX(randomView.getLayoutX(), bounds[column][row].getMinX())
                 .withY(randomView.getLayoutY(), bounds[column][row].getMinY());
         secondParallelTransition.getChildren().addAll(trans, zoomBox);
@@ -271,6 +317,17 @@ public class ImageMosaicStep implements Step {
         return seqT;
     }
 
+    private static class Mosaic {
+
+        private final RenderQuality quality;
+        private final ImageView[][] views;
+
+        private Mosaic(final RenderQuality quality, final ImageView[][] views) {
+            this.quality = quality;
+            this.views = views;
+        }
+    }
+
     private static class ImageWallAnimationTransition {
 
         private final Transition transition;
@@ -59,6 +59,7 @@ import org.tweetwallfx.controls.util.TimeFormatter;
 import org.tweetwallfx.emoji.control.EmojiFlow;
 import org.tweetwallfx.stepengine.api.Controllable;
 import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.RenderQuality;
 import org.tweetwallfx.stepengine.api.Step;
 import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
@@ -85,6 +86,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     private PhotoImageMediaEntryDataProvider photoImageMediaEntryDataProvider;
     private TweetStreamDataProvider tweetStreamDataProvider;
     private WordleSkin wordleSkin;
+    private volatile MachineContext context;
     private CountDownLatch shutdownCountdown;
     private final AtomicInteger next = new AtomicInteger(0);
 
@@ -98,6 +100,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     public void doStep(final MachineContext context) {
         isTerminated = false;
         wordleSkin = (WordleSkin) context.get("WordleSkin");
+        this.context = context;
         context.put(config.stepIdentifier, this);
         tweetUserProfileImageDataProvider = context.getDataProvider(TweetUserProfileImageDataProvider.class);
         photoImageMediaEntryDataProvider = context.getDataProvider(PhotoImageMediaEntryDataProvider.class);
@@ -154,7 +157,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
                 locationTransition.setOnFinished(evt -> {
                     pane.getChildren().remove(node);
                 });
-                var fadeIn = new FadeTransition(Duration.millis(1500), nodeToScroll);
+                var fadeIn = new FadeTransition(renderQuality().scaleDuration(Duration.millis(1500)), nodeToScroll);
                 fadeIn.setFromValue(0);
                 fadeIn.setToValue(1);
                 fadeIn.play();
@@ -172,7 +175,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
                 scrollOut(lastNode, pane).play();
                 scrollIn(createNode(), pane).play();
             });
-            var fadeIn = new FadeTransition(Duration.millis(1500), lastNode);
+            var fadeIn = new FadeTransition(renderQuality().scaleDuration(Duration.millis(1500)), lastNode);
             fadeIn.setFromValue(0);
             fadeIn.setToValue(1);
             fadeIn.play();
@@ -259,7 +262,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
         tweetFlow.getStyleClass().add("tweetFlow");
         tweetFlow.setText(text);
         tweetFlow.setCache(config.tweetFlowNode.isCacheEnabled);
-        tweetFlow.setCacheHint(config.tweetFlowNode.cacheHint);
+        tweetFlow.setCacheHint(renderQuality().cacheHint(config.tweetFlowNode.cacheHint));
         tweetFlow.setMinWidth(config.tweetWidth);
         tweetFlow.setMaxWidth(config.tweetWidth);
         tweetFlow.setPrefWidth(config.tweetWidth);
@@ -269,7 +272,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
         nameFlow.getStyleClass().add("tweetUsername");
         nameFlow.setText(name);
         nameFlow.setCache(config.tweetFlowNode.isCacheEnabled);
-        nameFlow.setCacheHint(config.tweetFlowNode.cacheHint);
+        nameFlow.setCacheHint(renderQuality().cacheHint(config.tweetFlowNode.cacheHint));
 
         Instant createdAt = displayTweet.getCreatedAt().toInstant(ZoneOffset.UTC);
         Label naturalTime = new Label(TimeFormatter.formatNatural(createdAt, Locale.ENGLISH));
@@ -288,7 +291,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
         VBox.setMargin(nameFlow, new Insets(5, 0, 0, 0));
         VBox.setMargin(naturalTime, new Insets(2, 5, 5, 0));
         tweet.setCache(config.tweetOverallNode.isCacheEnabled);
-        tweet.setCacheHint(config.tweetOverallNode.cacheHint);
+        tweet.setCacheHint(renderQuality().cacheHint(config.tweetOverallNode.cacheHint));
 
         Pane pane = tweet;
 
@@ -301,7 +304,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
             HBox.setMargin(profileImageView, new Insets(5, 5, 5, 5));
             box.getStyleClass().add("tweetDisplay");
             box.setCache(config.tweetOverallNode.isCacheEnabled);
-            box.setCacheHint(config.tweetOverallNode.cacheHint);
+            box.setCacheHint(renderQuality().cacheHint(config.tweetOverallNode.cacheHint));
             pane = box;
         } else {
             tweet.getStyleClass().add("tweetDisplay");
@@ -315,9 +318,9 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     private Node createProfileImageView(Tweet displayTweet) {
         Image profileImage = tweetUserProfileImageDataProvider.getImageBig(displayTweet.getUser());
         ImageView profileImageView = new ImageView(profileImage);
-        profileImageView.setSmooth(true);
+        profileImageView.setSmooth(renderQuality().isSmoothScaling());
         profileImageView.setCache(config.speakerImageNode.isCacheEnabled);
-        profileImageView.setCacheHint(config.speakerImageNode.cacheHint);
+        profileImageView.setCacheHint(renderQuality().cacheHint(config.speakerImageNode.cacheHint));
         if (config.circularProfileImage) {
             final Circle clip = new Circle(config.profileImageSize / 2f, config.profileImageSize / 2f, config.profileImageSize / 2f);
             profileImageView.setClip(clip);
@@ -340,11 +343,18 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
             rectangle.setArcWidth(20);
             iv.setClip(rectangle);
             iv.setCache(config.tweetImageNode.isCacheEnabled);
-            iv.setCacheHint(config.tweetImageNode.cacheHint);
+            iv.setCacheHint(renderQuality().cacheHint(config.tweetImageNode.cacheHint));
             return Optional.of(iv);
         });
     }
 
+    private RenderQuality renderQuality() {
+        final MachineContext machineContext = context;
+        return null == machineContext
+                ? RenderQuality.HIGH
+                : machineContext.getRenderQuality();
+    }
+
     @Override
     public java.time.Duration preferredStepDuration(final MachineContext context) {
         return java.time.Duration.ofMillis(config.stepDuration);
@@ -363,7 +373,7 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
                     .forEach(pane -> {
                         LOG.info("Shutting down {}", pane.getId());
                         for (Node nodeToFadeOut : pane.getChildren()) {
-                            var fadeOut = new FadeTransition(Duration.millis(1500), nodeToFadeOut);
+                            var fadeOut = new FadeTransition(renderQuality().scaleDuration(Duration.millis(1500)), nodeToFadeOut);
                             fadeOut.setFromValue(1);
                             fadeOut.setToValue(0);
                             fadeOut.setOnFinished(e -> {
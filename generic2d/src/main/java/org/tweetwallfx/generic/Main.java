@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -53,6 +53,7 @@ public class Main extends Application {
     private static final AtomicInteger RC = new AtomicInteger();
 
     final MqttProcess mqttProcess = new MqttProcess();
+    private TagTweets tweetsTask;
 
     @Override
     public void start(Stage primaryStage) {
@@ -88,7 +89,7 @@ public class Main extends Application {
         statusLineText.textProperty().bind(spa.stringProperty());
         statusLineHost.getChildren().add(statusLineText);
 
-        final TagTweets tweetsTask = new TagTweets(borderPane);
+        tweetsTask = new TagTweets(borderPane);
         Platform.runLater(tweetsTask::start);
 
         scene.setOnKeyTyped((KeyEvent event) -> {
@@ -131,6 +132,9 @@ public class Main extends Application {
     @Override
     public void stop() {
         LOG.info("closing...");
+        if (null != tweetsTask) {
+            tweetsTask.stop();
+        }
         Tweeter.shutdownTweeter();
         mqttProcess.stop();
     }
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2016-2023 TweetWallFX
+ * Copyright (c) 2016-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.stepengine.api;
 
+import java.util.List;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.tweet.api.Tweet;
 
@@ -80,6 +81,18 @@ public interface DataProvider {
          * @param tweet a new tweet
          */
         void processNewTweet(final Tweet tweet);
+
+        /**
+         * Callback to process a batch of new tweets in the order they have
+         * arrived in. Implementations retaining a limited number of tweets
+         * may override this in order to skip the tweets superseded within
+         * the batch.
+         *
+         * @param tweets the new tweets
+         */
+        default void processNewTweets(final List<Tweet> tweets) {
+            tweets.forEach(this::processNewTweet);
+        }
     }
 
     /**
@@ -105,6 +118,9 @@ public interface DataProvider {
 
         /**
          * {@return a boolean flag indicating that initialization has been performed}.
+         * The {@link StepEngine} evaluates this flag after every execution of
+         * this {@link Scheduled} until it signals the completed
+         * initialization.
          */
         default boolean isInitialized() {
             return false;
@@ -112,6 +128,8 @@ public interface DataProvider {
 
         /**
          * {@return the number of milli seconds to wait before checking the initialization state again}.
+         * No longer evaluated by the {@link StepEngine} as the initialization
+         * state is checked after every execution of this {@link Scheduled}.
          */
         default long initializationCheckIntervallMS() {
             return 50L;
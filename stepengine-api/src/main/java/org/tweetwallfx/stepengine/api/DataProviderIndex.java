@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the {@link DataProvider DataProviders} available to a
+ * {@link Step}, mapping every {@link DataProvider} type (including its super
+ * types) to the {@link DataProvider} instance to use for it.
+ */
+final class DataProviderIndex {
+
+    static final DataProviderIndex EMPTY = new DataProviderIndex(Map.of(), List.of());
+    private final Map<Class<?>, DataProvider> providersByType;
+    private final List<DataProvider> providers;
+
+    private DataProviderIndex(final Map<Class<?>, DataProvider> providersByType, final List<DataProvider> providers) {
+        this.providersByType = Map.copyOf(providersByType);
+        this.providers = List.copyOf(providers);
+    }
+
+    /**
+     * Creates the index for the given providers restricted to the ones whose
+     * class is contained in {@code availableClasses}. In case multiple
+     * providers are assignable to a type the first one in {@code providers}
+     * is used for it.
+     *
+     * @param availableClasses the classes of the providers available to a
+     * step
+     *
+     * @param providers all created providers
+     *
+     * @return the created index
+     */
+    static DataProviderIndex create(final Collection<Class<? extends DataProvider>> availableClasses, final List<DataProvider> providers) {
+        final Map<Class<?>, DataProvider> providersByType = new LinkedHashMap<>();
+        final List<DataProvider> availableProviders = providers.stream()
+                .filter(d -> availableClasses.contains(d.getClass()))
+                .toList();
+
+        availableProviders.forEach(d -> registerType(providersByType, d.getClass(), d));
+        return availableProviders.isEmpty()
+                ? EMPTY
+                : new DataProviderIndex(providersByType, availableProviders);
+    }
+
+    private static void registerType(final Map<Class<?>, DataProvider> providersByType, final Class<?> type, final DataProvider dataProvider) {
+        if (null == type || Object.class == type) {
+            return;
+        }
+
+        providersByType.putIfAbsent(type, dataProvider);
+        registerType(providersByType, type.getSuperclass(), dataProvider);
+
+        for (final Class<?> interfaceType : type.getInterfaces()) {
+            registerType(providersByType, interfaceType, dataProvider);
+        }
+    }
+
+    /**
+     * Looks up the provider for the given type.
+     *
+     * @param <T> the type of the provider
+     *
+     * @param klazz the class of the provider
+     *
+     * @return the provider or {@code null} in case none is available
+     */
+    <T extends DataProvider> T get(final Class<T> klazz) {
+        return klazz.cast(providersByType.get(klazz));
+    }
+
+    @Override
+    public String toString() {
+        return providers.toString();
+    }
+}
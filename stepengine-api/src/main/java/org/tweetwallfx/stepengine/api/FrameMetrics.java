@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javafx.animation.AnimationTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.util.LatencyHistogram;
+
+/**
+ * Collects the intervals between the frames (pulses) of the JavaFX
+ * application thread and attributes them to the {@link Step} the
+ * {@link StepEngine} is currently running.
+ *
+ * <p>
+ * Frames rendered before the first step has been started are attributed to
+ * {@link Step Step.class}.
+ */
+public final class FrameMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FrameMetrics.class);
+    private static final int HISTOGRAM_CAPACITY = 4096;
+    private final Map<Class<? extends Step>, FrameTimings> timings = new ConcurrentHashMap<>();
+    private final long targetFrameIntervalNanos;
+    private final QualityGovernor qualityGovernor;
+    private final AnimationTimer sampler = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            recordFrame(now);
+        }
+    };
+    private volatile Class<? extends Step> activeStep = Step.class;
+    // only accessed on the JavaFX application thread
+    private long lastFrameNanos = -1;
+
+    FrameMetrics(final int targetFramesPerSecond, final QualityGovernor qualityGovernor) {
+        this.targetFrameIntervalNanos = Duration.ofSeconds(1).toNanos() / targetFramesPerSecond;
+        this.qualityGovernor = Objects.requireNonNull(qualityGovernor, "qualityGovernor must not be null");
+    }
+
+    /**
+     * Starts sampling the frames. Must be called on the JavaFX application
+     * thread.
+     */
+    void start() {
+        sampler.start();
+    }
+
+    /**
+     * Stops sampling the frames. Must be called on the JavaFX application
+     * thread.
+     */
+    void stop() {
+        sampler.stop();
+        lastFrameNanos = -1;
+    }
+
+    /**
+     * Sets the step to which the upcoming frames are attributed.
+     *
+     * @param stepClass the class of the step currently running
+     */
+    void setActiveStep(final Class<? extends Step> stepClass) {
+        this.activeStep = Objects.requireNonNull(stepClass, "stepClass must not be null");
+    }
+
+    private void recordFrame(final long now) {
+        if (lastFrameNanos >= 0) {
+            final long interval = now - lastFrameNanos;
+            final FrameTimings frameTimings = timings.computeIfAbsent(activeStep, k -> new FrameTimings());
+            frameTimings.frames.increment();
+            frameTimings.frameInterval.record(interval);
+            // number of pulses missed between the two frames (rounded)
+            final long droppedFrames = (interval + targetFrameIntervalNanos / 2) / targetFrameIntervalNanos - 1;
+
+            if (droppedFrames > 0) {
+                frameTimings.droppedFrames.add(droppedFrames);
+            }
+
+            qualityGovernor.recordFrameInterval(interval);
+        }
+
+        lastFrameNanos = now;
+    }
+
+    /**
+     * Retrieves the frame statistics for all {@link Step} classes frames have
+     * been attributed to so far.
+     *
+     * @return the frame statistics for all {@link Step} classes
+     */
+    public Map<Class<? extends Step>, FrameStatistics> getStatistics() {
+        return timings.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().toStatistics(e.getKey())));
+    }
+
+    /**
+     * Retrieves the frame statistics for the given {@link Step} class.
+     *
+     * @param stepClass the class of the step
+     *
+     * @return the frame statistics for the given {@link Step} class or an
+     * empty Optional in case no frame has been attributed to it yet
+     */
+    public Optional<FrameStatistics> getStatistics(final Class<? extends Step> stepClass) {
+        Objects.requireNonNull(stepClass, "stepClass must not be null");
+        return Optional.ofNullable(timings.get(stepClass))
+                .map(ft -> ft.toStatistics(stepClass));
+    }
+
+    /**
+     * Creates a human readable dump of the frame statistics of all
+     * {@link Step} classes ordered by the number of dropped frames.
+     *
+     * @return the dump of the frame statistics
+     */
+    public String dump() {
+        return getStatistics().values().stream()
+                .sorted(Comparator.comparingLong(FrameStatistics::droppedFrames).reversed())
+                .map(FrameStatistics::toString)
+                .collect(Collectors.joining("\n", "Frame statistics:\n", ""));
+    }
+
+    /**
+     * Logs the dump of the frame statistics of all {@link Step} classes.
+     */
+    public void logSummary() {
+        LOG.info("{}", dump());
+    }
+
+    /**
+     * Aggregated frame statistics for a {@link Step} class.
+     *
+     * <p>
+     * Param {@code stepClass} the class of the step
+     *
+     * <p>
+     * Param {@code frames} the number of frames rendered while the step was
+     * running
+     *
+     * <p>
+     * Param {@code droppedFrames} the number of frames missed while the step
+     * was running
+     *
+     * <p>
+     * Param {@code frameInterval} statistics of the intervals between the
+     * frames
+     */
+    public record FrameStatistics(
+            Class<? extends Step> stepClass,
+            long frames,
+            long droppedFrames,
+            LatencyHistogram.Snapshot frameInterval) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: frames=%d, dropped=%d%n    interval: %s",
+                    stepClass.getSimpleName(),
+                    frames,
+                    droppedFrames,
+                    frameInterval);
+        }
+    }
+
+    private static final class FrameTimings {
+
+        private final LongAdder frames = new LongAdder();
+        private final LongAdder droppedFrames = new LongAdder();
+        private final LatencyHistogram frameInterval = new LatencyHistogram(HISTOGRAM_CAPACITY);
+
+        private FrameStatistics toStatistics(final Class<? extends Step> stepClass) {
+            return new FrameStatistics(
+                    stepClass,
+                    frames.sum(),
+                    droppedFrames.sum(),
+                    frameInterval.snapshot());
+        }
+    }
+}
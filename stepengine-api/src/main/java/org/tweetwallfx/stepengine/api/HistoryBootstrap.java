@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.DerivedTweetViews;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Shared bootstrap of the tweet history for all
+ * {@link DataProvider.HistoryAware} instances.
+ *
+ * <p>
+ * The history is fetched page by page on a dedicated thread while the pages
+ * fetched so far are dispatched to all {@link DataProvider.HistoryAware}
+ * instances in parallel. Each {@link DataProvider.HistoryAware} receives the
+ * pages in the order they were fetched on a thread of its own.
+ */
+final class HistoryBootstrap {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("org.tweetwallfx.startup");
+    private final List<DataProvider.HistoryAware> consumers;
+    private final List<ExecutorService> consumerLanes;
+    private final int pageSize;
+    private final CompletableFuture<Void> firstPage = new CompletableFuture<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private HistoryBootstrap(final List<DataProvider.HistoryAware> consumers, final int pageSize) {
+        this.consumers = List.copyOf(consumers);
+        this.pageSize = pageSize;
+        this.consumerLanes = this.consumers.stream()
+                .map(consumer -> Executors.newSingleThreadExecutor(
+                Thread.ofVirtual()
+                        .name("history-" + consumer.getClass().getSimpleName())
+                        .factory()))
+                .toList();
+    }
+
+    /**
+     * Starts the bootstrap of the history produced by {@code historySupplier}
+     * for the given consumers.
+     *
+     * @param historySupplier the supplier of the history tweets
+     *
+     * @param consumers the consumers of the history tweets
+     *
+     * @param pageSize the number of tweets to dispatch at once
+     *
+     * @return the started bootstrap
+     */
+    static HistoryBootstrap start(
+            final Supplier<Stream<Tweet>> historySupplier,
+            final List<DataProvider.HistoryAware> consumers,
+            final int pageSize) {
+        final HistoryBootstrap bootstrap = new HistoryBootstrap(consumers, pageSize);
+
+        if (consumers.isEmpty()) {
+            bootstrap.firstPage.complete(null);
+            bootstrap.completion.complete(null);
+        } else {
+            Thread.ofVirtual()
+                    .name("history-fetch")
+                    .start(() -> bootstrap.fetch(historySupplier));
+        }
+
+        return bootstrap;
+    }
+
+    /**
+     * {@return a future completing once the first page of the history has
+     * been processed by all consumers}.
+     */
+    CompletableFuture<Void> firstPage() {
+        return firstPage;
+    }
+
+    /**
+     * {@return a future completing once the complete history has been
+     * processed by all consumers}.
+     */
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void fetch(final Supplier<Stream<Tweet>> historySupplier) {
+        final long start = System.nanoTime();
+        final List<CompletableFuture<Void>> dispatchedPages = new ArrayList<>();
+        final List<Tweet> page = new ArrayList<>(pageSize);
+
+        try (Stream<Tweet> history = historySupplier.get()) {
+            history.forEach(tweet -> {
+                page.add(tweet);
+
+                if (page.size() == pageSize) {
+                    dispatchedPages.add(dispatch(List.copyOf(page), dispatchedPages.isEmpty(), start));
+                    page.clear();
+                }
+            });
+        } catch (final RuntimeException re) {
+            LOGGER.error("Fetching history failed after {} pages", dispatchedPages.size(), re);
+        } finally {
+            // the last page is incomplete at the end of the history or when fetching it failed
+            if (!page.isEmpty()) {
+                dispatchedPages.add(dispatch(List.copyOf(page), dispatchedPages.isEmpty(), start));
+            }
+
+            // in case of no history at all the first page is considered to be processed
+            if (dispatchedPages.isEmpty()) {
+                firstPage.complete(null);
+            }
+
+            CompletableFuture.allOf(dispatchedPages.toArray(CompletableFuture<?>[]::new))
+                    .whenComplete((v, t) -> {
+                        consumerLanes.forEach(ExecutorService::shutdown);
+                        LOGGER.info("history of {} pages processed by {} in {} ms",
+                                dispatchedPages.size(),
+                                consumers,
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        completion.complete(null);
+                    });
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private CompletableFuture<Void> dispatch(final List<Tweet> page, final boolean isFirstPage, final long start) {
+        final List<CompletableFuture<Void>> dispatches = new ArrayList<>(consumers.size());
+
+        for (int i = 0; i < consumers.size(); i++) {
+            final DataProvider.HistoryAware consumer = consumers.get(i);
+            dispatches.add(CompletableFuture.runAsync(() -> page.forEach(tweet -> processHistoryTweet(consumer, tweet)), consumerLanes.get(i)));
+        }
+
+        final CompletableFuture<Void> dispatched = CompletableFuture.allOf(dispatches.toArray(CompletableFuture<?>[]::new));
+
+        if (isFirstPage) {
+            dispatched.whenComplete((v, t) -> {
+                LOGGER.info("first history page processed in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                firstPage.complete(null);
+            });
+        }
+
+        return dispatched;
+    }
+
+    private static void processHistoryTweet(final DataProvider.HistoryAware consumer, final Tweet tweet) {
+        try {
+            // derive the display texts off the JavaFX application thread
+            DerivedTweetViews.precompute(tweet);
+            consumer.processHistoryTweet(tweet);
+        } catch (final RuntimeException re) {
+            LOGGER.error("Processing history tweet {} failed for {}", tweet.getId(), consumer, re);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+/**
+ * Adapts the {@link RenderQuality} to the load of the JavaFX application
+ * thread.
+ *
+ * <p>
+ * The frame intervals are averaged over windows of a configured number of
+ * frames. The quality is lowered by one level as soon as the average of a
+ * window exceeds the frame budget by the degrade threshold. It is raised by
+ * one level once the averages of a configured number of consecutive windows
+ * stayed below the restore threshold.
+ */
+final class QualityGovernor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QualityGovernor.class);
+    private final StepEngineSettings.QualityGovernorSettings settings;
+    private final long degradeIntervalNanos;
+    private final long restoreIntervalNanos;
+    private volatile RenderQuality quality;
+    // only accessed on the JavaFX application thread
+    private long windowIntervalSum;
+    private int windowFrames;
+    private int windowsWithHeadroom;
+
+    QualityGovernor(final StepEngineSettings.QualityGovernorSettings settings, final int targetFramesPerSecond) {
+        final long targetFrameIntervalNanos = Duration.ofSeconds(1).toNanos() / targetFramesPerSecond;
+        this.settings = settings;
+        this.quality = settings.initialQuality();
+        this.degradeIntervalNanos = (long) (targetFrameIntervalNanos * settings.degradeThreshold());
+        this.restoreIntervalNanos = (long) (targetFrameIntervalNanos * settings.restoreThreshold());
+    }
+
+    /**
+     * {@return the current render quality}.
+     */
+    RenderQuality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Records the interval between two frames.
+     *
+     * @param intervalNanos the interval between two frames in nanoseconds
+     */
+    void recordFrameInterval(final long intervalNanos) {
+        if (!settings.enabled()) {
+            return;
+        }
+
+        windowIntervalSum += intervalNanos;
+
+        if (++windowFrames < settings.windowFrames()) {
+            return;
+        }
+
+        final long averageInterval = windowIntervalSum / windowFrames;
+        windowIntervalSum = 0;
+        windowFrames = 0;
+
+        if (averageInterval > degradeIntervalNanos) {
+            windowsWithHeadroom = 0;
+            changeQuality(quality.lower(), averageInterval);
+        } else if (averageInterval < restoreIntervalNanos) {
+            if (++windowsWithHeadroom >= settings.restoreAfterWindows()) {
+                windowsWithHeadroom = 0;
+                changeQuality(quality.higher(), averageInterval);
+            }
+        } else {
+            windowsWithHeadroom = 0;
+        }
+    }
+
+    private void changeQuality(final RenderQuality newQuality, final long averageInterval) {
+        final RenderQuality limitedQuality = newQuality.compareTo(settings.minimumQuality()) < 0
+                ? settings.minimumQuality()
+                : newQuality;
+
+        if (limitedQuality != quality) {
+            LOG.info("Changing render quality from {} to {} (average frame interval {} us)", quality, limitedQuality, averageInterval / 1000);
+            quality = limitedQuality;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import javafx.scene.CacheHint;
+import javafx.util.Duration;
+
+/**
+ * The quality levels with which {@link Step Steps} are to render their
+ * content.
+ *
+ * <p>
+ * The current level is determined by the {@link StepEngine} based on the
+ * frame times of the JavaFX pulses and is available via
+ * {@link StepEngine.MachineContext#getRenderQuality()}.
+ */
+public enum RenderQuality {
+
+    /**
+     * Cheapest rendering: no blur, no smooth image scaling, cache hints
+     * favoring speed, a third less tiles or columns and transitions taking
+     * half of their time.
+     */
+    LOW(false, false, 2.0 / 3.0, 0.5),
+    /**
+     * Reduced rendering: no blur, cache hints favoring speed and transitions
+     * taking three quarters of their time.
+     */
+    MEDIUM(false, true, 1.0, 0.75),
+    /**
+     * Full quality rendering as configured.
+     */
+    HIGH(true, true, 1.0, 1.0);
+
+    private final boolean blurEnabled;
+    private final boolean smoothScaling;
+    private final double densityFactor;
+    private final double transitionFactor;
+
+    RenderQuality(final boolean blurEnabled, final boolean smoothScaling, final double densityFactor, final double transitionFactor) {
+        this.blurEnabled = blurEnabled;
+        this.smoothScaling = smoothScaling;
+        this.densityFactor = densityFactor;
+        this.transitionFactor = transitionFactor;
+    }
+
+    /**
+     * {@return a flag indicating if blur effects are to be applied}.
+     */
+    public boolean isBlurEnabled() {
+        return blurEnabled;
+    }
+
+    /**
+     * {@return a flag indicating if images are to be scaled smoothly}.
+     */
+    public boolean isSmoothScaling() {
+        return smoothScaling;
+    }
+
+    /**
+     * Determines the cache hint to apply to cached nodes.
+     *
+     * @param preferred the cache hint to apply in case of full quality
+     *
+     * @return the cache hint to apply
+     */
+    public CacheHint cacheHint(final CacheHint preferred) {
+        return this == HIGH ? preferred : CacheHint.SPEED;
+    }
+
+    /**
+     * Scales the given number of tiles, columns or rows according to this
+     * level.
+     *
+     * @param count the number in case of full quality
+     *
+     * @return the scaled number (at least {@code 1})
+     */
+    public int scaleCount(final int count) {
+        return Math.max(1, (int) Math.round(count * densityFactor));
+    }
+
+    /**
+     * Scales the given duration of a transition according to this level.
+     *
+     * @param duration the duration in case of full quality
+     *
+     * @return the scaled duration
+     */
+    public Duration scaleDuration(final Duration duration) {
+        return duration.multiply(transitionFactor);
+    }
+
+    /**
+     * {@return the next lower level or this level in case it is the lowest}.
+     */
+    RenderQuality lower() {
+        return this == LOW ? LOW : values()[ordinal() - 1];
+    }
+
+    /**
+     * {@return the next higher level or this level in case it is the
+     * highest}.
+     */
+    RenderQuality higher() {
+        return this == HIGH ? HIGH : values()[ordinal() + 1];
+    }
+}
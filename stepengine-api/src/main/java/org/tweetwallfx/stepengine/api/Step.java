@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,6 +26,7 @@ package org.tweetwallfx.stepengine.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletionStage;
 import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 
@@ -69,13 +70,75 @@ public interface Step {
         return false;
     }
 
+    /**
+     * Prepares this {@link Step} prior to it being performed via
+     * {@link #doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}.
+     *
+     * <p>
+     * The {@link StepEngine} calls this method on a worker thread while the
+     * preceding {@link Step} is still being displayed. Implementations may use
+     * it to build nodes, decode images or apply CSS ahead of time so that
+     * {@link #doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+     * only has to attach the prepared content. Implementations must not modify
+     * the live scene graph from within this method.
+     *
+     * <p>
+     * This method may be called even if the {@link Step} is subsequently
+     * skipped. A subsequent call replaces any previously prepared content. In
+     * case preparation fails
+     * {@link #doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+     * is called nonetheless and has to create its content itself.
+     *
+     * <p>
+     * By Default this method does nothing.
+     *
+     * @param context the MachineContext
+     */
+    default void prepare(final MachineContext context) {
+        // by default do nothing
+    }
+
     /**
      * Performs this {@link Step}s action.
      *
+     * <p>
+     * Once the {@link Step} has completed it has to call
+     * {@link MachineContext#proceed()}.
+     *
      * @param context the MachineContext
      */
     void doStep(final MachineContext context);
 
+    /**
+     * Performs this {@link Step}s action returning a {@link CompletionStage}
+     * that completes once this {@link Step} has completed.
+     *
+     * <p>
+     * The {@link StepEngine} processes the next {@link Step} once the returned
+     * stage has completed and the
+     * {@link #preferredStepDuration(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+     * has expired. In case the returned stage does not complete within the
+     * timeout configured for this {@link Step} (see
+     * {@link StepEngineSettings.StepDefinition#getTimeoutSeconds()}) the
+     * {@link StepEngine} processes the next {@link Step} nonetheless.
+     *
+     * <p>
+     * By Default this method calls
+     * {@link #doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+     * and returns a stage completing once {@link MachineContext#proceed()} has
+     * been called. {@link Step Steps} overriding this method do not need to
+     * call {@link MachineContext#proceed()}.
+     *
+     * @param context the MachineContext
+     *
+     * @return the stage completing once this {@link Step} has completed
+     */
+    default CompletionStage<Void> doStepAsync(final MachineContext context) {
+        final CompletionStage<Void> proceeded = context.proceeded();
+        doStep(context);
+        return proceeded;
+    }
+
     /**
      * Determines the preffered duration this Step is to run.
      *
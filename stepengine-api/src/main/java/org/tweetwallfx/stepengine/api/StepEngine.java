@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2016-2024 TweetWallFX
+ * Copyright (c) 2016-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,46 +25,66 @@ package org.tweetwallfx.stepengine.api;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Duration;
-import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Phaser;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javafx.application.Platform;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.config.TweetwallSettings;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.DerivedTweetViews;
+import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
 import org.tweetwallfx.tweet.api.TweetStream;
 import org.tweetwallfx.tweet.api.Tweeter;
+import org.tweetwallfx.tweet.journal.TweetJournal;
+import org.tweetwallfx.util.LatencyHistogram;
+import org.tweetwallfx.util.Stopwatch;
 
 public final class StepEngine {
 
+    /**
+     * Name of the system property which, when set to {@code true}, makes the
+     * engine ignore the {@link Step#preferredStepDuration(MachineContext)} of
+     * all steps so that steps are executed back to back.
+     */
+    public static final String IGNORE_PREFERRED_STEP_DURATION_PROPERTY = "org.tweetwallfx.stepengine.ignore-preferred-step-duration";
     private static final Logger LOGGER = LoggerFactory.getLogger("org.tweetwallfx.startup");
     private static final Logger LOG = LoggerFactory.getLogger(StepEngine.class);
     private static final ThreadGroup THREAD_GROUP = new ThreadGroup("StepEngine");
+    private static final ThreadLocal<DataProviderIndex> PREPARATION_DATA_PROVIDER_INDEX = new ThreadLocal<>();
+    private static final int HISTORY_PAGE_SIZE = 100;
+    private static final String VISUAL_LANE = "visual";
     private volatile boolean terminated = false;
-    private final Phaser asyncProceed = new Phaser(2);
-    private final StepIterator stepIterator;
-    private final MachineContext context = new MachineContext();
+    private final MachineContext context = new MachineContext(null);
+    private final List<Lane> lanes;
+    private final Map<String, SyncPoint> syncPoints = new ConcurrentHashMap<>();
     private final ExecutorService engineExecutor = Executors.newSingleThreadExecutor(
             Thread.ofPlatform()
                     .name("engine").group(THREAD_GROUP)
@@ -75,13 +95,51 @@ public final class StepEngine {
                     .name("schedule").group(THREAD_GROUP)
                     .daemon(true)
                     .factory());
+    private final ExecutorService prepareExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform()
+                    .name("prepare").group(THREAD_GROUP)
+                    .daemon(true)
+                    .factory());
+    private final Map<Class<?>, ScheduledExecutorService> isolatedScheduleExecutors = new ConcurrentHashMap<>();
+    private final Map<Step, CompletableFuture<Void>> preparations = new ConcurrentHashMap<>();
+    private final int lookAheadDepth;
+    private final StepEngineSettings.SchedulerSettings schedulerSettings;
+    private final StepMetrics stepMetrics = new StepMetrics();
+    private final StepEngineSettings.FrameMonitorSettings frameMonitorSettings;
+    private final FrameMetrics frameMetrics;
+    private final QualityGovernor qualityGovernor;
+    private final Map<Class<?>, LatencyHistogram> scheduledRunDurations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TweetIngestQueue> ingestQueues = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TweetShaper> tweetShapers = new ConcurrentHashMap<>();
+    private final boolean ignorePreferredStepDuration = Boolean.getBoolean(IGNORE_PREFERRED_STEP_DURATION_PROPERTY);
 
     public StepEngine() {
+        final StepEngineSettings stepEngineSettings = Configuration.getInstance()
+                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class);
         LOGGER.info("create StepIterator");
-        stepIterator = StepIterator.create();
+        final List<Lane> allLanes = new ArrayList<>();
+        allLanes.add(new Lane(VISUAL_LANE, StepIterator.create(stepEngineSettings.steps()), context, engineExecutor, true));
+        stepEngineSettings.lanes().forEach(laneSettings -> allLanes.add(new Lane(
+                laneSettings.name(),
+                StepIterator.create(laneSettings.steps()),
+                new MachineContext(context),
+                Executors.newSingleThreadExecutor(
+                        Thread.ofVirtual()
+                                .name("lane-" + laneSettings.name())
+                                .factory()),
+                false)));
+        lanes = List.copyOf(allLanes);
+        lookAheadDepth = stepEngineSettings.lookAheadDepth();
+        schedulerSettings = stepEngineSettings.scheduler();
+        frameMonitorSettings = stepEngineSettings.frameMonitor();
+        if (stepEngineSettings.qualityGovernor().enabled() && !frameMonitorSettings.enabled()) {
+            throw new IllegalArgumentException("The quality governor requires the frame monitor to be enabled.");
+        }
+        qualityGovernor = new QualityGovernor(stepEngineSettings.qualityGovernor(), frameMonitorSettings.targetFramesPerSecond());
+        frameMetrics = new FrameMetrics(frameMonitorSettings.targetFramesPerSecond(), qualityGovernor);
         initDataProviders();
-        //initialize every step with context
-        stepIterator.applyWith(step -> step.initStep(context));
+        //initialize every step with the context of its lane
+        lanes.forEach(lane -> lane.stepIterator().applyWith(step -> step.initStep(lane.context())));
     }
 
     @SuppressFBWarnings
@@ -89,8 +147,71 @@ public final class StepEngine {
         return context;
     }
 
+    /**
+     * {@return the timing statistics of the steps executed by this engine}.
+     */
+    @SuppressFBWarnings
+    public StepMetrics getStepMetrics() {
+        return stepMetrics;
+    }
+
+    /**
+     * {@return the frame time statistics per step executed by this engine}.
+     */
+    @SuppressFBWarnings
+    public FrameMetrics getFrameMetrics() {
+        return frameMetrics;
+    }
+
+    /**
+     * Retrieves the statistics of the ingest queues of the
+     * {@link DataProvider.NewTweetAware} instances configured with
+     * {@link StepEngineSettings.IngestMode#QUEUED} per class.
+     *
+     * @return the statistics of the ingest queues per class
+     */
+    public Map<Class<?>, TweetIngestQueue.Statistics> getIngestStatistics() {
+        return ingestQueues.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().getStatistics()));
+    }
+
+    /**
+     * Retrieves the statistics of the shapers of the
+     * {@link DataProvider.NewTweetAware} instances configured with an enabled
+     * {@link StepEngineSettings.ShapingSetting} per class.
+     *
+     * @return the statistics of the shapers per class
+     */
+    public Map<Class<?>, TweetShaper.Statistics> getShapingStatistics() {
+        return tweetShapers.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().getStatistics()));
+    }
+
+    /**
+     * Retrieves the statistics of the run durations of the
+     * {@link DataProvider.Scheduled} instances per class.
+     *
+     * @return the statistics of the run durations of the
+     * {@link DataProvider.Scheduled} instances per class
+     */
+    public Map<Class<?>, LatencyHistogram.Snapshot> getScheduledRunDurations() {
+        return scheduledRunDurations.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().snapshot()));
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
     private void initDataProviders() {
-        final Set<Class<? extends DataProvider>> requiredDataProviders = stepIterator.getRequiredDataProviders();
+        final Set<Class<? extends DataProvider>> requiredDataProviders = lanes.stream()
+                .map(Lane::stepIterator)
+                .map(StepIterator::getRequiredDataProviders)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
         LOGGER.info("init DataProviders");
 
         final String searchText = Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query();
@@ -107,77 +228,313 @@ public final class StepEngine {
                         (dps1, dps2) -> {
                             throw new IllegalArgumentException("At most one DataProviderSetting entry may exist for a DataProvider type (uncompliant DataProvider type: '" + dps1.getDataProviderClassName() + "').");
                         }));
-        final List<DataProvider> providers = StreamSupport.stream(ServiceLoader.load(DataProvider.Factory.class).spliterator(), false)
+        final List<DataProvider.Factory> factories = StreamSupport.stream(ServiceLoader.load(DataProvider.Factory.class).spliterator(), false)
                 .filter(factory -> requiredDataProviders.contains(factory.getDataProviderClass()))
-                .map(dpf
-                        -> dpf.create(dataProviderSettings.getOrDefault(
-                        dpf.getDataProviderClass().getName(),
-                        new StepEngineSettings.DataProviderSetting())))
-                .peek(dataProvider -> LOG.info("created {}", dataProvider))
                 .toList();
 
         requiredDataProviders.stream()
-                .filter(rdpc -> providers.stream().noneMatch(rdpc::isInstance))
+                .filter(rdpc -> factories.stream().map(DataProvider.Factory::getDataProviderClass).noneMatch(rdpc::isAssignableFrom))
                 .findAny()
                 .ifPresent(rdpc -> {
                     throw new IllegalStateException("DataProvider '" + rdpc.getCanonicalName() + "' is required but no DataProvider.Factory was found creating it!");
                 });
 
-        final List<DataProvider.NewTweetAware> newTweetAwareProviders = providers.stream()
-                .filter(DataProvider.NewTweetAware.class::isInstance)
-                .map(DataProvider.NewTweetAware.class::cast)
-                .toList();
-        final List<DataProvider.HistoryAware> historyAwareProviders = providers.stream()
-                .filter(DataProvider.HistoryAware.class::isInstance)
-                .map(DataProvider.HistoryAware.class::cast)
+        final long initStart = System.nanoTime();
+        final List<DataProvider> providers;
+
+        try (ExecutorService initExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofPlatform()
+                        .name("init-", 0).group(THREAD_GROUP)
+                        .daemon(true)
+                        .factory())) {
+            // every DataProvider is created independently of the others
+            final List<CompletableFuture<DataProvider>> createdProviders = factories.stream()
+                    .map(dpf -> CompletableFuture.supplyAsync(() -> createDataProvider(dpf, dataProviderSettings), initExecutor))
+                    .toList();
+            final CompletableFuture<List<DataProvider>> allCreated = CompletableFuture
+                    .allOf(createdProviders.toArray(CompletableFuture<?>[]::new))
+                    .thenApply(v -> createdProviders.stream().map(CompletableFuture::join).toList());
+
+            // scheduled DataProviders are started as soon as they are created and signal their readiness
+            final List<CompletableFuture<Void>> scheduledReadiness = createdProviders.stream()
+                    .map(cp -> cp.thenCompose(dataProvider -> dataProvider instanceof DataProvider.Scheduled scheduled
+                    ? initScheduledDataProvider(scheduled)
+                    : CompletableFuture.<Void>completedFuture(null)))
+                    .toList();
+
+            final CompletableFuture<Void> tweetStreamRegistration = allCreated.thenAcceptAsync(
+                    createdList -> initTweetStream(searchText, filterProviders(createdList, DataProvider.NewTweetAware.class), dataProviderSettings),
+                    initExecutor);
+            // history is loaded alongside the initialization of the scheduled DataProviders
+            final CompletableFuture<Void> historyLoad = allCreated.thenCompose(
+                    createdList -> loadHistory(searchText, filterProviders(createdList, DataProvider.HistoryAware.class)));
+
+            final List<CompletableFuture<?>> initStages = new ArrayList<>(scheduledReadiness);
+            initStages.add(tweetStreamRegistration);
+            initStages.add(historyLoad);
+            final CompletableFuture<Void> initialization = CompletableFuture.allOf(initStages.toArray(CompletableFuture<?>[]::new));
+            // fail fast in case any DataProvider could not be created
+            allCreated.whenComplete((createdList, t) -> {
+                if (null != t) {
+                    initialization.completeExceptionally(t);
+                }
+            });
+            awaitInitialization(initialization);
+            providers = allCreated.join();
+        }
+
+        LOGGER.info("initDataProviders done in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStart));
+        lanes.forEach(lane -> lane.stepIterator().indexDataProviders(providers));
+    }
+
+    private static DataProvider createDataProvider(final DataProvider.Factory dpf, final Map<String, StepEngineSettings.DataProviderSetting> dataProviderSettings) {
+        final DataProvider dataProvider = Stopwatch.measure(
+                () -> dpf.create(dataProviderSettings.getOrDefault(
+                        dpf.getDataProviderClass().getName(),
+                        new StepEngineSettings.DataProviderSetting())),
+                duration -> LOGGER.info("created {} in {} ms", dpf.getDataProviderClass().getSimpleName(), duration.toMillis()));
+        LOG.info("created {}", dataProvider);
+        return dataProvider;
+    }
+
+    private static <T> List<T> filterProviders(final List<DataProvider> providers, final Class<T> providerType) {
+        return providers.stream()
+                .filter(providerType::isInstance)
+                .map(providerType::cast)
                 .toList();
-        providers.stream()
-                .filter(DataProvider.Scheduled.class::isInstance)
-                .map(DataProvider.Scheduled.class::cast)
-                .forEach(this::initScheduledDataProvider);
-        // await initialization if necessary
-        providers.stream()
-                .filter(DataProvider.Scheduled.class::isInstance)
-                .map(DataProvider.Scheduled.class::cast)
-                .filter(DataProvider.Scheduled::requiresInitialization)
-                .forEach(this::awaitScheduledDataProviderInitialization);
+    }
 
+    private void initTweetStream(
+            final String searchText,
+            final List<DataProvider.NewTweetAware> newTweetAwareProviders,
+            final Map<String, StepEngineSettings.DataProviderSetting> dataProviderSettings) {
         if (!newTweetAwareProviders.isEmpty()) {
             LOGGER.info("create TweetStream");
             final TweetFilterQuery query = new TweetFilterQuery()
                     .track(Pattern.compile(" [oO][rR] ").splitAsStream(searchText).toArray(n -> new String[n]));
             final TweetStream tweetStream = Tweeter.getInstance().createTweetStream(query);
 
-            newTweetAwareProviders.forEach(ntadp -> tweetStream.onTweet(ntadp::processNewTweet));
+            // derive the display texts once on the thread of the tweet stream (already
+            // done by the stream itself when dispatching to the consumers in isolation)
+            tweetStream.onTweet(DerivedTweetViews::precompute);
+            TweetJournal.getInstance().ifPresent(journal -> tweetStream.onTweet(journal::append));
+            newTweetAwareProviders.forEach(ntadp -> tweetStream.onTweet(createTweetConsumer(
+                    ntadp,
+                    dataProviderSettings.getOrDefault(
+                            ntadp.getClass().getName(),
+                            new StepEngineSettings.DataProviderSetting()))));
+        }
+    }
+
+    private Consumer<Tweet> createTweetConsumer(final DataProvider.NewTweetAware dataProvider, final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+        final StepEngineSettings.IngestSetting ingestSetting = dataProviderSetting.getIngest();
+        final Consumer<Tweet> tweetConsumer = switch (ingestSetting.mode()) {
+            case DIRECT ->
+                dataProvider::processNewTweet;
+            case QUEUED -> {
+                final TweetIngestQueue ingestQueue = new TweetIngestQueue(dataProvider, ingestSetting);
+                LOGGER.info("created {} with {}", ingestQueue, ingestSetting);
+                ingestQueues.put(dataProvider.getClass(), ingestQueue);
+                yield ingestQueue;
+            }
+        };
+
+        final StepEngineSettings.ShapingSetting shapingSetting = dataProviderSetting.getShaping();
+        if (!shapingSetting.enabled()) {
+            return tweetConsumer;
+        }
+
+        // batches are handed over as a whole unless they are queued tweet by tweet
+        final Consumer<List<Tweet>> batchConsumer = StepEngineSettings.IngestMode.DIRECT == ingestSetting.mode()
+                ? dataProvider::processNewTweets
+                : tweets -> tweets.forEach(tweetConsumer);
+        final TweetShaper tweetShaper = new TweetShaper(dataProvider.getClass().getSimpleName(), shapingSetting, batchConsumer);
+        LOGGER.info("created {} with {}", tweetShaper, shapingSetting);
+        tweetShapers.put(dataProvider.getClass(), tweetShaper);
+        return tweetShaper;
+    }
+
+    private static CompletableFuture<Void> loadHistory(final String searchText, final List<DataProvider.HistoryAware> historyAwareProviders) {
+        final HistoryBootstrap historyBootstrap = HistoryBootstrap.start(
+                () -> TweetJournal.getInstance()
+                        .map(journal -> journaledHistory(searchText, journal))
+                        .orElseGet(() -> searchHistory(searchText)),
+                historyAwareProviders,
+                HISTORY_PAGE_SIZE);
+        // the remaining history is processed while the steps are already running
+        return historyBootstrap.firstPage();
+    }
+
+    private static Stream<Tweet> searchHistory(final String searchText) {
+        return searchHistory(new TweetQuery().query(searchText).count(HISTORY_PAGE_SIZE));
+    }
+
+    private static Stream<Tweet> searchHistory(final TweetQuery tweetQuery) {
+        return Tweeter.getInstance().searchPaged(tweetQuery, 20);
+    }
+
+    /**
+     * Creates the history starting with the most recent page of the journaled
+     * tweets of the same query, so that it is available without waiting for
+     * any backend. It is followed by the tweets found more recent than the
+     * journaled ones and the remaining journaled tweets. The tweets found are
+     * journaled as well. In case the query has changed the tweets journaled
+     * for the former query are skipped and the history is searched.
+     *
+     * <p>
+     * The tweets filling the gap are bounded by the creation time of the most
+     * recent journaled tweet rather than by its id, since the ids of tweets
+     * provided by different backends are not comparable. Backends not
+     * supporting {@link TweetQuery#since(String)} are bounded by filtering
+     * the tweets found.
+     *
+     * @param searchText the query of the history
+     *
+     * @param journal the journal of the tweets accepted before
+     *
+     * @return the history
+     */
+    private static Stream<Tweet> journaledHistory(final String searchText, final TweetJournal journal) {
+        if (journal.getQuery().filter(searchText::equals).isEmpty()) {
+            LOGGER.info("query changed from {} to {}, skipping the journaled tweets", journal.getQuery().orElse(null), searchText);
+            journal.recordQuery(searchText);
+        }
+
+        // taken before the search so that the tweets found are not contained
+        final Spliterator<Tweet> journaled = journal.history().limit(20L * HISTORY_PAGE_SIZE).spliterator();
+        final List<Tweet> firstPage = new ArrayList<>(HISTORY_PAGE_SIZE);
+        while (firstPage.size() < HISTORY_PAGE_SIZE && journaled.tryAdvance(firstPage::add)) {
+            // collecting the first page
         }
+        LOGGER.info("history of {} journaled tweets", journal.size());
 
-        if (!historyAwareProviders.isEmpty()) {
-            Tweeter.getInstance()
-                    .searchPaged(new TweetQuery().query(searchText).count(100), 20)
-                    .forEach(tweet -> historyAwareProviders.stream().forEach(hap -> hap.processHistoryTweet(tweet)));
+        final Optional<LocalDateTime> latestCreatedAt = firstPage.stream()
+                .map(Tweet::getCreatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+
+        if (latestCreatedAt.isEmpty()) {
+            return searchHistory(searchText).filter(journal::append);
         }
 
-        LOGGER.info("initDataProviders done");
-        providers.forEach(context::addDataProvider);
+        final Stream<Supplier<Stream<Tweet>>> gap = Stream.of(() -> searchHistory(new TweetQuery()
+                .query(searchText)
+                .since(latestCreatedAt.get().toLocalDate().toString())
+                .count(HISTORY_PAGE_SIZE))
+                .filter(tweet -> null != tweet.getCreatedAt() && !tweet.getCreatedAt().isBefore(latestCreatedAt.get()))
+                .filter(journal::append));
+
+        return Stream.of(
+                firstPage.stream(),
+                // the backends are only searched once the first page has been taken
+                gap.flatMap(Supplier::get),
+                StreamSupport.stream(journaled, false))
+                .flatMap(Function.identity());
     }
 
+    /**
+     * Awaits the completion of the given initialization stage. Failures of the
+     * stage are rethrown unwrapped in case they are unchecked.
+     *
+     * @param initialization the initialization stage to wait for
+     */
+    private static void awaitInitialization(final CompletableFuture<Void> initialization) {
+        try {
+            initialization.join();
+        } catch (final CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            } else if (ce.getCause() instanceof Error e) {
+                throw e;
+            }
+
+            throw ce;
+        }
+    }
+
+    /**
+     * Schedules the given {@link DataProvider.Scheduled} for periodic
+     * execution.
+     *
+     * @param scheduled the scheduled DataProvider
+     *
+     * @return a future completing as soon as the scheduled DataProvider is
+     * ready for being utilized
+     */
     @SuppressWarnings("FutureReturnValueIgnored")
-    private void initScheduledDataProvider(final DataProvider.Scheduled scheduled) {
+    private CompletableFuture<Void> initScheduledDataProvider(final DataProvider.Scheduled scheduled) {
         LOGGER.info("initializing Scheduled: {}", scheduled);
         final DataProvider.ScheduledConfig sc = scheduled.getScheduleConfig();
+        final CompletableFuture<Void> readiness = new CompletableFuture<>();
+        final long scheduleStart = System.nanoTime();
+
+        if (scheduled.requiresInitialization()) {
+            readiness.thenRun(() -> LOGGER.info("Initialization finished for {} in {} ms",
+                    scheduled.getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduleStart)));
+        } else {
+            readiness.complete(null);
+        }
 
         try {
-            final Runnable r = exceptionLoggingRunnable(scheduled);
+            final Runnable loggingRunnable = exceptionLoggingRunnable(scheduled);
+            final LatencyHistogram runDurations = scheduledRunDurations.computeIfAbsent(
+                    scheduled.getClass(),
+                    k -> new LatencyHistogram(256));
+            final Runnable r = () -> {
+                Stopwatch.measure(loggingRunnable, duration -> {
+                    runDurations.record(duration);
+                    LOG.info("executed {} in {} ms", scheduled.getClass().getSimpleName(), duration.toMillis());
+                });
+
+                if (!readiness.isDone() && scheduled.isInitialized()) {
+                    readiness.complete(null);
+                }
+            };
+            final ScheduledExecutorService executor = getScheduleExecutor(scheduled);
+            final long initialDelay = TimeUnit.SECONDS.toMillis(sc.initialDelay()) + startJitterMillis();
+            final long scheduleDuration = TimeUnit.SECONDS.toMillis(sc.scheduleDuration());
 
             if (DataProvider.ScheduleType.FIXED_DELAY == sc.scheduleType()) {
-                scheduleExecutor.scheduleWithFixedDelay(r, sc.initialDelay(), sc.scheduleDuration(), TimeUnit.SECONDS);
+                executor.scheduleWithFixedDelay(r, initialDelay, scheduleDuration, TimeUnit.MILLISECONDS);
             } else {
-                scheduleExecutor.scheduleAtFixedRate(r, sc.initialDelay(), sc.scheduleDuration(), TimeUnit.SECONDS);
+                executor.scheduleAtFixedRate(r, initialDelay, scheduleDuration, TimeUnit.MILLISECONDS);
             }
         } catch (final RuntimeException re) {
             LOGGER.error("failed to initializing Scheduled: {}", scheduled, re);
             throw re;
         }
+
+        return readiness;
+    }
+
+    /**
+     * Determines the executor to schedule the given {@link DataProvider.Scheduled}
+     * with according to the configured {@link StepEngineSettings.SchedulerMode}.
+     *
+     * @param scheduled the scheduled DataProvider
+     *
+     * @return the executor to schedule the given DataProvider with
+     */
+    private ScheduledExecutorService getScheduleExecutor(final DataProvider.Scheduled scheduled) {
+        return switch (schedulerSettings.mode()) {
+            case SHARED ->
+                scheduleExecutor;
+            case ISOLATED ->
+                isolatedScheduleExecutors.computeIfAbsent(
+                scheduled.getClass(),
+                k -> Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofVirtual()
+                                .name("schedule-" + k.getSimpleName())
+                                .factory()));
+        };
+    }
+
+    private long startJitterMillis() {
+        final long maxStartJitterMillis = schedulerSettings.maxStartJitterMillis();
+        return 0 == maxStartJitterMillis
+                ? 0L
+                : ThreadLocalRandom.current().nextLong(maxStartJitterMillis + 1);
     }
 
     /**
@@ -204,33 +561,37 @@ public final class StepEngine {
         };
     }
 
-    private void awaitScheduledDataProviderInitialization(final DataProvider.Scheduled scheduled) {
-        while (!scheduled.isInitialized()) {
-            try {
-                LOG.info("Awaiting initialization for ({} ms) for {}", scheduled.initializationCheckIntervallMS(), scheduled);
-                Thread.sleep(scheduled.initializationCheckIntervallMS());
-            } catch (InterruptedException ex) {
-                LOG.error("Awaiting initialization for {} interrupted!", scheduled, ex);
-                Thread.currentThread().interrupt();
-            }
-        }
-
-        LOG.info("Initialization finished for {}", scheduled);
-    }
-
+    /**
+     * The context of the steps of a lane of the {@link StepEngine}.
+     *
+     * <p>
+     * The contexts of the background lanes inherit the properties of the
+     * context of the visual lane (see {@link StepEngine#getContext()}).
+     * Properties put into the context of a background lane are only visible
+     * within that lane.
+     */
     public final class MachineContext {
 
+        private final MachineContext parent;
         private final Map<String, Object> properties = new ConcurrentHashMap<>();
-        private final ObservableList<DataProvider> dataProviders = FXCollections.<DataProvider>observableArrayList();
-        private final FilteredList<DataProvider> filteredDataProviders = dataProviders.filtered(null);
+        private volatile DataProviderIndex dataProviderIndex = DataProviderIndex.EMPTY;
+        private volatile CompletableFuture<Void> proceedCompletion = new CompletableFuture<>();
+        private volatile SyncPointArrival pendingArrival;
+
+        private MachineContext(final MachineContext parent) {
+            this.parent = parent;
+        }
 
         public Object get(final String key) {
-            return properties.get(key);
+            final Object value = properties.get(key);
+            return null == value && null != parent
+                    ? parent.get(key)
+                    : value;
         }
 
         @SuppressWarnings("unchecked")
         public <T> T get(final String key, final Class<T> clazz) {
-            return (T) properties.get(key);
+            return (T) get(key);
         }
 
         public Object put(final String key, final Object value) {
@@ -242,99 +603,398 @@ public final class StepEngine {
             }
         }
 
+        /**
+         * Retrieves the quality with which {@link Step Steps} are to render
+         * their content. The quality is lowered while the JavaFX pulses exceed
+         * their frame budget and restored once there is headroom again (see
+         * {@link StepEngineSettings.QualityGovernorSettings}).
+         *
+         * @return the current render quality
+         */
+        public RenderQuality getRenderQuality() {
+            return qualityGovernor.getQuality();
+        }
+
+        /**
+         * Signals that the currently running {@link Step} has completed. This
+         * completes the stage returned by {@link #proceeded()}.
+         */
         public void proceed() {
             LOG.info("Proceed called");
-            asyncProceed.arrive();
+            proceedCompletion.complete(null);
         }
 
-        void addDataProvider(final DataProvider dataProvider) {
-            dataProviders.add(Objects.requireNonNull(
-                    dataProvider,
-                    "Parameter dataProvider must not be null!"));
+        /**
+         * {@return a stage completing once {@link #proceed()} has been called
+         * for the currently running {@link Step}}.
+         */
+        public CompletionStage<Void> proceeded() {
+            return proceedCompletion.minimalCompletionStage();
+        }
+
+        private void resetProceed() {
+            proceedCompletion = new CompletableFuture<>();
+        }
+
+        /**
+         * Registers the calling step as party of the synchronization point
+         * with the given name. Steps have to register during
+         * {@link Step#initStep(MachineContext)}.
+         *
+         * @param name the name of the synchronization point
+         */
+        public void registerSyncPoint(final String name) {
+            Objects.requireNonNull(name, "name must not be null");
+            syncPoints.computeIfAbsent(name, SyncPoint::new).register();
+        }
+
+        /**
+         * Arrives at the synchronization point with the given name.
+         *
+         * @param name the name of the synchronization point
+         *
+         * @return a stage completing once all parties registered with the
+         * synchronization point have arrived
+         */
+        public CompletionStage<Void> arriveAtSyncPoint(final String name) {
+            final SyncPoint syncPoint = syncPoints.get(name);
+
+            if (null == syncPoint) {
+                throw new IllegalStateException("SyncPoint '" + name + "' has no registered parties.");
+            }
+
+            LOG.info("Arriving at {}", syncPoint);
+            final CompletableFuture<Void> arrival = syncPoint.arrive();
+            pendingArrival = new SyncPointArrival(syncPoint, arrival);
+            return arrival.minimalCompletionStage();
+        }
+
+        /**
+         * Releases the arrival at a synchronization point of the step that
+         * just finished. The arrival of a step that timed out is withdrawn so
+         * that it does not count towards the next use of the synchronization
+         * point.
+         *
+         * @param timedOut flag indicating that the step timed out
+         */
+        private void releaseArrival(final boolean timedOut) {
+            final SyncPointArrival arrival = pendingArrival;
+            pendingArrival = null;
+
+            if (timedOut && null != arrival && arrival.syncPoint().withdraw(arrival.generation())) {
+                LOG.warn("Withdrew arrival at {} after timeout", arrival.syncPoint());
+            }
         }
 
-        @SuppressWarnings("unchecked")
         public <T extends DataProvider> T getDataProvider(final Class<T> klazz) {
-            return filteredDataProviders
-                    .stream()
-                    .filter(klazz::isInstance)
-                    .map(klazz::cast)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("A DataProvider of type '" + klazz.getName() + "' is currently not available."));
+            final DataProviderIndex preparationIndex = PREPARATION_DATA_PROVIDER_INDEX.get();
+            final T dataProvider = (null == preparationIndex ? dataProviderIndex : preparationIndex).get(klazz);
+
+            if (null == dataProvider) {
+                throw new IllegalStateException("A DataProvider of type '" + klazz.getName() + "' is currently not available.");
+            }
+
+            return dataProvider;
         }
 
-        private void restrictAvailableDataProviders(final Collection<Class<? extends DataProvider>> dataProviderClasses) {
-            LOG.info("restricting available DataProviders to {}", dataProviderClasses);
-            filteredDataProviders.setPredicate(d -> dataProviderClasses.contains(d.getClass()));
-            filteredDataProviders.forEach(dp -> LOG.info("DataProvider available after restriction: {}", dp));
+        private void restrictAvailableDataProviders(final DataProviderIndex dataProviderIndex) {
+            LOG.debug("restricting available DataProviders to {}", dataProviderIndex);
+            this.dataProviderIndex = dataProviderIndex;
+        }
+
+        /**
+         * Prepares the given step with the DataProviders available to it being
+         * restricted to {@code dataProviderIndex} for the calling thread only.
+         *
+         * @param step the step to prepare
+         *
+         * @param dataProviderIndex the DataProviders available to the step
+         */
+        private void prepareStep(final Step step, final DataProviderIndex dataProviderIndex) {
+            PREPARATION_DATA_PROVIDER_INDEX.set(dataProviderIndex);
+
+            try {
+                step.prepare(this);
+            } finally {
+                PREPARATION_DATA_PROVIDER_INDEX.remove();
+            }
         }
     }
 
-    public void go() {
-        engineExecutor.execute(this::process);
+    /**
+     * Retrieves the preparation of the given step. In case the step has not
+     * been prepared ahead of time it is prepared on the calling thread.
+     *
+     * @param lane the lane of the step
+     *
+     * @param step the step about to be executed
+     *
+     * @return the future completing once the step has been prepared
+     */
+    private CompletableFuture<Void> awaitPreparation(final Lane lane, final Step step) {
+        final CompletableFuture<Void> preparation = preparations.remove(step);
+
+        if (null == preparation) {
+            prepareStep(lane, step, lane.stepIterator().getDataProviderIndex(step));
+            return CompletableFuture.completedFuture(null);
+        } else {
+            return preparation;
+        }
     }
 
-    private void process() {
-        while (!terminated) {
-            LOG.info("process to next step ");
+    /**
+     * Prepares the steps following {@code currentStep} on the prepare thread
+     * up to the configured look-ahead depth.
+     *
+     * @param lane the lane of the step
+     *
+     * @param currentStep the step currently being executed
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void prepareUpcomingSteps(final Lane lane, final Step currentStep) {
+        for (int offset = 1; offset <= lookAheadDepth; offset++) {
+            final Step upcomingStep = lane.stepIterator().peek(offset);
+
+            if (upcomingStep != currentStep) {
+                final DataProviderIndex dataProviderIndex = lane.stepIterator().getDataProviderIndex(upcomingStep);
+                preparations.computeIfAbsent(upcomingStep, s -> CompletableFuture.runAsync(
+                        () -> prepareStep(lane, s, dataProviderIndex),
+                        prepareExecutor));
+            }
+        }
+    }
 
-            final long start = System.currentTimeMillis();
+    private static void prepareStep(final Lane lane, final Step step, final DataProviderIndex dataProviderIndex) {
+        try {
+            Stopwatch.measure(
+                    () -> lane.context().prepareStep(step, dataProviderIndex),
+                    duration -> LOG.info("prepared {} in {} ms", step.getClass().getSimpleName(), duration.toMillis()));
+        } catch (RuntimeException | Error e) {
+            LOG.error("StepPreparation has failed {} ", step.getClass().getSimpleName(), e);
+        }
+    }
 
-            Step step = stepIterator.next();
-            context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
-            while (step.shouldSkip(context)) {
-                LOG.info("Skip step: {}", step.getClass().getSimpleName());
-                step = stepIterator.next();
-                context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public void go() {
+        if (frameMonitorSettings.enabled()) {
+            Platform.runLater(frameMetrics::start);
+            final long summaryIntervalSeconds = frameMonitorSettings.summaryIntervalSeconds();
+
+            if (summaryIntervalSeconds > 0) {
+                scheduleExecutor.scheduleAtFixedRate(
+                        exceptionLoggingRunnable(frameMetrics::logSummary),
+                        summaryIntervalSeconds,
+                        summaryIntervalSeconds,
+                        TimeUnit.SECONDS);
             }
-            // found a step not being skipped. so reset the SKIP_TOKEN
-            context.put(Step.SKIP_TOKEN, null);
-            final Step stepToExecute = step;
-            final Duration duration = step.preferredStepDuration(context);
-
-            LOG.info("call {}.doStep()", stepToExecute.getClass().getSimpleName());
-
-            if (stepToExecute.requiresPlatformThread()) {
-                Platform.runLater(() -> {
-                    try {
-                        stepToExecute.doStep(context);
-                    } catch (RuntimeException | Error e) {
-                        LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
-                        // enforce that animation continues
-                        context.proceed();
-                    }
-                });
+        }
+
+        lanes.forEach(lane -> {
+            LOG.info("starting lane {}", lane.name());
+            lane.executor().execute(() -> processNextStep(lane));
+        });
+    }
+
+    /**
+     * Stops the engine. No further steps are started, the scheduled
+     * {@link DataProvider.Scheduled} instances are no longer executed, the
+     * delivery of new tweets to the {@link DataProvider DataProviders} ends and
+     * the frame metrics are no longer sampled.
+     */
+    public void stop() {
+        LOGGER.info("stopping StepEngine");
+        terminated = true;
+        scheduleExecutor.shutdownNow();
+        isolatedScheduleExecutors.values().forEach(ExecutorService::shutdownNow);
+        prepareExecutor.shutdownNow();
+        lanes.forEach(lane -> lane.executor().shutdownNow());
+        ingestQueues.values().forEach(TweetIngestQueue::stop);
+        tweetShapers.values().forEach(TweetShaper::stop);
+
+        if (frameMonitorSettings.enabled()) {
+            if (Platform.isFxApplicationThread()) {
+                frameMetrics.stop();
             } else {
-                try {
-                    stepToExecute.doStep(context);
-                } catch (RuntimeException | Error e) {
-                    LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
-                    // enforce that animation continues
-                    context.proceed();
-                }
+                Platform.runLater(frameMetrics::stop);
             }
+        }
+    }
 
-            final long stop = System.currentTimeMillis();
-            final long doStateDuration = stop - start;
-            final long delay = duration.toMillis() - doStateDuration;
-            if (delay > 0) {
-                try {
-                    LOG.info("sleep({} ms) for step {}", delay, step.getClass().getSimpleName());
-                    Thread.sleep(delay);
-                } catch (InterruptedException ex) {
-                    LOG.error("Sleeping for {} interrupted!", delay, ex);
-                    Thread.currentThread().interrupt();
-                }
-            }
-            LOG.info("waiting (possible) for step to call proceed {}", step.getClass().getSimpleName());
-            try {
-                // wait for proceed being called
-                asyncProceed.awaitAdvanceInterruptibly(asyncProceed.arrive(), 60, TimeUnit.SECONDS);
-            } catch (InterruptedException ex) {
-                LOG.error("Await proceed interrupted", ex);
-            } catch (TimeoutException ex) {
-                LOG.error("Await proceed timed out", ex);
-            }
+    /**
+     * Processes the next step of the given lane not being skipped and chains
+     * the processing of the following step to its completion. None of the
+     * involved threads is blocked while the step is running.
+     *
+     * @param lane the lane to process
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void processNextStep(final Lane lane) {
+        if (terminated) {
+            return;
+        }
+
+        LOG.info("process to next step of lane {}", lane.name());
+        final long start = System.nanoTime();
+        final StepIterator stepIterator = lane.stepIterator();
+        final MachineContext laneContext = lane.context();
+
+        Step step = stepIterator.next();
+        laneContext.restrictAvailableDataProviders(stepIterator.getDataProviderIndex(step));
+        long shouldSkipStart = System.nanoTime();
+        while (step.shouldSkip(laneContext)) {
+            stepMetrics.recordSkip(step.getClass(), Duration.ofNanos(System.nanoTime() - shouldSkipStart));
+            LOG.info("Skip step: {}", step.getClass().getSimpleName());
+            // prepared content of a skipped step is considered stale
+            preparations.remove(step);
+            step = stepIterator.next();
+            laneContext.restrictAvailableDataProviders(stepIterator.getDataProviderIndex(step));
+            shouldSkipStart = System.nanoTime();
+        }
+        final Duration shouldSkipDuration = Duration.ofNanos(System.nanoTime() - shouldSkipStart);
+        // found a step not being skipped. so reset the SKIP_TOKEN
+        laneContext.put(Step.SKIP_TOKEN, null);
+        final Step stepToExecute = step;
+
+        awaitPreparation(lane, stepToExecute)
+                .thenComposeAsync(v -> performStep(lane, stepToExecute, start, shouldSkipDuration), lane.executor())
+                .whenCompleteAsync((v, t) -> {
+                    if (null != t) {
+                        LOG.error("Processing step {} failed", stepToExecute.getClass().getSimpleName(), t);
+                    }
+
+                    processNextStep(lane);
+                }, lane.executor());
+    }
+
+    /**
+     * Performs the given step.
+     *
+     * @param lane the lane of the step
+     *
+     * @param step the step to perform
+     *
+     * @param start the point in time (in nanoseconds) the processing of the
+     * step has started
+     *
+     * @param shouldSkipDuration the time spent determining that the step is
+     * not to be skipped
+     *
+     * @return the future completing once the step has completed, its preferred
+     * duration has expired or its timeout has been reached
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private CompletableFuture<Void> performStep(final Lane lane, final Step step, final long start, final Duration shouldSkipDuration) {
+        prepareUpcomingSteps(lane, step);
+        final MachineContext laneContext = lane.context();
+        final Duration duration = ignorePreferredStepDuration
+                ? Duration.ZERO
+                : step.preferredStepDuration(laneContext);
+        final Duration timeout = lane.stepIterator().getTimeout(step);
+
+        LOG.info("call {}.doStep()", step.getClass().getSimpleName());
+        final CompletableFuture<Duration> doStepDuration = new CompletableFuture<>();
+        final CompletableFuture<Long> stepCompletion = new CompletableFuture<>();
+        final long doStepStart = System.nanoTime();
+        laneContext.resetProceed();
+
+        if (step.requiresPlatformThread()) {
+            Platform.runLater(() -> executeStep(lane, step, doStepDuration, stepCompletion));
+        } else {
+            executeStep(lane, step, doStepDuration, stepCompletion);
         }
+
+        final long delay = duration.toNanos() - (System.nanoTime() - start);
+        final CompletableFuture<Void> preferredDuration = delay > 0
+                ? CompletableFuture.runAsync(
+                        () -> LOG.info("preferred duration of step {} expired", step.getClass().getSimpleName()),
+                        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, lane.executor()))
+                : CompletableFuture.completedFuture(null);
+
+        LOG.info("waiting (possible) for step to complete {}", step.getClass().getSimpleName());
+        return preferredDuration
+                // the timeout starts once the preferred duration has expired
+                .thenCompose(v -> stepCompletion.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                .handle((completionNanos, t) -> {
+                    final boolean timedOut = null != t;
+
+                    if (timedOut) {
+                        LOG.error("Step {} did not complete within {}", step.getClass().getSimpleName(), timeout, t);
+                    }
+
+                    laneContext.releaseArrival(timedOut);
+                    final Duration completionLatency = Duration.ofNanos((timedOut ? System.nanoTime() : completionNanos) - doStepStart);
+                    doStepDuration.thenAccept(dsd -> stepMetrics.record(new StepMetrics.StepSample(
+                            step.getClass(),
+                            shouldSkipDuration,
+                            dsd,
+                            completionLatency,
+                            timedOut)));
+                    return null;
+                });
+    }
+
+    private void executeStep(final Lane lane, final Step step, final CompletableFuture<Duration> doStepDuration, final CompletableFuture<Long> stepCompletion) {
+        if (lane.visual()) {
+            frameMetrics.setActiveStep(step.getClass());
+        }
+
+        final long doStepStart = System.nanoTime();
+
+        try {
+            Stopwatch.measure(() -> step.doStepAsync(lane.context()), doStepDuration::complete)
+                    .whenComplete((v, t) -> {
+                        if (null != t) {
+                            LOG.error("Step {} completed exceptionally", step.getClass().getSimpleName(), t);
+                        }
+
+                        stepCompletion.complete(System.nanoTime());
+                    });
+        } catch (RuntimeException | Error e) {
+            LOG.error("StepExecution has terminal failure {} ", step.getClass().getSimpleName(), e);
+            // the failed step is recorded in the metrics regardless of how Stopwatch reports durations
+            doStepDuration.complete(Duration.ofNanos(System.nanoTime() - doStepStart));
+            // enforce that animation continues
+            stepCompletion.complete(System.nanoTime());
+        }
+    }
+
+    /**
+     * A lane of the {@link StepEngine} processing its own sequence of steps.
+     *
+     * <p>
+     * Param {@code name} the name of the lane
+     *
+     * <p>
+     * Param {@code stepIterator} the steps of the lane
+     *
+     * <p>
+     * Param {@code context} the context of the steps of the lane
+     *
+     * <p>
+     * Param {@code executor} the executor processing the steps of the lane
+     *
+     * <p>
+     * Param {@code visual} flag indicating the visual lane
+     */
+    private record Lane(
+            String name,
+            StepIterator stepIterator,
+            MachineContext context,
+            ExecutorService executor,
+            boolean visual) {
+    }
+
+    /**
+     * The arrival of a step at a {@link SyncPoint}.
+     *
+     * <p>
+     * Param {@code syncPoint} the synchronization point arrived at
+     *
+     * <p>
+     * Param {@code generation} the stage returned upon arrival
+     */
+    private record SyncPointArrival(
+            SyncPoint syncPoint,
+            CompletableFuture<Void> generation) {
     }
 }
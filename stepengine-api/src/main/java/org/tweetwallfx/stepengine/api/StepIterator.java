@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2025 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.stepengine.api;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,19 +39,25 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 
 final class StepIterator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StepIterator.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60);
     private int stepIndex = 0;
     private final List<Step> steps;
     private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders;
+    private final Map<Step, Duration> timeouts;
+    private volatile Map<Step, DataProviderIndex> dataProviderIndexes = Map.of();
 
-    private StepIterator(final List<Step> steps, final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders) {
+    private StepIterator(
+            final List<Step> steps,
+            final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders,
+            final Map<Step, Duration> timeouts) {
         this.steps = new ArrayList<>(steps);
         this.requiredDataProviders = Collections.unmodifiableMap(requiredDataProviders);
+        this.timeouts = Collections.unmodifiableMap(timeouts);
 
         if (steps.isEmpty()) {
             throw new IllegalArgumentException("StepIterator has no steps to iterate through!");
@@ -61,14 +68,52 @@ final class StepIterator {
         return requiredDataProviders.getOrDefault(step, Collections.emptyList());
     }
 
-    static StepIterator create() {
-        final Builder builder = new Builder();
+    /**
+     * Retrieves the timeout after which the {@link StepEngine} stops waiting
+     * for the given step to complete.
+     *
+     * @param step the step
+     *
+     * @return the timeout of the step
+     */
+    Duration getTimeout(final Step step) {
+        return timeouts.getOrDefault(step, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Retrieves the index of the {@link DataProvider DataProviders} available
+     * to the given step as created via {@link #indexDataProviders(List)}.
+     *
+     * @param step the step
+     *
+     * @return the index of the {@link DataProvider DataProviders} available to
+     * the given step
+     */
+    DataProviderIndex getDataProviderIndex(final Step step) {
+        return dataProviderIndexes.getOrDefault(step, DataProviderIndex.EMPTY);
+    }
 
-        Configuration.getInstance()
-                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class)
-                .steps()
-                .forEach(builder::addStep);
+    /**
+     * Creates the indexes of the {@link DataProvider DataProviders} available
+     * to each of the steps based on their required DataProviders.
+     *
+     * @param providers all created {@link DataProvider DataProviders}
+     */
+    void indexDataProviders(final List<DataProvider> providers) {
+        final Map<Step, DataProviderIndex> indexes = new HashMap<>();
+
+        steps.forEach(step -> {
+            final DataProviderIndex index = DataProviderIndex.create(getRequiredDataProviders(step), providers);
+            LOGGER.info("DataProviders available to {}: {}", step, index);
+            indexes.put(step, index);
+        });
+
+        dataProviderIndexes = Map.copyOf(indexes);
+    }
 
+    static StepIterator create(final List<StepEngineSettings.StepDefinition> stepDefinitions) {
+        final Builder builder = new Builder();
+        stepDefinitions.forEach(builder::addStep);
         return builder.build();
     }
 
@@ -91,6 +136,22 @@ final class StepIterator {
         return steps.get(stepIndex++);
     }
 
+    /**
+     * Looks ahead at the upcoming steps without advancing this iterator.
+     *
+     * @param offset the number of steps to look ahead ({@code 1} being the
+     * step returned by the next call of {@link #next()})
+     *
+     * @return the step at the given offset
+     */
+    Step peek(final int offset) {
+        if (offset < 1) {
+            throw new IllegalArgumentException("offset must be a positive number");
+        }
+
+        return steps.get((stepIndex + offset - 1) % steps.size());
+    }
+
     @SuppressWarnings("CanIgnoreReturnValueSuggester")
     private static class Builder {
 
@@ -102,6 +163,7 @@ final class StepIterator {
                         Function.identity()));
         private final List<Step> steps = new ArrayList<>();
         private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders = new HashMap<>();
+        private final Map<Step, Duration> timeouts = new HashMap<>();
 
         private Builder addStep(final StepEngineSettings.StepDefinition stepDefinition) {
             final String stepClassName = stepDefinition.getStepClassName();
@@ -115,11 +177,15 @@ final class StepIterator {
             LOGGER.info("Step.Factory '{}' created '{}'", factory, step);
             steps.add(step);
 
+            if (null != stepDefinition.getTimeoutSeconds()) {
+                timeouts.put(step, Duration.ofSeconds(stepDefinition.getTimeoutSeconds()));
+            }
+
             return this;
         }
 
         private StepIterator build() {
-            return new StepIterator(steps, requiredDataProviders);
+            return new StepIterator(steps, requiredDataProviders, timeouts);
         }
     }
 }
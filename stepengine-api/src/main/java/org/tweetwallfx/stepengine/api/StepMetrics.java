@@ -0,0 +1,239 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.util.LatencyHistogram;
+
+/**
+ * Collects timing information about the {@link Step Steps} executed by the
+ * {@link StepEngine} and aggregates them per {@link Step} class.
+ */
+public final class StepMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StepMetrics.class);
+    private static final int HISTOGRAM_CAPACITY = 1024;
+    private final Map<Class<? extends Step>, StepTimings> timings = new ConcurrentHashMap<>();
+
+    StepMetrics() {
+        // only instantiated by the StepEngine
+    }
+
+    /**
+     * Records the duration of a {@link Step#shouldSkip(StepEngine.MachineContext)}
+     * call resulting in the step being skipped.
+     *
+     * @param stepClass the class of the skipped step
+     *
+     * @param shouldSkipDuration the duration of the shouldSkip call
+     */
+    void recordSkip(final Class<? extends Step> stepClass, final Duration shouldSkipDuration) {
+        final StepTimings stepTimings = getTimings(stepClass);
+        stepTimings.skips.increment();
+        stepTimings.shouldSkip.record(shouldSkipDuration);
+    }
+
+    /**
+     * Records the sample of a completed step execution.
+     *
+     * @param sample the sample to record
+     */
+    void record(final StepSample sample) {
+        LOG.debug("Recording {}", sample);
+        final StepTimings stepTimings = getTimings(sample.stepClass());
+        stepTimings.shouldSkip.record(sample.shouldSkipDuration());
+        stepTimings.doStep.record(sample.doStepDuration());
+        stepTimings.proceed.record(sample.proceedLatency());
+        stepTimings.executions.increment();
+
+        if (sample.proceedTimedOut()) {
+            stepTimings.timeouts.increment();
+        }
+    }
+
+    private StepTimings getTimings(final Class<? extends Step> stepClass) {
+        return timings.computeIfAbsent(stepClass, k -> new StepTimings());
+    }
+
+    /**
+     * Retrieves the statistics for all {@link Step} classes executed so far.
+     *
+     * @return the statistics for all {@link Step} classes executed so far
+     */
+    public Map<Class<? extends Step>, StepStatistics> getStatistics() {
+        return timings.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        e -> e.getValue().toStatistics(e.getKey())));
+    }
+
+    /**
+     * Retrieves the statistics for the given {@link Step} class.
+     *
+     * @param stepClass the class of the step
+     *
+     * @return the statistics for the given {@link Step} class or an empty
+     * Optional in case no step of that class has been processed yet
+     */
+    public Optional<StepStatistics> getStatistics(final Class<? extends Step> stepClass) {
+        Objects.requireNonNull(stepClass, "stepClass must not be null");
+        return Optional.ofNullable(timings.get(stepClass))
+                .map(st -> st.toStatistics(stepClass));
+    }
+
+    /**
+     * Creates a human readable dump of the statistics of all {@link Step}
+     * classes ordered by the 99th percentile of their proceed latency.
+     *
+     * @return the dump of the statistics
+     */
+    public String dump() {
+        return getStatistics().values().stream()
+                .sorted(Comparator.comparing((StepStatistics ss) -> ss.proceedLatency().p99()).reversed())
+                .map(StepStatistics::toString)
+                .collect(Collectors.joining("\n", "Step statistics:\n", ""));
+    }
+
+    /**
+     * Logs the dump of the statistics of all {@link Step} classes.
+     */
+    public void logSummary() {
+        LOG.info("{}", dump());
+    }
+
+    /**
+     * Timings of a single {@link Step} execution.
+     *
+     * <p>
+     * Param {@code stepClass} the class of the executed step
+     *
+     * <p>
+     * Param {@code shouldSkipDuration} the time spent in
+     * {@link Step#shouldSkip(StepEngine.MachineContext)}
+     *
+     * <p>
+     * Param {@code doStepDuration} the wall time spent in
+     * {@link Step#doStep(StepEngine.MachineContext)}
+     *
+     * <p>
+     * Param {@code proceedLatency} the time from the start of
+     * {@link Step#doStepAsync(StepEngine.MachineContext)} until the step has
+     * completed (or the engine stopped waiting for it)
+     *
+     * <p>
+     * Param {@code proceedTimedOut} flag indicating that the engine stopped
+     * waiting for the step to complete as it timed out
+     */
+    public record StepSample(
+            Class<? extends Step> stepClass,
+            Duration shouldSkipDuration,
+            Duration doStepDuration,
+            Duration proceedLatency,
+            boolean proceedTimedOut) {
+
+        public StepSample {
+            Objects.requireNonNull(stepClass, "stepClass must not be null");
+            Objects.requireNonNull(shouldSkipDuration, "shouldSkipDuration must not be null");
+            Objects.requireNonNull(doStepDuration, "doStepDuration must not be null");
+            Objects.requireNonNull(proceedLatency, "proceedLatency must not be null");
+        }
+    }
+
+    /**
+     * Aggregated statistics for a {@link Step} class.
+     *
+     * <p>
+     * Param {@code stepClass} the class of the step
+     *
+     * <p>
+     * Param {@code executions} the number of executions
+     *
+     * <p>
+     * Param {@code skips} the number of times the step has been skipped
+     *
+     * <p>
+     * Param {@code timeouts} the number of executions for which waiting for
+     * the step to complete timed out
+     *
+     * <p>
+     * Param {@code shouldSkip} statistics of the shouldSkip durations
+     *
+     * <p>
+     * Param {@code doStep} statistics of the doStep durations
+     *
+     * <p>
+     * Param {@code proceedLatency} statistics of the proceed latencies
+     */
+    public record StepStatistics(
+            Class<? extends Step> stepClass,
+            long executions,
+            long skips,
+            long timeouts,
+            LatencyHistogram.Snapshot shouldSkip,
+            LatencyHistogram.Snapshot doStep,
+            LatencyHistogram.Snapshot proceedLatency) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: executions=%d, skips=%d, timeouts=%d%n    shouldSkip: %s%n    doStep:     %s%n    proceed:    %s",
+                    stepClass.getSimpleName(),
+                    executions,
+                    skips,
+                    timeouts,
+                    shouldSkip,
+                    doStep,
+                    proceedLatency);
+        }
+    }
+
+    private static final class StepTimings {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder skips = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LatencyHistogram shouldSkip = new LatencyHistogram(HISTOGRAM_CAPACITY);
+        private final LatencyHistogram doStep = new LatencyHistogram(HISTOGRAM_CAPACITY);
+        private final LatencyHistogram proceed = new LatencyHistogram(HISTOGRAM_CAPACITY);
+
+        private StepStatistics toStatistics(final Class<? extends Step> stepClass) {
+            return new StepStatistics(
+                    stepClass,
+                    executions.sum(),
+                    skips.sum(),
+                    timeouts.sum(),
+                    shouldSkip.snapshot(),
+                    doStep.snapshot(),
+                    proceed.snapshot());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A named synchronization point between the lanes of a {@link StepEngine}.
+ *
+ * <p>
+ * Every step taking part in the synchronization point registers itself once.
+ * The stage returned upon arrival completes once all registered parties have
+ * arrived, after which the synchronization point is reset for its next use.
+ * A party giving up on waiting withdraws its arrival.
+ */
+final class SyncPoint {
+
+    private final String name;
+    private int parties;
+    private int arrived;
+    private CompletableFuture<Void> generation = new CompletableFuture<>();
+
+    SyncPoint(final String name) {
+        this.name = name;
+    }
+
+    synchronized void register() {
+        parties++;
+    }
+
+    CompletableFuture<Void> arrive() {
+        final CompletableFuture<Void> current;
+        final boolean complete;
+
+        synchronized (this) {
+            current = generation;
+            complete = ++arrived >= parties;
+
+            if (complete) {
+                arrived = 0;
+                generation = new CompletableFuture<>();
+            }
+        }
+
+        if (complete) {
+            current.complete(null);
+        }
+
+        return current;
+    }
+
+    /**
+     * Withdraws the given arrival in case the generation it arrived at is
+     * still pending, so that it does not count towards a later use of the
+     * synchronization point.
+     *
+     * @param arrival the stage returned by {@link #arrive()}
+     *
+     * @return {@code true} if the arrival has been withdrawn or
+     * {@code false} in case its generation has already completed
+     */
+    synchronized boolean withdraw(final CompletableFuture<Void> arrival) {
+        if (arrival != generation || arrival.isDone() || 0 == arrived) {
+            return false;
+        }
+
+        arrived--;
+        return true;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SyncPoint[name=" + name + ", parties=" + parties + ", arrived=" + arrived + "]";
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Bounded queue decoupling the delivery of new tweets from their processing
+ * by a {@link DataProvider.NewTweetAware}. Tweets are processed by a virtual
+ * thread dedicated to the {@link DataProvider} so a slow
+ * {@link DataProvider} does not delay the tweet stream delivering them.
+ */
+public final class TweetIngestQueue implements Consumer<Tweet> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TweetIngestQueue.class);
+    private final DataProvider.NewTweetAware dataProvider;
+    private final StepEngineSettings.IngestSetting ingestSetting;
+    private final BlockingQueue<Tweet> queue;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong overflows = new AtomicLong();
+    private final Thread worker;
+
+    TweetIngestQueue(final DataProvider.NewTweetAware dataProvider, final StepEngineSettings.IngestSetting ingestSetting) {
+        this.dataProvider = Objects.requireNonNull(dataProvider, "dataProvider must not be null");
+        this.ingestSetting = Objects.requireNonNull(ingestSetting, "ingestSetting must not be null");
+        this.queue = new ArrayBlockingQueue<>(ingestSetting.capacity());
+
+        this.worker = Thread.ofVirtual()
+                .name("ingest-" + dataProvider.getClass().getSimpleName())
+                .start(this::process);
+    }
+
+    /**
+     * Stops the worker processing the queued tweets. Tweets still queued are
+     * not handed to the {@link DataProvider} anymore.
+     */
+    void stop() {
+        worker.interrupt();
+    }
+
+    @Override
+    public void accept(final Tweet tweet) {
+        received.increment();
+
+        if (!queue.offer(tweet)) {
+            handleOverflow(tweet);
+        }
+    }
+
+    private void handleOverflow(final Tweet tweet) {
+        switch (ingestSetting.overflowPolicy()) {
+            case DROP_OLDEST ->
+                replaceOldest(tweet);
+            case BLOCK ->
+                offerBlocking(tweet);
+            case SAMPLE -> {
+                if (0 == overflows.incrementAndGet() % ingestSetting.sampleRate()) {
+                    replaceOldest(tweet);
+                } else {
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    private void replaceOldest(final Tweet tweet) {
+        while (!queue.offer(tweet)) {
+            if (null != queue.poll()) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void offerBlocking(final Tweet tweet) {
+        try {
+            if (!queue.offer(tweet, ingestSetting.blockTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+            }
+        } catch (final InterruptedException ie) {
+            LOG.warn("Interrupted while waiting to enqueue tweet {} for {}", tweet.getId(), dataProvider, ie);
+            dropped.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                final Tweet tweet = queue.take();
+                dataProvider.processNewTweet(tweet);
+                processed.increment();
+            } catch (final InterruptedException ie) {
+                LOG.debug("Ingest worker for {} stopped", dataProvider);
+                Thread.currentThread().interrupt();
+            } catch (final RuntimeException re) {
+                LOG.error("Processing of new tweet failed for {}", dataProvider, re);
+            }
+        }
+    }
+
+    /**
+     * {@return the current statistics of this queue}.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(
+                queue.size(),
+                ingestSetting.capacity(),
+                received.sum(),
+                processed.sum(),
+                dropped.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "TweetIngestQueue{" + dataProvider.getClass().getSimpleName() + ", " + getStatistics() + "}";
+    }
+
+    /**
+     * Statistics of a {@link TweetIngestQueue}.
+     *
+     * <p>
+     * Param {@code depth} the number of tweets currently queued
+     *
+     * <p>
+     * Param {@code capacity} the capacity of the queue
+     *
+     * <p>
+     * Param {@code received} the number of tweets received
+     *
+     * <p>
+     * Param {@code processed} the number of tweets processed by the
+     * {@link DataProvider}
+     *
+     * <p>
+     * Param {@code dropped} the number of tweets dropped due to the queue
+     * being full
+     */
+    public record Statistics(
+            int depth,
+            int capacity,
+            long received,
+            long processed,
+            long dropped) {
+    }
+}
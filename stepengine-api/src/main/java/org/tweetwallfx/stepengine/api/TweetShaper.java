@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+
+/**
+ * Shapes bursts of new tweets before they are delivered to a
+ * {@link DataProvider.NewTweetAware}. Tweets are admitted at the configured
+ * rate (token bucket). With a batching window configured the tweets arriving
+ * within a window are collected, ranked by the configured priority and the
+ * best ranked ones admitted are delivered as one batch by a virtual thread
+ * dedicated to the {@link DataProvider}. All other tweets are shed.
+ */
+public final class TweetShaper implements Consumer<Tweet> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TweetShaper.class);
+    private static final Comparator<Candidate> RECENCY = Comparator
+            .comparing((Candidate candidate) -> candidate.tweet().getCreatedAt(),
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(Candidate::sequence);
+    private final String name;
+    private final StepEngineSettings.ShapingSetting shapingSetting;
+    private final Consumer<List<Tweet>> delivery;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final Thread worker;
+    // weakest candidate first so it is the one shed once the window is full
+    private PriorityQueue<Candidate> window;
+    private long sequence;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TweetShaper(final String name, final StepEngineSettings.ShapingSetting shapingSetting, final Consumer<List<Tweet>> delivery) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.shapingSetting = Objects.requireNonNull(shapingSetting, "shapingSetting must not be null");
+        this.delivery = Objects.requireNonNull(delivery, "delivery must not be null");
+        this.window = newWindow();
+        this.tokens = shapingSetting.burstSize();
+        this.lastRefillNanos = System.nanoTime();
+
+        this.worker = shapingSetting.windowMillis() > 0
+                ? Thread.ofVirtual()
+                        .name("shaper-" + name)
+                        .start(this::process)
+                : null;
+    }
+
+    /**
+     * Stops the periodic delivery of the window. Tweets still held in the
+     * window are not delivered anymore.
+     */
+    void stop() {
+        if (null != worker) {
+            worker.interrupt();
+        }
+    }
+
+    private PriorityQueue<Candidate> newWindow() {
+        return new PriorityQueue<>(switch (shapingSetting.priority()) {
+            case RECENCY ->
+                RECENCY;
+            case MEDIA ->
+                Comparator.comparing((Candidate candidate) -> !candidate.tweet().getMediaEntries().isEmpty())
+                        .thenComparing(RECENCY);
+            case FOLLOWERS ->
+                Comparator.comparingInt((Candidate candidate) -> followersCount(candidate.tweet()))
+                        .thenComparing(RECENCY);
+        });
+    }
+
+    private static int followersCount(final Tweet tweet) {
+        final User user = tweet.getUser();
+        return null == user ? 0 : user.getFollowersCount();
+    }
+
+    @Override
+    public void accept(final Tweet tweet) {
+        received.increment();
+
+        if (0 == shapingSetting.windowMillis()) {
+            if (tryAcquire()) {
+                admitted.increment();
+                delivery.accept(List.of(tweet));
+            } else {
+                shed.increment();
+            }
+            return;
+        }
+
+        synchronized (this) {
+            window.add(new Candidate(tweet, sequence++));
+
+            if (null != shapingSetting.maxPerWindow() && window.size() > shapingSetting.maxPerWindow()) {
+                window.poll();
+                shed.increment();
+            }
+        }
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (null == shapingSetting.ratePerSecond()) {
+            return true;
+        }
+
+        final long now = System.nanoTime();
+        tokens = Math.min(
+                shapingSetting.burstSize(),
+                tokens + (now - lastRefillNanos) * shapingSetting.ratePerSecond() / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+
+        if (tokens < 1) {
+            return false;
+        }
+
+        tokens--;
+        return true;
+    }
+
+    private void process() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(shapingSetting.windowMillis());
+                flush();
+            } catch (final InterruptedException ie) {
+                LOG.debug("Shaper for {} stopped", name);
+                Thread.currentThread().interrupt();
+            } catch (final RuntimeException re) {
+                LOG.error("Delivery of shaped tweets failed for {}", name, re);
+            }
+        }
+    }
+
+    /**
+     * Delivers the best ranked tweets of the current window admitted by the
+     * token bucket and sheds the others.
+     */
+    void flush() {
+        final PriorityQueue<Candidate> candidates;
+
+        synchronized (this) {
+            if (window.isEmpty()) {
+                return;
+            }
+
+            candidates = window;
+            window = newWindow();
+        }
+
+        final List<Candidate> ranked = new ArrayList<>(candidates);
+        ranked.sort(candidates.comparator().reversed());
+
+        int count = 0;
+        while (count < ranked.size() && tryAcquire()) {
+            count++;
+        }
+
+        shed.add(ranked.size() - count);
+
+        if (count > 0) {
+            final List<Candidate> kept = new ArrayList<>(ranked.subList(0, count));
+            kept.sort(Comparator.comparingLong(Candidate::sequence));
+            admitted.add(count);
+            batches.increment();
+            delivery.accept(kept.stream().map(Candidate::tweet).toList());
+        }
+    }
+
+    /**
+     * {@return the current statistics of this shaper}.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(
+                received.sum(),
+                admitted.sum(),
+                shed.sum(),
+                batches.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "TweetShaper{" + name + ", " + getStatistics() + "}";
+    }
+
+    private record Candidate(Tweet tweet, long sequence) {
+    }
+
+    /**
+     * Statistics of a {@link TweetShaper}.
+     *
+     * <p>
+     * Param {@code received} the number of tweets received
+     *
+     * <p>
+     * Param {@code admitted} the number of tweets delivered to the
+     * {@link DataProvider}
+     *
+     * <p>
+     * Param {@code shed} the number of tweets shed due to the rate limit or
+     * the limit of tweets per window
+     *
+     * <p>
+     * Param {@code batches} the number of batches delivered
+     */
+    public record Statistics(
+            long received,
+            long admitted,
+            long shed,
+            long batches) {
+    }
+}
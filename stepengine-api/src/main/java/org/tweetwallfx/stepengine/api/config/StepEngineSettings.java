@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2017-2025 TweetWallFX
+ * Copyright (c) 2017-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -30,6 +30,7 @@ import java.util.Objects;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.config.ConfigurationConverter;
 import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.RenderQuality;
 import org.tweetwallfx.stepengine.api.Step;
 import org.tweetwallfx.stepengine.api.StepEngine;
 import org.tweetwallfx.stepengine.api.Visualization;
@@ -53,11 +54,38 @@ import static org.tweetwallfx.util.ToString.map;
  * <p>
  * Param {@code visualizationSettings} list of settings for
  * {@link Visualization} instances
+ *
+ * <p>
+ * Param {@code lookAheadDepth} the number of upcoming {@link Step Steps} to
+ * prepare (via {@link Step#prepare(StepEngine.MachineContext)}) while the
+ * current step is being performed. Defaults to {@code 1}.
+ *
+ * <p>
+ * Param {@code scheduler} the settings for scheduling the
+ * {@link DataProvider.Scheduled} instances
+ *
+ * <p>
+ * Param {@code frameMonitor} the settings for monitoring the frame times of
+ * the JavaFX pulses
+ *
+ * <p>
+ * Param {@code lanes} list of background lanes each processing its own
+ * sequence of steps concurrently to the visual lane made up of
+ * {@code steps}. Defaults to no background lanes.
+ *
+ * <p>
+ * Param {@code qualityGovernor} the settings for adapting the render quality
+ * of the steps to the frame times of the JavaFX pulses
  */
 public record StepEngineSettings(
         List<StepDefinition> steps,
         List<DataProviderSetting> dataProviderSettings,
-        Map<String, VisualizationSetting> visualizationSettings) {
+        Map<String, VisualizationSetting> visualizationSettings,
+        Integer lookAheadDepth,
+        SchedulerSettings scheduler,
+        FrameMonitorSettings frameMonitor,
+        List<LaneSettings> lanes,
+        QualityGovernorSettings qualityGovernor) {
 
     /**
      * Configuration key under which the data for this Settings object is stored
@@ -69,6 +97,17 @@ public record StepEngineSettings(
         steps = List.copyOf(Objects.requireNonNull(steps, "steps must not be null"));
         dataProviderSettings = nullable(dataProviderSettings);
         visualizationSettings = nullable(visualizationSettings);
+        lookAheadDepth = Objects.requireNonNullElse(lookAheadDepth, 1);
+        if (lookAheadDepth < 0) {
+            throw new IllegalArgumentException("property 'lookAheadDepth' must not be a negative number");
+        }
+        scheduler = Objects.requireNonNullElseGet(scheduler, () -> new SchedulerSettings(null, null));
+        frameMonitor = Objects.requireNonNullElseGet(frameMonitor, () -> new FrameMonitorSettings(null, null, null));
+        lanes = nullable(lanes);
+        if (lanes.stream().map(LaneSettings::name).distinct().count() != lanes.size()) {
+            throw new IllegalArgumentException("property 'lanes' must not contain multiple lanes with the same name");
+        }
+        qualityGovernor = Objects.requireNonNullElseGet(qualityGovernor, () -> new QualityGovernorSettings(null, null, null, null, null, null, null));
     }
 
     @Override
@@ -86,6 +125,11 @@ public record StepEngineSettings(
         return Map.copyOf(visualizationSettings);
     }
 
+    @Override
+    public List<LaneSettings> lanes() {
+        return List.copyOf(lanes);
+    }
+
     /**
      * Service implementation converting the configuration data of the root key
      * {@link StepEngineSettings#CONFIG_KEY} into {@link StepEngineSettings}.
@@ -103,6 +147,185 @@ public record StepEngineSettings(
         }
     }
 
+    /**
+     * The mode of scheduling {@link DataProvider.Scheduled} instances.
+     */
+    public enum SchedulerMode {
+
+        /**
+         * All {@link DataProvider.Scheduled} instances share a single thread.
+         */
+        SHARED,
+        /**
+         * Every {@link DataProvider.Scheduled} instance is run on its own
+         * virtual thread so that a slow one does not delay the others.
+         */
+        ISOLATED;
+    }
+
+    /**
+     * POJO for the settings concerning the scheduling of
+     * {@link DataProvider.Scheduled} instances.
+     *
+     * <p>
+     * Param {@code mode} the mode of scheduling. Defaults to
+     * {@link SchedulerMode#SHARED}.
+     *
+     * <p>
+     * Param {@code maxStartJitterMillis} the maximum number of milli seconds
+     * randomly added to the initial delay of each
+     * {@link DataProvider.Scheduled} in order to spread their executions.
+     * Defaults to {@code 0}.
+     */
+    public record SchedulerSettings(
+            SchedulerMode mode,
+            Long maxStartJitterMillis) {
+
+        public SchedulerSettings {
+            mode = Objects.requireNonNullElse(mode, SchedulerMode.SHARED);
+            maxStartJitterMillis = Objects.requireNonNullElse(maxStartJitterMillis, 0L);
+            if (maxStartJitterMillis < 0) {
+                throw new IllegalArgumentException("property 'maxStartJitterMillis' must not be a negative number");
+            }
+        }
+    }
+
+    /**
+     * POJO for the settings of a background lane of the {@link StepEngine}.
+     *
+     * <p>
+     * The steps of a background lane are processed on a worker thread of
+     * their own concurrently to the steps of the visual lane. Lanes
+     * synchronize with each other via synchronization points (see
+     * {@link StepEngine.MachineContext#arriveAtSyncPoint(java.lang.String)}).
+     *
+     * <p>
+     * Param {@code name} the name of the lane
+     *
+     * <p>
+     * Param {@code steps} list containing the definitions for the steps of the
+     * lane
+     */
+    public record LaneSettings(
+            String name,
+            List<StepDefinition> steps) {
+
+        public LaneSettings {
+            Objects.requireNonNull(name, "name must not be null");
+            steps = List.copyOf(Objects.requireNonNull(steps, "steps must not be null"));
+        }
+
+        @Override
+        public List<StepDefinition> steps() {
+            return List.copyOf(steps);
+        }
+    }
+
+    /**
+     * POJO for the settings concerning the monitoring of the frame times of
+     * the JavaFX pulses.
+     *
+     * <p>
+     * Param {@code enabled} flag indicating that the frame times are
+     * monitored. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code targetFramesPerSecond} the expected number of frames per
+     * second used to determine dropped frames. Defaults to {@code 60}.
+     *
+     * <p>
+     * Param {@code summaryIntervalSeconds} the interval in seconds in which a
+     * summary of the frame times is logged. A value of {@code 0} disables the
+     * logging. Defaults to {@code 300}.
+     */
+    public record FrameMonitorSettings(
+            Boolean enabled,
+            Integer targetFramesPerSecond,
+            Long summaryIntervalSeconds) {
+
+        public FrameMonitorSettings {
+            enabled = Objects.requireNonNullElse(enabled, false);
+            targetFramesPerSecond = Objects.requireNonNullElse(targetFramesPerSecond, 60);
+            if (targetFramesPerSecond <= 0) {
+                throw new IllegalArgumentException("property 'targetFramesPerSecond' must be a positive number");
+            }
+            summaryIntervalSeconds = Objects.requireNonNullElse(summaryIntervalSeconds, 300L);
+            if (summaryIntervalSeconds < 0) {
+                throw new IllegalArgumentException("property 'summaryIntervalSeconds' must not be a negative number");
+            }
+        }
+    }
+
+    /**
+     * POJO for the settings concerning the adaption of the
+     * {@link RenderQuality} to the frame times of the JavaFX pulses. The
+     * adaption requires the frame monitor to be enabled.
+     *
+     * <p>
+     * Param {@code enabled} flag indicating that the render quality is
+     * adapted. If disabled the render quality remains at
+     * {@code initialQuality}. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code initialQuality} the render quality to start with. Defaults
+     * to {@link RenderQuality#HIGH}.
+     *
+     * <p>
+     * Param {@code minimumQuality} the lowest render quality to degrade to.
+     * Defaults to {@link RenderQuality#LOW}.
+     *
+     * <p>
+     * Param {@code windowFrames} the number of frames whose intervals are
+     * averaged before deciding on the render quality. Defaults to
+     * {@code 120}.
+     *
+     * <p>
+     * Param {@code degradeThreshold} the factor of the target frame interval
+     * the average frame interval of a window has to exceed in order to lower
+     * the render quality. Defaults to {@code 1.25}.
+     *
+     * <p>
+     * Param {@code restoreThreshold} the factor of the target frame interval
+     * the average frame interval of a window has to stay below in order to
+     * count towards restoring the render quality. Defaults to {@code 1.05}.
+     *
+     * <p>
+     * Param {@code restoreAfterWindows} the number of consecutive windows
+     * below {@code restoreThreshold} after which the render quality is raised.
+     * Defaults to {@code 5}.
+     */
+    public record QualityGovernorSettings(
+            Boolean enabled,
+            RenderQuality initialQuality,
+            RenderQuality minimumQuality,
+            Integer windowFrames,
+            Double degradeThreshold,
+            Double restoreThreshold,
+            Integer restoreAfterWindows) {
+
+        public QualityGovernorSettings {
+            enabled = Objects.requireNonNullElse(enabled, false);
+            initialQuality = Objects.requireNonNullElse(initialQuality, RenderQuality.HIGH);
+            minimumQuality = Objects.requireNonNullElse(minimumQuality, RenderQuality.LOW);
+            if (initialQuality.compareTo(minimumQuality) < 0) {
+                throw new IllegalArgumentException("property 'initialQuality' must not be lower than property 'minimumQuality'");
+            }
+            windowFrames = Objects.requireNonNullElse(windowFrames, 120);
+            if (windowFrames <= 0) {
+                throw new IllegalArgumentException("property 'windowFrames' must be a positive number");
+            }
+            degradeThreshold = Objects.requireNonNullElse(degradeThreshold, 1.25);
+            restoreThreshold = Objects.requireNonNullElse(restoreThreshold, 1.05);
+            if (restoreThreshold <= 0 || degradeThreshold < restoreThreshold) {
+                throw new IllegalArgumentException("property 'degradeThreshold' must not be lower than the positive property 'restoreThreshold'");
+            }
+            restoreAfterWindows = Objects.requireNonNullElse(restoreAfterWindows, 5);
+            if (restoreAfterWindows <= 0) {
+                throw new IllegalArgumentException("property 'restoreAfterWindows' must be a positive number");
+            }
+        }
+    }
+
     /**
      * Configurable object containing configuration data (via
      * {@link #getConfig()} or {@link #getConfig(java.lang.Class)}) for a
@@ -111,6 +334,7 @@ public record StepEngineSettings(
     public static final class StepDefinition extends ConfigurableObjectBase {
 
         private String stepClassName;
+        private Long timeoutSeconds;
 
         /**
          * Returns the class name of the {@link Step}.
@@ -130,10 +354,35 @@ public record StepEngineSettings(
             this.stepClassName = stepClassName;
         }
 
+        /**
+         * Returns the number of seconds after which the {@link StepEngine}
+         * stops waiting for the {@link Step} to complete. In case of
+         * {@code null} a timeout of {@code 60} seconds applies.
+         *
+         * @return the timeout in seconds
+         */
+        public Long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        /**
+         * Sets the number of seconds after which the {@link StepEngine} stops
+         * waiting for the {@link Step} to complete.
+         *
+         * @param timeoutSeconds the timeout in seconds
+         */
+        public void setTimeoutSeconds(final Long timeoutSeconds) {
+            if (null != timeoutSeconds && timeoutSeconds <= 0) {
+                throw new IllegalArgumentException("property 'timeoutSeconds' must be a positive number");
+            }
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
         @Override
         public String toString() {
             return createToString(this, map(
                     "stepClassName", getStepClassName(),
+                    "timeoutSeconds", getTimeoutSeconds(),
                     "config", getConfig()
             ), super.toString());
         }
@@ -153,6 +402,8 @@ public record StepEngineSettings(
     public static final class DataProviderSetting extends ConfigurableObjectBase {
 
         private String dataProviderClassName;
+        private IngestSetting ingest = new IngestSetting(null, null, null, null, null);
+        private ShapingSetting shaping = new ShapingSetting(null, null, null, null, null, null);
 
         /**
          * Returns the class name of the {@link DataProvider}.
@@ -173,6 +424,48 @@ public record StepEngineSettings(
             this.dataProviderClassName = dataProviderClassName;
         }
 
+        /**
+         * Returns the settings concerning the delivery of new tweets to the
+         * {@link DataProvider} (only applicable to
+         * {@link DataProvider.NewTweetAware} instances).
+         *
+         * @return the settings concerning the delivery of new tweets
+         */
+        public IngestSetting getIngest() {
+            return ingest;
+        }
+
+        /**
+         * Sets the settings concerning the delivery of new tweets to the
+         * {@link DataProvider}.
+         *
+         * @param ingest the settings concerning the delivery of new tweets
+         */
+        public void setIngest(final IngestSetting ingest) {
+            this.ingest = Objects.requireNonNullElseGet(ingest, () -> new IngestSetting(null, null, null, null, null));
+        }
+
+        /**
+         * Returns the settings concerning the shaping of bursts of new tweets
+         * before they are delivered to the {@link DataProvider} (only
+         * applicable to {@link DataProvider.NewTweetAware} instances).
+         *
+         * @return the settings concerning the shaping of new tweets
+         */
+        public ShapingSetting getShaping() {
+            return shaping;
+        }
+
+        /**
+         * Sets the settings concerning the shaping of bursts of new tweets
+         * before they are delivered to the {@link DataProvider}.
+         *
+         * @param shaping the settings concerning the shaping of new tweets
+         */
+        public void setShaping(final ShapingSetting shaping) {
+            this.shaping = Objects.requireNonNullElseGet(shaping, () -> new ShapingSetting(null, null, null, null, null, null));
+        }
+
         @Override
         public <T> T getConfig(final Class<T> typeClass) {
             @SuppressWarnings("unchecked")
@@ -185,11 +478,188 @@ public record StepEngineSettings(
         public String toString() {
             return createToString(this, map(
                     "dataProviderClassName", getDataProviderClassName(),
+                    "ingest", getIngest(),
+                    "shaping", getShaping(),
                     "config", getConfig()
             ), super.toString());
         }
     }
 
+    /**
+     * The mode of delivering new tweets to a {@link DataProvider.NewTweetAware}.
+     */
+    public enum IngestMode {
+
+        /**
+         * New tweets are delivered directly on the thread of the tweet stream.
+         */
+        DIRECT,
+        /**
+         * New tweets are delivered via a bounded queue processed by a worker
+         * thread dedicated to the {@link DataProvider}.
+         */
+        QUEUED;
+    }
+
+    /**
+     * The policy applied when the ingest queue of a
+     * {@link DataProvider.NewTweetAware} is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The oldest queued tweet is dropped in favor of the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The tweet stream waits up to {@code blockTimeoutMillis} for the
+         * queue to have space available. Afterwards the new tweet is dropped.
+         */
+        BLOCK,
+        /**
+         * Only every {@code sampleRate}th tweet arriving while the queue is
+         * full is admitted by dropping the oldest queued tweet. All others are
+         * dropped.
+         */
+        SAMPLE;
+    }
+
+    /**
+     * POJO for the settings concerning the delivery of new tweets to a
+     * {@link DataProvider.NewTweetAware}.
+     *
+     * <p>
+     * Param {@code mode} the delivery mode. Defaults to
+     * {@link IngestMode#DIRECT}.
+     *
+     * <p>
+     * Param {@code capacity} the capacity of the ingest queue. Defaults to
+     * {@code 256}.
+     *
+     * <p>
+     * Param {@code overflowPolicy} the policy applied when the ingest queue is
+     * full. Defaults to {@link OverflowPolicy#DROP_OLDEST}.
+     *
+     * <p>
+     * Param {@code blockTimeoutMillis} the maximum time to wait for space in
+     * the ingest queue with {@link OverflowPolicy#BLOCK}. Defaults to
+     * {@code 100}.
+     *
+     * <p>
+     * Param {@code sampleRate} the rate of admitted tweets with
+     * {@link OverflowPolicy#SAMPLE}. Defaults to {@code 10}.
+     */
+    public record IngestSetting(
+            IngestMode mode,
+            Integer capacity,
+            OverflowPolicy overflowPolicy,
+            Long blockTimeoutMillis,
+            Integer sampleRate) {
+
+        public IngestSetting {
+            mode = Objects.requireNonNullElse(mode, IngestMode.DIRECT);
+            capacity = Objects.requireNonNullElse(capacity, 256);
+            if (capacity < 1) {
+                throw new IllegalArgumentException("property 'capacity' must be a positive number");
+            }
+            overflowPolicy = Objects.requireNonNullElse(overflowPolicy, OverflowPolicy.DROP_OLDEST);
+            blockTimeoutMillis = Objects.requireNonNullElse(blockTimeoutMillis, 100L);
+            if (blockTimeoutMillis < 0) {
+                throw new IllegalArgumentException("property 'blockTimeoutMillis' must not be a negative number");
+            }
+            sampleRate = Objects.requireNonNullElse(sampleRate, 10);
+            if (sampleRate < 1) {
+                throw new IllegalArgumentException("property 'sampleRate' must be a positive number");
+            }
+        }
+    }
+
+    /**
+     * The criterion by which the tweets of a batching window are ranked when
+     * more tweets arrive than are admitted.
+     */
+    public enum ShapingPriority {
+
+        /**
+         * The most recently created tweets are kept.
+         */
+        RECENCY,
+        /**
+         * Tweets containing media are kept first, the most recently created
+         * tweets thereafter.
+         */
+        MEDIA,
+        /**
+         * Tweets of the users with the most followers are kept first, the
+         * most recently created tweets thereafter.
+         */
+        FOLLOWERS;
+    }
+
+    /**
+     * POJO for the settings concerning the shaping of bursts of new tweets
+     * before they are delivered to a {@link DataProvider.NewTweetAware}.
+     *
+     * <p>
+     * Param {@code enabled} flag indicating that new tweets are shaped. All
+     * tweets are delivered immediately otherwise. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code ratePerSecond} the sustained number of tweets admitted per
+     * second (token bucket). Defaults to {@code null} resulting in no rate
+     * limit.
+     *
+     * <p>
+     * Param {@code burstSize} the number of tweets admitted at once after a
+     * quiet period, i.e. the capacity of the token bucket. Defaults to the
+     * rate per second rounded up.
+     *
+     * <p>
+     * Param {@code windowMillis} the duration of the windows new tweets are
+     * collected in before they are delivered as a batch via
+     * {@link DataProvider.NewTweetAware#processNewTweets(java.util.List)}.
+     * Defaults to {@code 0} resulting in every tweet being delivered on its
+     * own as it arrives.
+     *
+     * <p>
+     * Param {@code maxPerWindow} the maximum number of tweets kept per window.
+     * Tweets ranked lower according to {@code priority} are shed. Defaults to
+     * {@code null} resulting in all tweets of a window being kept.
+     *
+     * <p>
+     * Param {@code priority} the criterion by which the tweets of a window are
+     * ranked. Defaults to {@link ShapingPriority#RECENCY}.
+     */
+    public record ShapingSetting(
+            Boolean enabled,
+            Double ratePerSecond,
+            Integer burstSize,
+            Long windowMillis,
+            Integer maxPerWindow,
+            ShapingPriority priority) {
+
+        public ShapingSetting {
+            enabled = Objects.requireNonNullElse(enabled, false);
+            if (null != ratePerSecond && !(ratePerSecond > 0)) {
+                throw new IllegalArgumentException("property 'ratePerSecond' must be a positive number");
+            }
+            burstSize = Objects.requireNonNullElse(
+                    burstSize,
+                    null == ratePerSecond ? 1 : (int) Math.ceil(ratePerSecond));
+            if (burstSize < 1) {
+                throw new IllegalArgumentException("property 'burstSize' must be a positive number");
+            }
+            windowMillis = Objects.requireNonNullElse(windowMillis, 0L);
+            if (windowMillis < 0) {
+                throw new IllegalArgumentException("property 'windowMillis' must not be a negative number");
+            }
+            if (null != maxPerWindow && maxPerWindow < 1) {
+                throw new IllegalArgumentException("property 'maxPerWindow' must be a positive number");
+            }
+            priority = Objects.requireNonNullElse(priority, ShapingPriority.RECENCY);
+        }
+    }
+
     /**
      * Configurable object containing configuration data (via
      * {@link #getConfig()} or {@link #getConfig(java.lang.Class)}) for a
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class HistoryBootstrapTest {
+
+    @Test
+    void emptyHistoryCompletesImmediately() {
+        final List<Tweet> received = new CopyOnWriteArrayList<>();
+        final HistoryBootstrap bootstrap = HistoryBootstrap.start(Stream::empty, List.of(received::add), 10);
+
+        assertThat(bootstrap.firstPage()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(bootstrap.completion()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void allConsumersReceiveAllPagesInOrder() {
+        final List<Tweet> tweets = tweets(25);
+        final List<Tweet> receivedOne = new CopyOnWriteArrayList<>();
+        final List<Tweet> receivedTwo = new CopyOnWriteArrayList<>();
+        final HistoryBootstrap bootstrap = HistoryBootstrap.start(tweets::stream, List.of(receivedOne::add, receivedTwo::add), 10);
+
+        assertThat(bootstrap.completion()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(bootstrap.firstPage()).isDone();
+        assertThat(receivedOne).containsExactlyElementsOf(tweets);
+        assertThat(receivedTwo).containsExactlyElementsOf(tweets);
+    }
+
+    @Test
+    void firstPageAwaitsProcessingOfShortHistory() throws InterruptedException {
+        final CountDownLatch fetched = new CountDownLatch(1);
+        final CountDownLatch processing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Tweet> tweets = tweets(3);
+        final List<Tweet> received = new CopyOnWriteArrayList<>();
+        final HistoryBootstrap bootstrap = HistoryBootstrap.start(
+                () -> tweets.stream().onClose(fetched::countDown),
+                List.of(tweet -> {
+                    processing.countDown();
+                    awaitUninterruptibly(release);
+                    received.add(tweet);
+                }),
+                100);
+
+        assertThat(fetched.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processing.await(5, TimeUnit.SECONDS)).isTrue();
+        // give the fetching thread the chance to finish after closing the history
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(bootstrap.firstPage()).isNotDone();
+
+        release.countDown();
+        assertThat(bootstrap.firstPage()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(received).containsExactlyElementsOf(tweets);
+    }
+
+    @Test
+    void tweetsFetchedBeforeFailureAreDispatched() {
+        final List<Tweet> tweets = tweets(15);
+        final List<Tweet> received = new CopyOnWriteArrayList<>();
+        final HistoryBootstrap bootstrap = HistoryBootstrap.start(
+                () -> IntStream.range(0, 20).mapToObj(i -> {
+                    if (i == tweets.size()) {
+                        throw new IllegalStateException("search failed");
+                    }
+                    return tweets.get(i);
+                }),
+                List.of(received::add),
+                10);
+
+        assertThat(bootstrap.completion()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(received).containsExactlyElementsOf(tweets);
+    }
+
+    @Test
+    void failingConsumerDoesNotStopHistory() {
+        final List<Tweet> tweets = tweets(5);
+        final List<Tweet> received = new CopyOnWriteArrayList<>();
+        final HistoryBootstrap bootstrap = HistoryBootstrap.start(
+                tweets::stream,
+                List.of(tweet -> {
+                    if (tweet == tweets.getFirst()) {
+                        throw new IllegalStateException("processing failed");
+                    }
+                    received.add(tweet);
+                }),
+                2);
+
+        assertThat(bootstrap.completion()).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(received).containsExactlyElementsOf(tweets.subList(1, tweets.size()));
+    }
+
+    private static List<Tweet> tweets(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> mock(Tweet.class))
+                .toList();
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QualityGovernorTest {
+
+    // 50 frames per second result in a frame budget of 20 ms
+    private static final int TARGET_FRAMES_PER_SECOND = 50;
+    private static final long SLOW_FRAME = TimeUnit.MILLISECONDS.toNanos(30);
+    private static final long FAST_FRAME = TimeUnit.MILLISECONDS.toNanos(15);
+    private static final long ON_BUDGET_FRAME = TimeUnit.MILLISECONDS.toNanos(22);
+
+    @Test
+    void degradesDownToMinimumQuality() {
+        final QualityGovernor governor = governor(true, RenderQuality.HIGH, RenderQuality.MEDIUM);
+
+        governor.recordFrameInterval(SLOW_FRAME);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.HIGH);
+        governor.recordFrameInterval(SLOW_FRAME);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.MEDIUM);
+
+        recordFrames(governor, SLOW_FRAME, 2);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.MEDIUM);
+    }
+
+    @Test
+    void windowAverageDecides() {
+        final QualityGovernor governor = governor(true, RenderQuality.HIGH, RenderQuality.LOW);
+
+        governor.recordFrameInterval(SLOW_FRAME);
+        governor.recordFrameInterval(FAST_FRAME);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.HIGH);
+    }
+
+    @Test
+    void restoresAfterConsecutiveWindowsWithHeadroom() {
+        final QualityGovernor governor = governor(true, RenderQuality.LOW, RenderQuality.LOW);
+
+        recordFrames(governor, FAST_FRAME, 2);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.LOW);
+        // a window on budget resets the count of windows with headroom
+        recordFrames(governor, ON_BUDGET_FRAME, 2);
+        recordFrames(governor, FAST_FRAME, 2);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.LOW);
+        recordFrames(governor, FAST_FRAME, 2);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.MEDIUM);
+
+        recordFrames(governor, FAST_FRAME, 8);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.HIGH);
+    }
+
+    @Test
+    void disabledKeepsInitialQuality() {
+        final QualityGovernor governor = governor(false, RenderQuality.MEDIUM, RenderQuality.LOW);
+
+        recordFrames(governor, SLOW_FRAME, 10);
+        assertThat(governor.getQuality()).isEqualTo(RenderQuality.MEDIUM);
+    }
+
+    /**
+     * Creates a governor averaging windows of two frames and restoring after
+     * two windows with headroom.
+     */
+    private static QualityGovernor governor(final boolean enabled, final RenderQuality initialQuality, final RenderQuality minimumQuality) {
+        return new QualityGovernor(
+                new StepEngineSettings.QualityGovernorSettings(enabled, initialQuality, minimumQuality, 2, 1.25, 1.05, 2),
+                TARGET_FRAMES_PER_SECOND);
+    }
+
+    private static void recordFrames(final QualityGovernor governor, final long intervalNanos, final int frames) {
+        for (int i = 0; i < frames; i++) {
+            governor.recordFrameInterval(intervalNanos);
+        }
+    }
+}
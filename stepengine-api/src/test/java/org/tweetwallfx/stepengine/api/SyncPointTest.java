@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncPointTest {
+
+    SyncPoint syncPoint;
+
+    @BeforeEach
+    void prepare() {
+        syncPoint = new SyncPoint("test");
+        syncPoint.register();
+        syncPoint.register();
+    }
+
+    @Test
+    void completesOnceAllPartiesArrived() {
+        CompletableFuture<Void> first = syncPoint.arrive();
+        assertThat(first).isNotDone();
+
+        CompletableFuture<Void> second = syncPoint.arrive();
+        assertThat(first).isCompleted();
+        assertThat(second).isSameAs(first);
+
+        assertThat(syncPoint.arrive()).isNotDone();
+    }
+
+    @Test
+    void withdrawnArrivalDoesNotCountTowardsGeneration() {
+        CompletableFuture<Void> timedOut = syncPoint.arrive();
+        assertThat(syncPoint.withdraw(timedOut)).isTrue();
+
+        // the lane timed out moves on and arrives again together with the other lane
+        CompletableFuture<Void> other = syncPoint.arrive();
+        assertThat(other).isNotDone();
+        CompletableFuture<Void> again = syncPoint.arrive();
+        assertThat(other).isCompleted();
+        assertThat(again).isSameAs(other);
+
+        // the following generation is not off by one
+        CompletableFuture<Void> next = syncPoint.arrive();
+        assertThat(next).isNotDone();
+        assertThat(syncPoint.arrive()).isSameAs(next);
+        assertThat(next).isCompleted();
+    }
+
+    @Test
+    void completedArrivalIsNotWithdrawn() {
+        CompletableFuture<Void> first = syncPoint.arrive();
+        syncPoint.arrive();
+
+        assertThat(syncPoint.withdraw(first)).isFalse();
+        assertThat(syncPoint).hasToString("SyncPoint[name=test, parties=2, arrived=0]");
+    }
+
+    @Test
+    void arrivalIsWithdrawnOnlyOnce() {
+        CompletableFuture<Void> first = syncPoint.arrive();
+
+        assertThat(syncPoint.withdraw(first)).isTrue();
+        assertThat(syncPoint.withdraw(first)).isFalse();
+        assertThat(syncPoint).hasToString("SyncPoint[name=test, parties=2, arrived=0]");
+    }
+}
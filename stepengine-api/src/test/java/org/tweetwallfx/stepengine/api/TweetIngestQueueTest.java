@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TweetIngestQueueTest {
+
+    private final BlockingQueue<Tweet> processed = new LinkedBlockingQueue<>();
+    private final CountDownLatch processing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<Tweet> tweets = IntStream.range(0, 5)
+            .mapToObj(i -> mock(Tweet.class))
+            .toList();
+
+    @Test
+    void processesInArrivalOrder() throws InterruptedException {
+        release.countDown();
+        final TweetIngestQueue queue = queue(new StepEngineSettings.IngestSetting(StepEngineSettings.IngestMode.QUEUED, 8, null, null, null));
+
+        tweets.forEach(queue);
+
+        assertThat(poll(tweets.size())).containsExactlyElementsOf(tweets);
+        assertThat(queue.getStatistics().received()).isEqualTo(5);
+        assertThat(queue.getStatistics().dropped()).isZero();
+    }
+
+    @Test
+    void dropOldestReplacesQueuedTweet() throws InterruptedException {
+        final TweetIngestQueue queue = blockedQueue(StepEngineSettings.OverflowPolicy.DROP_OLDEST, 2, null);
+
+        queue.accept(tweets.get(1));
+        queue.accept(tweets.get(2));
+        queue.accept(tweets.get(3));
+        assertThat(queue.getStatistics()).isEqualTo(new TweetIngestQueue.Statistics(2, 2, 4, 0, 1));
+
+        release.countDown();
+        assertThat(poll(3)).containsExactly(tweets.get(0), tweets.get(2), tweets.get(3));
+    }
+
+    @Test
+    void blockDropsAfterTimeout() throws InterruptedException {
+        final TweetIngestQueue queue = blockedQueue(StepEngineSettings.OverflowPolicy.BLOCK, 1, null);
+
+        queue.accept(tweets.get(1));
+        final long start = System.nanoTime();
+        queue.accept(tweets.get(2));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(queue.getStatistics()).isEqualTo(new TweetIngestQueue.Statistics(1, 1, 3, 0, 1));
+
+        release.countDown();
+        assertThat(poll(2)).containsExactly(tweets.get(0), tweets.get(1));
+    }
+
+    @Test
+    void sampleKeepsEveryNthOverflowingTweet() throws InterruptedException {
+        final TweetIngestQueue queue = blockedQueue(StepEngineSettings.OverflowPolicy.SAMPLE, 1, 2);
+
+        queue.accept(tweets.get(1));
+        queue.accept(tweets.get(2));
+        queue.accept(tweets.get(3));
+        queue.accept(tweets.get(4));
+        assertThat(queue.getStatistics()).isEqualTo(new TweetIngestQueue.Statistics(1, 1, 5, 0, 3));
+
+        release.countDown();
+        assertThat(poll(2)).containsExactly(tweets.get(0), tweets.get(3));
+    }
+
+    /**
+     * Creates a queue whose worker is blocked processing the first tweet
+     * until released.
+     */
+    private TweetIngestQueue blockedQueue(final StepEngineSettings.OverflowPolicy overflowPolicy, final int capacity, final Integer sampleRate) throws InterruptedException {
+        final TweetIngestQueue queue = queue(new StepEngineSettings.IngestSetting(StepEngineSettings.IngestMode.QUEUED, capacity, overflowPolicy, 10L, sampleRate));
+
+        queue.accept(tweets.getFirst());
+        assertThat(processing.await(5, TimeUnit.SECONDS)).isTrue();
+        return queue;
+    }
+
+    private TweetIngestQueue queue(final StepEngineSettings.IngestSetting ingestSetting) {
+        return new TweetIngestQueue(tweet -> {
+            processing.countDown();
+            awaitUninterruptibly(release);
+            processed.add(tweet);
+        }, ingestSetting);
+    }
+
+    private List<Tweet> poll(final int count) throws InterruptedException {
+        final List<Tweet> result = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            final Tweet tweet = processed.poll(5, TimeUnit.SECONDS);
+            assertThat(tweet).isNotNull();
+            result.add(tweet);
+        }
+
+        assertThat(processed.poll(50, TimeUnit.MILLISECONDS)).isNull();
+        return result;
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
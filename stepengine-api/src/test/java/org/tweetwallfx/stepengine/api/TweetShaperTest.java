@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TweetShaperTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 17, 10, 0);
+    // long enough for the batching window never to be flushed by the shaper itself
+    private static final long WINDOW_MILLIS = 3_600_000L;
+
+    private final List<List<Tweet>> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    void tokenBucketAdmitsBurst() {
+        final TweetShaper shaper = new TweetShaper("test",
+                new StepEngineSettings.ShapingSetting(true, 0.001, 2, 0L, null, null),
+                delivered::add);
+        final Tweet first = tweet(START);
+        final Tweet second = tweet(START.plusSeconds(1));
+
+        shaper.accept(first);
+        shaper.accept(second);
+        shaper.accept(tweet(START.plusSeconds(2)));
+
+        assertThat(delivered).containsExactly(List.of(first), List.of(second));
+        assertThat(shaper.getStatistics()).isEqualTo(new TweetShaper.Statistics(3, 2, 1, 0));
+    }
+
+    @Test
+    void withoutRateEverythingIsAdmitted() {
+        final TweetShaper shaper = new TweetShaper("test",
+                new StepEngineSettings.ShapingSetting(true, null, null, 0L, null, null),
+                delivered::add);
+
+        for (int i = 0; i < 100; i++) {
+            shaper.accept(tweet(START.plusSeconds(i)));
+        }
+
+        assertThat(delivered).hasSize(100);
+        assertThat(shaper.getStatistics()).isEqualTo(new TweetShaper.Statistics(100, 100, 0, 0));
+    }
+
+    @Test
+    void windowKeepsBestRankedInArrivalOrder() {
+        final TweetShaper shaper = new TweetShaper("test",
+                new StepEngineSettings.ShapingSetting(true, null, null, WINDOW_MILLIS, 2, StepEngineSettings.ShapingPriority.FOLLOWERS),
+                delivered::add);
+        final Tweet popular = tweet(START, 30);
+        final Tweet known = tweet(START.plusSeconds(1), 20);
+
+        shaper.accept(tweet(START, 10));
+        shaper.accept(popular);
+        shaper.accept(known);
+        shaper.accept(tweet(START.plusSeconds(2), 5));
+        assertThat(delivered).isEmpty();
+
+        shaper.flush();
+
+        assertThat(delivered).containsExactly(List.of(popular, known));
+        assertThat(shaper.getStatistics()).isEqualTo(new TweetShaper.Statistics(4, 2, 2, 1));
+    }
+
+    @Test
+    void flushShedsTweetsNotAdmittedByRate() {
+        final TweetShaper shaper = new TweetShaper("test",
+                new StepEngineSettings.ShapingSetting(true, 0.001, 1, WINDOW_MILLIS, null, StepEngineSettings.ShapingPriority.RECENCY),
+                delivered::add);
+        final Tweet latest = tweet(START.plusSeconds(2));
+
+        shaper.accept(tweet(START.plusSeconds(1)));
+        shaper.accept(latest);
+        shaper.accept(tweet(START));
+        shaper.flush();
+
+        assertThat(delivered).containsExactly(List.of(latest));
+        assertThat(shaper.getStatistics()).isEqualTo(new TweetShaper.Statistics(3, 1, 2, 1));
+
+        // the bucket is empty, so the next window is shed as a whole
+        shaper.accept(tweet(START.plusSeconds(3)));
+        shaper.flush();
+        // an empty window delivers nothing
+        shaper.flush();
+
+        assertThat(delivered).hasSize(1);
+        assertThat(shaper.getStatistics()).isEqualTo(new TweetShaper.Statistics(4, 1, 3, 1));
+    }
+
+    private static Tweet tweet(final LocalDateTime createdAt) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getCreatedAt()).thenReturn(createdAt);
+        return tweet;
+    }
+
+    private static Tweet tweet(final LocalDateTime createdAt, final int followersCount) {
+        final Tweet tweet = tweet(createdAt);
+        final User user = mock(User.class);
+        when(user.getFollowersCount()).thenReturn(followersCount);
+        when(tweet.getUser()).thenReturn(user);
+        return tweet;
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2016-2022 TweetWallFX
+ * Copyright (c) 2016-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -38,7 +38,7 @@ import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetQuery;
 import org.tweetwallfx.tweet.api.Tweeter;
 
-public class TweetDataProvider implements DataProvider.NewTweetAware {
+public class TweetDataProvider implements DataProvider.NewTweetAware, DataProvider.HistoryAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TweetDataProvider.class);
     private static final int HISTORY_SIZE = 50;
@@ -47,7 +47,9 @@ public class TweetDataProvider implements DataProvider.NewTweetAware {
     private volatile Tweet nextTweet;
     private final String searchText = Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query();
     private final Deque<Long> history = new ArrayDeque<>();
+    private final Deque<Tweet> latestTweets = new ArrayDeque<>();
     private volatile List<Tweet> lastTweetCollection;
+    private volatile boolean refreshRequired;
 
     private TweetDataProvider() {
         // prevent external instantiation
@@ -57,19 +59,60 @@ public class TweetDataProvider implements DataProvider.NewTweetAware {
     public void processNewTweet(final Tweet tweet) {
         LOGGER.info("new Tweet received");
         this.nextTweet = tweet;
+        synchronized (latestTweets) {
+            latestTweets.addFirst(tweet);
+            if (latestTweets.size() > HISTORY_SIZE) {
+                latestTweets.removeLast();
+            }
+        }
+        this.refreshRequired = true;
         this.lastTweetCollection = null;
     }
 
+    @Override
+    public void processHistoryTweet(final Tweet tweet) {
+        synchronized (latestTweets) {
+            if (latestTweets.size() < HISTORY_SIZE) {
+                latestTweets.addLast(tweet);
+                this.lastTweetCollection = null;
+            }
+        }
+    }
+
     public Tweet getTweet() {
         return this.tweet;
     }
 
     private List<Tweet> getLatestHistory() {
+        if (refreshRequired) {
+            refreshRequired = false;
+            refreshLatestTweets();
+        }
         LOGGER.info("Reinit the history");
-        return Tweeter.getInstance().search(new TweetQuery()
+        synchronized (latestTweets) {
+            return List.copyOf(latestTweets);
+        }
+    }
+
+    /**
+     * Replaces the latest tweets with the ones currently returned by the
+     * backend. The initial tweets are taken from the shared history while
+     * this refresh picks up changes once new tweets have been received.
+     */
+    private void refreshLatestTweets() {
+        LOGGER.info("Refresh the history");
+        final List<Tweet> refreshed = Tweeter.getInstance().search(new TweetQuery()
                 .query(searchText)
                 .count(HISTORY_SIZE))
+                .limit(HISTORY_SIZE)
                 .toList();
+
+        if (!refreshed.isEmpty()) {
+            synchronized (latestTweets) {
+                latestTweets.clear();
+                latestTweets.addAll(refreshed);
+            }
+        }
     }
 
     public Tweet nextTweet() {
@@ -29,46 +29,41 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javafx.scene.image.Image;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.tweetwallfx.config.Configuration;
-import org.tweetwallfx.config.TweetwallSettings;
 import org.tweetwallfx.stepengine.api.DataProvider;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.tweet.api.Tweet;
-import org.tweetwallfx.tweet.api.TweetQuery;
-import org.tweetwallfx.tweet.api.Tweeter;
 import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
 
 /**
  * Provides an always current list of tweets based on the configured query. The
- * history length is not yet configurable.
+ * initial list is filled from the history shared by the step engine.
  */
-public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
+public class TweetStreamDataProvider implements DataProvider.NewTweetAware, DataProvider.HistoryAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TweetStreamDataProvider.class);
     private final ReadWriteLock tweetListLock = new ReentrantReadWriteLock();
-    private final String searchText = Configuration.getInstance()
-            .getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class)
-            .query();
     private volatile Image latestTweetedImage;
     private volatile Deque<Tweet> tweets = new ArrayDeque<>();
+    private final AtomicInteger historyTweetCount = new AtomicInteger();
     private final Config config;
 
     private TweetStreamDataProvider(final Config config) {
         this.config = config;
 
         LOGGER.info("Initialize tweet stream provider");
-        List<Tweet> history = getLatestHistory();
-        tweetListLock.writeLock().lock();
-        try {
-            history.forEach(this::appendTweet);
-        } finally {
-            tweetListLock.writeLock().unlock();
+    }
+
+    @Override
+    public void processHistoryTweet(final Tweet tweet) {
+        if (historyTweetCount.incrementAndGet() <= config.historySize()) {
+            appendTweet(tweet);
         }
     }
 
@@ -78,6 +73,17 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
         prependTweet(tweet);
     }
 
+    @Override
+    public void processNewTweets(final List<Tweet> newTweets) {
+        LOGGER.info("{} new tweets received", newTweets.size());
+        final List<Tweet> acceptedTweets = config.hideRetweets()
+                ? newTweets.stream().filter(tweet -> !tweet.isRetweet()).toList()
+                : newTweets;
+        // only the most recent tweets of the batch are retained
+        final int skipped = Math.max(0, acceptedTweets.size() - config.maxTweets());
+        acceptedTweets.subList(skipped, acceptedTweets.size()).forEach(this::prependTweet);
+    }
+
     private void updateImage(final Tweet tweet) {
         tweet.getMediaEntries().stream()
                 .filter(MediaTweetEntryType.photo::isType)
@@ -138,15 +144,6 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
         }
     }
 
-    private List<Tweet> getLatestHistory() {
-        LOGGER.info("Reinitialize history");
-        return Tweeter.getInstance()
-                .search(new TweetQuery()
-                        .query(searchText)
-                        .count(config.historySize()))
-                .toList();
-    }
-
     public static class FactoryImpl implements DataProvider.Factory {
 
         @Override
@@ -164,7 +161,7 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
      * POJO used to configure {@link TweetStreamDataProvider}.
      *
      * <p>
-     * Param {@code historySize} The number of the tweets to request from query
+     * Param {@code historySize} The number of the history tweets to consider
      * in order to fill up {@link TweetStreamDataProvider} upon initialization.
      * Defaults to {@code 50}.
      *
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.steps;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.Step;
+import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import static org.tweetwallfx.util.ToString.createToString;
+import static org.tweetwallfx.util.ToString.map;
+
+/**
+ * Synchronizes the lanes of the {@link org.tweetwallfx.stepengine.api.StepEngine}.
+ * The step completes once all {@link SyncPointStep SyncPointSteps} configured
+ * with the same name have been reached in their respective lanes.
+ */
+public class SyncPointStep implements Step {
+
+    private final String name;
+
+    private SyncPointStep(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void initStep(final MachineContext context) {
+        context.registerSyncPoint(name);
+    }
+
+    @Override
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public void doStep(final MachineContext context) {
+        doStepAsync(context).thenRun(context::proceed);
+    }
+
+    @Override
+    public CompletionStage<Void> doStepAsync(final MachineContext context) {
+        return context.arriveAtSyncPoint(name);
+    }
+
+    @Override
+    public boolean requiresPlatformThread() {
+        return false;
+    }
+
+    /**
+     * Implementation of {@link Step.Factory} as Service implementation creating
+     * {@link SyncPointStep}.
+     */
+    public static final class FactoryImpl implements Step.Factory {
+
+        @Override
+        public SyncPointStep create(final StepEngineSettings.StepDefinition stepDefinition) {
+            return new SyncPointStep(stepDefinition.getConfig(Config.class).getName());
+        }
+
+        @Override
+        public Class<SyncPointStep> getStepClass() {
+            return SyncPointStep.class;
+        }
+
+        @Override
+        public Collection<Class<? extends DataProvider>> getRequiredDataProviders(final StepEngineSettings.StepDefinition stepSettings) {
+            return Collections.emptyList();
+        }
+    }
+
+    public static class Config {
+
+        private String name = "default";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = Objects.requireNonNull(name, "name must not be null!");
+        }
+
+        @Override
+        public String toString() {
+            return createToString(this, map(
+                    "name", getName()));
+        }
+    }
+}
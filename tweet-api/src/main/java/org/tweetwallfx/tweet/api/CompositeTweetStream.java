@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,30 +25,174 @@ package org.tweetwallfx.tweet.api;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.config.TweeterSettings;
+import org.tweetwallfx.tweet.api.config.TweeterSettings.StreamDispatchMode;
 
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
-final class CompositeTweetStream implements TweetStream, Consumer<Tweet> {
+/**
+ * {@link TweetStream} combining the streams of multiple {@link Tweeter}s.
+ *
+ * <p>
+ * Tweets are dispatched to the registered consumers without any locking so
+ * that the threads of the backends never wait for each other. In
+ * {@link StreamDispatchMode#ISOLATED} mode each consumer is decoupled from
+ * the threads of the backends by an executor of its own with a bounded queue.
+ * Tweets not fitting into the queue of a consumer are dropped for that
+ * consumer and counted. The derived views of a tweet are computed before it
+ * is queued so that they are available to all consumers.
+ */
+final class CompositeTweetStream implements TweetStream {
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeTweetStream.class);
 
     private final List<Consumer<Tweet>> tweetConsumerList = new CopyOnWriteArrayList<>();
+    private final StreamDispatchMode dispatchMode;
+    private final int dispatchQueueCapacity;
+    private final TweetAdmission admission;
+
+    CompositeTweetStream() {
+        this(new TweeterSettings(null, null, null, null), TweetAdmission.ALL);
+    }
+
+    CompositeTweetStream(TweeterSettings settings, TweetAdmission admission) {
+        this.dispatchMode = settings.streamDispatch();
+        this.dispatchQueueCapacity = settings.dispatchQueueCapacity();
+        this.admission = admission;
+    }
 
     @Override
     public void onTweet(Consumer<Tweet> tweetConsumer) {
-        synchronized (this) {
-            LOGGER.info("Adding tweetConsumer: {}", tweetConsumer);
-            tweetConsumerList.add(tweetConsumer);
-            LOGGER.info("List of tweetConsumers is now: {}", tweetConsumerList);
+        LOGGER.info("Adding tweetConsumer: {}", tweetConsumer);
+        tweetConsumerList.add(dispatchMode == StreamDispatchMode.ISOLATED
+                ? new IsolatedConsumer(tweetConsumer, dispatchQueueCapacity)
+                : tweetConsumer);
+        LOGGER.info("List of tweetConsumers is now: {}", tweetConsumerList);
+    }
+
+    /**
+     * Creates the consumer of the tweets delivered by the stream of a
+     * backend.
+     *
+     * @param backend the index of the backend
+     *
+     * @return the consumer passing the tweets on to this stream
+     */
+    Consumer<Tweet> fromBackend(int backend) {
+        return tweet -> accept(backend, tweet);
+    }
+
+    /**
+     * Dispatches the given tweet delivered by a backend to the registered
+     * consumers unless it is rejected by the admission.
+     *
+     * @param backend the index of the backend having delivered the tweet
+     *
+     * @param tweet the delivered tweet
+     */
+    void accept(int backend, Tweet tweet) {
+        if (!admission.admit(backend, tweet)) {
+            return;
+        }
+
+        if (dispatchMode == StreamDispatchMode.ISOLATED) {
+            // the consumers run concurrently so the views are derived before handing the tweet over
+            DerivedTweetViews.precompute(tweet);
+        }
+
+        // iterates over a snapshot of the consumers
+        for (Consumer<Tweet> consumer : tweetConsumerList) {
+            try {
+                consumer.accept(tweet);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to dispatch tweet to {}", consumer, e);
+            }
         }
     }
 
-    @Override
-    public void accept(Tweet tweet) {
-        synchronized (this) {
-            LOGGER.info("Redispatching new received tweet to {}", tweetConsumerList);
-            tweetConsumerList.stream().forEach(consumer -> consumer.accept(tweet));
+    /**
+     * Stops the executors of the consumers in {@link StreamDispatchMode#ISOLATED}
+     * mode. Tweets already handed to a consumer are still processed.
+     */
+    void close() {
+        for (Consumer<Tweet> consumer : tweetConsumerList) {
+            if (consumer instanceof IsolatedConsumer isolatedConsumer) {
+                isolatedConsumer.executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * {@return the number of tweets dropped for consumers whose queue was
+     * full in {@link StreamDispatchMode#ISOLATED} mode}
+     */
+    long getDroppedCount() {
+        long droppedCount = 0;
+
+        for (Consumer<Tweet> consumer : tweetConsumerList) {
+            if (consumer instanceof IsolatedConsumer isolatedConsumer) {
+                droppedCount += isolatedConsumer.dropped.sum();
+            }
+        }
+
+        return droppedCount;
+    }
+
+    private static final class IsolatedConsumer implements Consumer<Tweet> {
+
+        private final Consumer<Tweet> tweetConsumer;
+        private final int capacity;
+        private final ThreadPoolExecutor executor;
+        private final LongAdder dropped = new LongAdder();
+
+        private IsolatedConsumer(Consumer<Tweet> tweetConsumer, int capacity) {
+            this.tweetConsumer = tweetConsumer;
+            this.capacity = capacity;
+            this.executor = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacity),
+                    Thread.ofVirtual()
+                            .name("tweet-dispatch-" + tweetConsumer.getClass().getSimpleName())
+                            .factory(),
+                    (task, pool) -> drop());
+        }
+
+        @Override
+        public void accept(Tweet tweet) {
+            executor.execute(() -> {
+                try {
+                    tweetConsumer.accept(tweet);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to dispatch tweet to {}", tweetConsumer, e);
+                }
+            });
+        }
+
+        private void drop() {
+            if (executor.isShutdown()) {
+                LOGGER.debug("Dropping tweet for closed consumer {}", tweetConsumer);
+                return;
+            }
+
+            dropped.increment();
+            final long droppedCount = dropped.sum();
+
+            if (1 == droppedCount || 0 == droppedCount % capacity) {
+                LOGGER.warn("Dropped {} tweets in total for slow consumer {}", droppedCount, tweetConsumer);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return tweetConsumer.toString();
         }
     }
 }
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,32 +25,188 @@ package org.tweetwallfx.tweet.api;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.tweet.api.config.TweeterSettings;
 
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class CompositeTweeter implements Tweeter {
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeTweeter.class);
+    private static final int JOINED_QUEUE_CAPACITY = 256;
+    private static final Cleaner CLEANER = Cleaner.create();
 
     private final List<Tweeter> tweeters;
+    private final TweeterSettings settings;
+    private final List<CompositeTweetStream> tweetStreams = new CopyOnWriteArrayList<>();
+    private final TweetDeduplicator deduplicator;
+    private final List<TweeterBackend> backends;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name("tweeter-call-", 0)
+            .factory());
 
     CompositeTweeter(List<Tweeter> tweeters) {
+        this(tweeters, Configuration.getInstance().getConfigTyped(TweeterSettings.CONFIG_KEY, TweeterSettings.class));
+    }
+
+    CompositeTweeter(List<Tweeter> tweeters, TweeterSettings settings) {
         this.tweeters = tweeters;
+        this.settings = settings;
+        this.deduplicator = settings.deduplication().enabled()
+                ? new TweetDeduplicator(settings.deduplication().capacity())
+                : null;
+        this.backends = tweeters.stream()
+                .map(tweeter -> new TweeterBackend(tweeter, settings.backendCalls()))
+                .toList();
+    }
+
+    /**
+     * Returns the number of tweets rejected as duplicates, i.e. tweets
+     * returned more than once by a single search and tweets delivered by a
+     * tweet stream that have already been delivered by one of the searches or
+     * the tweet streams.
+     *
+     * @return the number of rejected duplicate tweets
+     */
+    public long getDuplicateCount() {
+        return null == deduplicator ? 0 : deduplicator.getHits();
+    }
+
+    private TweetAdmission admission() {
+        return null == deduplicator ? TweetAdmission.ALL : deduplicator;
+    }
+
+    private TweetAdmission searchAdmission() {
+        return null == deduplicator ? TweetAdmission.ALL : deduplicator.perCall();
+    }
+
+    private Stream<Tweet> searchAll(Function<Tweeter, Stream<Tweet>> search) {
+        final TweetAdmission admission = searchAdmission();
+        return getJoined(tweeter -> {
+            final int backend = tweeters.indexOf(tweeter);
+            return search.apply(tweeter).filter(tweet -> admission.admit(backend, tweet));
+        });
+    }
+
+    /**
+     * Returns the statistics of the calls to the combined backends.
+     *
+     * @return the statistics of the calls to the combined backends
+     */
+    public List<BackendStatistics> getBackendStatistics() {
+        return backends.stream()
+                .map(TweeterBackend::statistics)
+                .toList();
     }
 
     <T> T getFirst(Function<Tweeter, T> action) {
-        for (Tweeter tweeter : tweeters) {
-            T result = action.apply(tweeter);
-            if (result != null) {
-                return result;
+        final long deadline = deadline();
+        final List<Future<T>> futures = submitAll(action);
+        try {
+            for (int i = 0; i < backends.size(); i++) {
+                T result = await(backends.get(i), futures.get(i), deadline);
+                if (result != null) {
+                    return result;
+                }
             }
+            return null;
+        } finally {
+            cancelAll(futures);
         }
-        return null;
     }
 
+    /**
+     * Calls the given action on all available backends concurrently and
+     * joins the elements of the resulting streams in the order of their
+     * arrival. The elements are streamed lazily as the backends deliver them.
+     * A backend not having responded with its first element within the
+     * deadline is timed out, as is a backend not delivering its next element
+     * within the timeout while the consumer is waiting for it. The time
+     * spent by the consumer processing the elements is not charged to the
+     * backends.
+     */
     <T> Stream<T> getJoined(Function<Tweeter, Stream<T>> action) {
-        return tweeters.stream().flatMap(action);
+        final JoinedResults<T> joinedResults = new JoinedResults<>(
+                TimeUnit.MILLISECONDS.toNanos(settings.backendCalls().timeoutMillis()));
+        for (TweeterBackend backend : backends) {
+            if (backend.isAvailable()) {
+                joinedResults.feedFrom(backend, action);
+            }
+        }
+        return StreamSupport.stream(joinedResults, false)
+                .onClose(joinedResults::cancel);
+    }
+
+    private long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.backendCalls().timeoutMillis());
+    }
+
+    private <T> List<Future<T>> submitAll(Function<Tweeter, T> action) {
+        final List<Future<T>> futures = new ArrayList<>(backends.size());
+        for (TweeterBackend backend : backends) {
+            futures.add(backend.isAvailable()
+                    ? executor.submit(backend.timed(() -> action.apply(backend.tweeter())))
+                    : null);
+        }
+        return futures;
+    }
+
+    private static <T> T await(TweeterBackend backend, Future<T> future, long deadline) {
+        if (null == future) {
+            // circuit is open
+            return null;
+        }
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            backend.recordTimeout();
+            LOGGER.warn("Tweeter {} did not respond within the deadline", backend.tweeter());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                // the backend does not know the requested tweet or user
+                LOGGER.debug("Tweeter {} rejected the lookup: {}", backend.tweeter(), e.getCause().getMessage());
+            } else {
+                backend.recordFailure();
+                LOGGER.error("Failed to call tweeter {}", backend.tweeter(), e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return null;
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (null != future) {
+                future.cancel(true);
+            }
+        }
     }
 
     @Override
@@ -60,10 +216,12 @@ public final class CompositeTweeter implements Tweeter {
 
     @Override
     public TweetStream createTweetStream(TweetFilterQuery filterQuery) {
-        final CompositeTweetStream compositeTweetStream = new CompositeTweetStream();
-        for (Tweeter tweeter : tweeters) {
+        final CompositeTweetStream compositeTweetStream = new CompositeTweetStream(settings, admission());
+        tweetStreams.add(compositeTweetStream);
+        for (int backend = 0; backend < tweeters.size(); backend++) {
+            final Tweeter tweeter = tweeters.get(backend);
             try {
-                tweeter.createTweetStream(filterQuery).onTweet(compositeTweetStream);
+                tweeter.createTweetStream(filterQuery).onTweet(compositeTweetStream.fromBackend(backend));
             } catch (Throwable t) {
                 LOGGER.error("Failed create tweet with query {} on tweeter {}", filterQuery, tweeter, t);
             }
@@ -113,16 +271,18 @@ public final class CompositeTweeter implements Tweeter {
 
     @Override
     public Stream<Tweet> search(TweetQuery tweetQuery) {
-        return getJoined(tweeter -> tweeter.search(tweetQuery));
+        return searchAll(tweeter -> tweeter.search(tweetQuery));
     }
 
     @Override
     public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages) {
-        return getJoined(tweeter -> tweeter.searchPaged(tweetQuery, numberOfPages));
+        return searchAll(tweeter -> tweeter.searchPaged(tweetQuery, numberOfPages));
     }
 
     @Override
     public void shutdown() {
+        tweetStreams.forEach(CompositeTweetStream::close);
+        executor.shutdownNow();
         for (Tweeter tweeter : tweeters) {
             try {
                 tweeter.shutdown();
@@ -131,4 +291,180 @@ public final class CompositeTweeter implements Tweeter {
             }
         }
     }
+
+    /**
+     * Calls the given action on the backend and hands its elements followed
+     * by its completion to the queue. Nothing is handed over once the call
+     * has been cancelled.
+     */
+    private static <T> Callable<Void> feed(BlockingQueue<Signal<T>> queue, TweeterBackend backend, Function<Tweeter, Stream<T>> action) {
+        return () -> {
+            Throwable failure = null;
+            try {
+                backend.timed(() -> {
+                    try (Stream<T> elements = action.apply(backend.tweeter())) {
+                        elements.forEach(element -> put(queue, new Signal<>(backend, element, false, null)));
+                    }
+                    return null;
+                }).call();
+            } catch (Throwable t) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // cancelled by the consumer, so there is nobody to report to
+                    return null;
+                }
+                failure = t;
+            }
+            put(queue, new Signal<>(backend, null, true, failure));
+            return null;
+        };
+    }
+
+    private static <T> void put(BlockingQueue<Signal<T>> queue, Signal<T> signal) {
+        try {
+            queue.put(signal);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted");
+        }
+    }
+
+    /**
+     * The elements of the streams of multiple backends, delivered through a
+     * bounded queue fed by the virtual threads calling the backends.
+     *
+     * <p>
+     * A backend blocked on the full queue waits for the consumer without
+     * being timed out. The calls of the backends are cancelled once the
+     * stream is closed or, if it is abandoned without being closed, once it
+     * has become unreachable.
+     */
+    private final class JoinedResults<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final BlockingQueue<Signal<T>> queue = new ArrayBlockingQueue<>(JOINED_QUEUE_CAPACITY);
+        private final Map<TweeterBackend, Future<?>> pending = new LinkedHashMap<>();
+        // shared with the cleaning action, which must not reach the results
+        private final List<Future<?>> calls = new CopyOnWriteArrayList<>();
+        private final Set<TweeterBackend> responded = new HashSet<>();
+        private final long timeoutNanos;
+        private final long deadline;
+
+        private JoinedResults(long timeoutNanos) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.timeoutNanos = timeoutNanos;
+            this.deadline = System.nanoTime() + timeoutNanos;
+            final List<Future<?>> backendCalls = calls;
+            CLEANER.register(this, () -> cancelAll(backendCalls));
+        }
+
+        private void feedFrom(TweeterBackend backend, Function<Tweeter, Stream<T>> action) {
+            final Future<?> call = executor.submit(feed(queue, backend, action));
+            pending.put(backend, call);
+            calls.add(call);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> consumer) {
+            while (!pending.isEmpty()) {
+                final boolean awaitingResponse = !responded.containsAll(pending.keySet());
+                final Signal<T> signal;
+                try {
+                    signal = queue.poll(
+                            awaitingResponse ? Math.max(0, deadline - System.nanoTime()) : timeoutNanos,
+                            TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel();
+                    return false;
+                }
+
+                if (null == signal) {
+                    if (awaitingResponse) {
+                        timeOut(backend -> !responded.contains(backend));
+                    } else {
+                        timeOut(backend -> true);
+                    }
+                    continue;
+                }
+
+                responded.add(signal.backend());
+                if (!signal.completed()) {
+                    consumer.accept(signal.element());
+                    return true;
+                }
+
+                pending.remove(signal.backend());
+                if (null != signal.failure()) {
+                    signal.backend().recordFailure();
+                    LOGGER.error("Failed to call tweeter {}", signal.backend().tweeter(), signal.failure());
+                }
+            }
+            return false;
+        }
+
+        private void timeOut(Predicate<TweeterBackend> timedOut) {
+            pending.entrySet().removeIf(entry -> {
+                if (!timedOut.test(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().cancel(true);
+                entry.getKey().recordTimeout();
+                LOGGER.warn("Tweeter {} did not respond within the deadline", entry.getKey().tweeter());
+                return true;
+            });
+        }
+
+        private void cancel() {
+            pending.values().forEach(future -> future.cancel(true));
+            pending.clear();
+        }
+    }
+
+    /**
+     * Either an element delivered by the given backend or the completion of
+     * the backend, possibly due to the given failure.
+     */
+    private record Signal<T>(TweeterBackend backend, T element, boolean completed, Throwable failure) {
+    }
+
+    /**
+     * Statistics of the calls to a backend combined by
+     * {@link CompositeTweeter}.
+     *
+     * <p>
+     * Param {@code backend} the description of the backend
+     *
+     * <p>
+     * Param {@code calls} the number of successful calls
+     *
+     * <p>
+     * Param {@code failures} the number of failed calls
+     *
+     * <p>
+     * Param {@code timeouts} the number of calls exceeding the deadline
+     *
+     * <p>
+     * Param {@code skipped} the number of calls skipped due to an open
+     * circuit
+     *
+     * <p>
+     * Param {@code averageLatency} the average latency of the successful
+     * calls
+     *
+     * <p>
+     * Param {@code maxLatency} the maximum latency of the successful calls
+     *
+     * <p>
+     * Param {@code circuitOpen} flag indicating that the backend is currently
+     * skipped or only called on a trial basis
+     */
+    public record BackendStatistics(
+            String backend,
+            long calls,
+            long failures,
+            long timeouts,
+            long skipped,
+            Duration averageLatency,
+            Duration maxLatency,
+            boolean circuitOpen) {
+    }
 }
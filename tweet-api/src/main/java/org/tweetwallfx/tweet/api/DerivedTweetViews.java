@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.tweetwallfx.tweet.api.entry.EmojiTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the views derived from the data of a {@link Tweet}, i.e. its emoji
+ * entries, its display enhanced text and its texts without certain types of
+ * entries.
+ *
+ * <p>
+ * {@link Tweet} implementations opt in to memoizing these views by holding an
+ * instance of this class per tweet instance and returning it from
+ * {@link Tweet#getDerivedViews()}. The views are computed lazily on first
+ * access. As they are immutable, concurrent first accesses at worst compute
+ * a view more than once.
+ *
+ * <p>
+ * Instances are equal to each other so that they do not affect the equality
+ * of the tweets holding them.
+ */
+public final class DerivedTweetViews {
+
+    private volatile List<EmojiTweetEntry> emojiEntries;
+    private volatile String displayEnhancedText;
+    // indexed by the bit mask of the entry types removed
+    private final AtomicReferenceArray<String> textsWithout = new AtomicReferenceArray<>(1 << Tweet.TextExtractor.ENTRY_TYPES.size());
+
+    /**
+     * Computes the views commonly needed for displaying the given tweet so
+     * that they are available when the tweet is displayed. This is meant to be
+     * called when a tweet is ingested off the JavaFX application thread. Does
+     * nothing if the tweet does not memoize its views.
+     *
+     * @param tweet the tweet to compute the views for
+     */
+    public static void precompute(final Tweet tweet) {
+        if (null == tweet.getDerivedViews()) {
+            return;
+        }
+
+        tweet.getEmojiEntries();
+        tweet.getDisplayEnhancedText();
+        tweet.getTextWithout(UrlTweetEntry.class)
+                .getTextWithout(MediaTweetEntry.class)
+                .getTextWithout(UserMentionTweetEntry.class)
+                .get();
+    }
+
+    List<EmojiTweetEntry> emojiEntries(final Supplier<List<EmojiTweetEntry>> computation) {
+        List<EmojiTweetEntry> result = emojiEntries;
+
+        if (null == result) {
+            result = computation.get();
+            emojiEntries = result;
+        }
+
+        return result;
+    }
+
+    String displayEnhancedText(final Supplier<String> computation) {
+        String result = displayEnhancedText;
+
+        if (null == result) {
+            result = computation.get();
+            displayEnhancedText = result;
+        }
+
+        return result;
+    }
+
+    String textWithout(final int entryTypes, final Supplier<String> computation) {
+        String result = textsWithout.get(entryTypes);
+
+        if (null == result) {
+            result = computation.get();
+            textsWithout.set(entryTypes, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof DerivedTweetViews;
+    }
+
+    @Override
+    public int hashCode() {
+        return DerivedTweetViews.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return DerivedTweetViews.class.getSimpleName();
+    }
+}
@@ -33,14 +33,9 @@ import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
 import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.toCollection;
 
 public interface Tweet extends BasicEntry {
 
@@ -121,8 +116,26 @@ public interface Tweet extends BasicEntry {
 
     boolean isTruncated();
 
+    /**
+     * Returns the cache of the views derived from this tweet (see
+     * {@link #getEmojiEntries()}, {@link #getDisplayEnhancedText()} and
+     * {@link #getTextWithout(java.lang.Class)}). Implementations opt in to
+     * memoizing these views by returning an instance of
+     * {@link DerivedTweetViews} held per tweet instance.
+     *
+     * @return the cache of the derived views or {@code null} in case the
+     * views are computed on every access
+     */
+    public default DerivedTweetViews getDerivedViews() {
+        return null;
+    }
+
     public default String getDisplayEnhancedText() {
-        return getDisplayEnhancedTextExtractor().get();
+        final DerivedTweetViews derivedViews = getDerivedViews();
+
+        return null == derivedViews
+                ? getDisplayEnhancedTextExtractor().get()
+                : derivedViews.displayEnhancedText(() -> getDisplayEnhancedTextExtractor().get());
     }
 
     public default TextExtractor getDisplayEnhancedTextExtractor() {
@@ -143,17 +156,33 @@ public interface Tweet extends BasicEntry {
     }
 
     public default List<EmojiTweetEntry> getEmojiEntries() {
-        final int[] codePoints = getText().codePoints().toArray();
-        final AtomicInteger offset = new AtomicInteger(0);
-
-        return IntStream.range(0, codePoints.length)
-                .filter(Character::isEmoji)
-                .mapToObj(i -> {
-                    final int charCount = Character.charCount(codePoints[i]);
-                    final int cOffset = offset.getAndAdd(charCount - 1);
-                    return new EmojiTweetEntry(new String(codePoints, i, 1), cOffset + i, charCount);
-                })
-                .toList();
+        final DerivedTweetViews derivedViews = getDerivedViews();
+
+        return null == derivedViews
+                ? computeEmojiEntries(getText())
+                : derivedViews.emojiEntries(() -> computeEmojiEntries(getText()));
+    }
+
+    private static List<EmojiTweetEntry> computeEmojiEntries(final String text) {
+        final List<EmojiTweetEntry> emojiEntries = new ArrayList<>();
+        // the start of an emoji is its code point index plus the additional
+        // chars of the emojis preceding it
+        int offset = 0;
+        int codePointIndex = 0;
+
+        for (int i = 0; i < text.length(); codePointIndex++) {
+            final int codePoint = text.codePointAt(i);
+            final int charCount = Character.charCount(codePoint);
+
+            if (Character.isEmoji(codePoint)) {
+                emojiEntries.add(new EmojiTweetEntry(Character.toString(codePoint), offset + codePointIndex, charCount));
+                offset += charCount - 1;
+            }
+
+            i += charCount;
+        }
+
+        return List.copyOf(emojiEntries);
     }
 
     public default TextExtractor getTextWithout(final Class<? extends TweetEntry> entryToRemove) {
@@ -163,8 +192,17 @@ public interface Tweet extends BasicEntry {
     @SuppressWarnings("CanIgnoreReturnValueSuggester")
     public static final class TextExtractor {
 
-        private final Set<TweetEntry> entriesToRemove = new TreeSet<>(Comparator.comparingInt(TweetEntry::getStart).reversed());
+        static final List<Class<? extends TweetEntry>> ENTRY_TYPES = List.of(
+                EmojiTweetEntry.class,
+                HashtagTweetEntry.class,
+                MediaTweetEntry.class,
+                SymbolTweetEntry.class,
+                UrlTweetEntry.class,
+                UserMentionTweetEntry.class);
+        private final List<TweetEntry> entriesToRemove = new ArrayList<>();
         private final Tweet tweet;
+        // bit mask of the indexes in ENTRY_TYPES of the entry types to remove
+        private int entryTypesToRemove;
 
         public TextExtractor(final Tweet tweet) {
             this.tweet = tweet;
@@ -180,52 +218,120 @@ public interface Tweet extends BasicEntry {
 
         public TextExtractor getTextWithout(final Class<? extends TweetEntry> entryToRemove) {
             if (null != entryToRemove) {
-                if (EmojiTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getEmojiEntries());
-                } else if (HashtagTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getHashtagEntries());
-                } else if (MediaTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getMediaEntries());
-                } else if (SymbolTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getSymbolEntries());
-                } else if (UrlTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getUrlEntries());
-                } else if (UserMentionTweetEntry.class.isAssignableFrom(entryToRemove)) {
-                    entriesToRemove.addAll(tweet.getUserMentionEntries());
+                for (int i = 0; i < ENTRY_TYPES.size(); i++) {
+                    if (ENTRY_TYPES.get(i).isAssignableFrom(entryToRemove)) {
+                        entryTypesToRemove |= 1 << i;
+                        break;
+                    }
                 }
             }
 
             return this;
         }
 
+        /**
+         * Returns the text of the tweet without the characters covered by the
+         * entries to remove. Consecutive spaces of the remaining text are
+         * collapsed into a single one and leading and trailing whitespace is
+         * removed.
+         *
+         * @return the text of the tweet without the entries to remove
+         */
         public String get() {
-            if (entriesToRemove.isEmpty()) {
-                return tweet.getText();
+            final DerivedTweetViews derivedViews = tweet.getDerivedViews();
+
+            // only texts without whole types of entries are memoized
+            return null == derivedViews || 0 == entryTypesToRemove || !entriesToRemove.isEmpty()
+                    ? extract()
+                    : derivedViews.textWithout(entryTypesToRemove, this::extract);
+        }
+
+        private List<? extends TweetEntry> getEntries(final Class<? extends TweetEntry> entryType) {
+            if (EmojiTweetEntry.class == entryType) {
+                return tweet.getEmojiEntries();
+            } else if (HashtagTweetEntry.class == entryType) {
+                return tweet.getHashtagEntries();
+            } else if (MediaTweetEntry.class == entryType) {
+                return tweet.getMediaEntries();
+            } else if (SymbolTweetEntry.class == entryType) {
+                return tweet.getSymbolEntries();
+            } else if (UrlTweetEntry.class == entryType) {
+                return tweet.getUrlEntries();
+            } else {
+                return tweet.getUserMentionEntries();
             }
+        }
 
-            IntStream filteredIndexes = IntStream.empty();
-            for (TweetEntry tweetEntry : entriesToRemove) {
-                final IntStream nextFilter;
+        private String extract() {
+            final List<TweetEntry> entries = new ArrayList<>(entriesToRemove);
 
-                if (tweetEntry.getStart() == tweetEntry.getEnd()) {
-                    nextFilter = IntStream.of(tweetEntry.getStart());
-                } else {
-                    nextFilter = IntStream.range(tweetEntry.getStart(), tweetEntry.getEnd());
+            for (int i = 0; i < ENTRY_TYPES.size(); i++) {
+                if (0 != (entryTypesToRemove & (1 << i))) {
+                    entries.addAll(getEntries(ENTRY_TYPES.get(i)));
                 }
+            }
 
-                filteredIndexes = IntStream.concat(filteredIndexes, nextFilter);
+            final String text = tweet.getText();
+
+            if (entries.isEmpty()) {
+                return text;
+            }
+
+            final int length = text.length();
+            // ranges encoded as start in the upper and end in the lower 32 bits
+            // so that sorting them orders them by their start
+            final long[] ranges = new long[entries.size()];
+
+            for (int i = 0; i < ranges.length; i++) {
+                final TweetEntry tweetEntry = entries.get(i);
+                // entries without width cover the character at their start
+                final long entryEnd = tweetEntry.getStart() == tweetEntry.getEnd()
+                        ? tweetEntry.getStart() + 1L
+                        : tweetEntry.getEnd();
+                final int start = Math.clamp(tweetEntry.getStart(), 0, length);
+                final int end = Math.clamp(entryEnd, start, length);
+                ranges[i] = ((long) start << 32) | end;
+            }
+
+            Arrays.sort(ranges);
+
+            final StringBuilder sb = new StringBuilder(length);
+            int position = 0;
+
+            for (final long range : ranges) {
+                final int start = (int) (range >>> 32);
+
+                if (start > position) {
+                    appendCollapsingSpaces(sb, text, position, start);
+                }
+
+                position = Math.max(position, (int) range);
             }
 
-            final Set<Integer> indexesToFilterOut = filteredIndexes.boxed().collect(toCollection(TreeSet::new));
-            final int[] chars = tweet.getText().chars().toArray();
-            final int[] filteredChars = IntStream.range(0, chars.length)
-                    .filter(i -> !indexesToFilterOut.contains(i))
-                    .map(i -> chars[i])
-                    .toArray();
+            appendCollapsingSpaces(sb, text, position, length);
 
-            return new String(filteredChars, 0, filteredChars.length)
-                    .replaceAll("  *", " ")
-                    .trim();
+            int begin = 0;
+            int end = sb.length();
+
+            while (begin < end && sb.charAt(begin) <= ' ') {
+                begin++;
+            }
+
+            while (end > begin && sb.charAt(end - 1) <= ' ') {
+                end--;
+            }
+
+            return sb.substring(begin, end);
+        }
+
+        private static void appendCollapsingSpaces(final StringBuilder sb, final String text, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = text.charAt(i);
+
+                if (' ' != c || sb.isEmpty() || ' ' != sb.charAt(sb.length() - 1)) {
+                    sb.append(c);
+                }
+            }
         }
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filter rejecting tweets already seen by {@link CompositeTweeter}.
+ *
+ * <p>
+ * Tweets are identified by the index of the backend having delivered them and
+ * the id of the origin tweet so that retweets of an already seen tweet are
+ * rejected as well. The backend is passed explicitly as the tweets of all
+ * backends are of the same class once converted into {@link TweetSnapshot}s.
+ * The seen keys are kept in a fixed capacity set evicting the oldest key once
+ * the capacity is exceeded. Both checking and evicting work without locking.
+ *
+ * <p>
+ * Searches are not filtered against the tweets seen before, as repeating a
+ * search is expected to return the same tweets again. They are only
+ * deduplicated within a single call (see {@link #perCall()}), while the tweets
+ * returned are remembered so that the tweet streams do not deliver them again.
+ */
+final class TweetDeduplicator implements TweetAdmission {
+
+    private final Set<Key> seenKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicReferenceArray<Key> insertionOrder;
+    private final AtomicLong insertions = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+
+    TweetDeduplicator(int capacity) {
+        this.insertionOrder = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Checks if the given tweet has not been seen before and remembers it.
+     *
+     * @param backend the index of the backend having delivered the tweet
+     *
+     * @param tweet the tweet to check
+     *
+     * @return {@code true} if the tweet has not been seen before
+     */
+    @Override
+    public boolean admit(int backend, Tweet tweet) {
+        if (!remember(keyOf(backend, tweet))) {
+            hits.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a filter rejecting the tweets already accepted by the filter
+     * itself, e.g. during a single search. Tweets seen before by this
+     * deduplicator are accepted, but all accepted tweets are remembered as
+     * seen.
+     *
+     * @return the filter for a single call
+     */
+    TweetAdmission perCall() {
+        final Set<Key> acceptedKeys = ConcurrentHashMap.newKeySet();
+
+        return (backend, tweet) -> {
+            final Key key = keyOf(backend, tweet);
+
+            if (!acceptedKeys.add(key)) {
+                hits.increment();
+                return false;
+            }
+
+            remember(key);
+            return true;
+        };
+    }
+
+    private static Key keyOf(int backend, Tweet tweet) {
+        return new Key(backend, tweet.getOriginTweet().getId());
+    }
+
+    private boolean remember(Key key) {
+        if (!seenKeys.add(key)) {
+            return false;
+        }
+
+        final int slot = (int) (insertions.getAndIncrement() % insertionOrder.length());
+        final Key evictedKey = insertionOrder.getAndSet(slot, key);
+
+        if (null != evictedKey) {
+            seenKeys.remove(evictedKey);
+        }
+
+        return true;
+    }
+
+    /**
+     * {@return the number of rejected duplicate tweets}.
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    private record Key(int backend, long originId) {
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link Flow.Publisher} of the tweets handed to it as {@link Consumer},
+ * honoring the demand signalled by each of its subscribers.
+ *
+ * <p>
+ * Tweets handed over are only buffered per subscriber on the calling thread.
+ * They are delivered by a drain task of the subscription run by the
+ * {@link Executor} of the publisher, by default on a virtual thread, and
+ * never concurrently to the same subscriber. Tweets arriving while a
+ * subscriber has no outstanding demand remain buffered for that subscriber.
+ * Once its buffer is full tweets are dropped according to the
+ * {@link OverflowPolicy}, so a slow subscriber neither blocks the backend nor
+ * the other subscribers.
+ */
+public final class TweetPublisher implements Flow.Publisher<Tweet>, Consumer<Tweet> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetPublisher.class);
+
+    /**
+     * The default number of tweets buffered per subscriber.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = task -> Thread.ofVirtual()
+            .name("tweet-publisher")
+            .start(task);
+
+    private final List<TweetSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher buffering up to {@link #DEFAULT_BUFFER_SIZE} tweets
+     * per subscriber and dropping the oldest buffered tweet on overflow.
+     */
+    public TweetPublisher() {
+        this(DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param bufferSize the maximum number of tweets buffered per subscriber
+     *
+     * @param overflowPolicy the policy applied once the buffer of a subscriber
+     * is full
+     */
+    public TweetPublisher(final int bufferSize, final OverflowPolicy overflowPolicy) {
+        this(bufferSize, overflowPolicy, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Creates a publisher delivering the tweets by means of the given
+     * executor.
+     *
+     * @param bufferSize the maximum number of tweets buffered per subscriber
+     *
+     * @param overflowPolicy the policy applied once the buffer of a subscriber
+     * is full
+     *
+     * @param executor the executor running the delivery to the subscribers
+     */
+    public TweetPublisher(final int bufferSize, final OverflowPolicy overflowPolicy, final Executor executor) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be a positive number");
+        }
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    }
+
+    /**
+     * Creates a {@link Flow.Subscriber} handing the tweets to the given
+     * consumer. Tweets are requested in batches of
+     * {@link #DEFAULT_BUFFER_SIZE}, so the consumer paces the delivery.
+     *
+     * @param tweetConsumer the consumer of the tweets
+     *
+     * @return the subscriber
+     */
+    public static Flow.Subscriber<Tweet> toSubscriber(final Consumer<Tweet> tweetConsumer) {
+        return new ConsumerSubscriber(Objects.requireNonNull(tweetConsumer, "tweetConsumer must not be null"));
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Tweet> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        final TweetSubscription subscription = new TweetSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public void accept(final Tweet tweet) {
+        for (final TweetSubscription subscription : subscriptions) {
+            subscription.offer(tweet);
+        }
+    }
+
+    /**
+     * Checks whether any subscriber is able to take another tweet without it
+     * being dropped, i.e. has outstanding demand or space in its buffer.
+     * Backends may use this to skip the conversion of tweets nobody is going
+     * to receive.
+     *
+     * @return {@code true} in case another tweet is going to be delivered or
+     * buffered
+     */
+    public boolean hasDemand() {
+        for (final TweetSubscription subscription : subscriptions) {
+            if (subscription.hasDemand()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@return the number of tweets dropped for all current subscribers}.
+     */
+    public long getDroppedCount() {
+        return subscriptions.stream()
+                .mapToLong(subscription -> subscription.dropped.sum())
+                .sum();
+    }
+
+    /**
+     * The policy applied when a tweet arrives while the buffer of a
+     * subscriber is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The oldest buffered tweet is dropped in favor of the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The new tweet is dropped.
+         */
+        DROP_LATEST;
+    }
+
+    private final class TweetSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Tweet> subscriber;
+        private final ArrayDeque<Tweet> buffer = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private final LongAdder dropped = new LongAdder();
+        private volatile boolean cancelled;
+
+        private TweetSubscription(final Flow.Subscriber<? super Tweet> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void offer(final Tweet tweet) {
+            if (cancelled) {
+                return;
+            }
+
+            synchronized (buffer) {
+                if (buffer.size() < bufferSize) {
+                    buffer.addLast(tweet);
+                } else {
+                    dropped.increment();
+
+                    if (OverflowPolicy.DROP_OLDEST == overflowPolicy) {
+                        buffer.pollFirst();
+                        buffer.addLast(tweet);
+                    }
+                }
+            }
+
+            drain();
+        }
+
+        private boolean hasDemand() {
+            if (cancelled) {
+                return false;
+            }
+
+            synchronized (buffer) {
+                return buffer.size() < bufferSize;
+            }
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+
+            requested.accumulateAndGet(n, (current, added) -> {
+                final long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+
+        /**
+         * Schedules the delivery of the buffered tweets unless it is already
+         * scheduled. Only one drain task runs at a time, further requests
+         * merely record that another pass is required.
+         */
+        private void drain() {
+            if (0 == drainRequests.getAndIncrement()) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        /**
+         * Delivers buffered tweets as long as there is demand.
+         */
+        private void deliver() {
+            int missed = 1;
+            do {
+                final long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand && !cancelled) {
+                    final Tweet tweet;
+                    synchronized (buffer) {
+                        tweet = buffer.pollFirst();
+                    }
+
+                    if (null == tweet) {
+                        break;
+                    }
+
+                    try {
+                        subscriber.onNext(tweet);
+                    } catch (final RuntimeException e) {
+                        LOGGER.error("Subscriber {} failed to process tweet, cancelling its subscription", subscriber, e);
+                        cancel();
+                    }
+                    emitted++;
+                }
+
+                if (0 != emitted && Long.MAX_VALUE != demand) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = drainRequests.addAndGet(-missed);
+            } while (0 != missed);
+        }
+    }
+
+    private static final class ConsumerSubscriber implements Flow.Subscriber<Tweet> {
+
+        private final Consumer<Tweet> tweetConsumer;
+        private Flow.Subscription subscription;
+        private int received;
+
+        private ConsumerSubscriber(final Consumer<Tweet> tweetConsumer) {
+            this.tweetConsumer = tweetConsumer;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(DEFAULT_BUFFER_SIZE);
+        }
+
+        @Override
+        public void onNext(final Tweet tweet) {
+            try {
+                tweetConsumer.accept(tweet);
+            } finally {
+                if (++received == DEFAULT_BUFFER_SIZE) {
+                    received = 0;
+                    subscription.request(DEFAULT_BUFFER_SIZE);
+                }
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            LOGGER.error("Tweet delivery to {} failed", tweetConsumer, throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            LOGGER.debug("Tweet delivery to {} completed", tweetConsumer);
+        }
+
+        @Override
+        public String toString() {
+            return tweetConsumer.toString();
+        }
+    }
+}
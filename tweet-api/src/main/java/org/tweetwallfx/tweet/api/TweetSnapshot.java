@@ -0,0 +1,682 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.tweetwallfx.util.ToString.createToString;
+import static org.tweetwallfx.util.ToString.map;
+
+/**
+ * Compact immutable copy of the data of a {@link Tweet}.
+ *
+ * <p>
+ * Backends convert the tweets they receive into snapshots at ingest so that
+ * retaining a tweet only retains the data the wall uses instead of the whole
+ * payload of the backend. The creation time is kept in primitive form, the
+ * user is interned (see {@link UserSnapshot#of(User)}) and the entries are
+ * copied into compact records.
+ */
+public final class TweetSnapshot implements Tweet {
+
+    private final long id;
+    private final long createdAtEpochSecond;
+    private final int createdAtNano;
+    private final int favoriteCount;
+    private final int retweetCount;
+    private final long inReplyToTweetId;
+    private final long inReplyToUserId;
+    private final String inReplyToScreenName;
+    private final String lang;
+    private final String text;
+    private final UserSnapshot user;
+    private final boolean retweet;
+    private final boolean truncated;
+    private final TweetSnapshot retweetedTweet;
+    // null if this is the origin tweet
+    private final TweetSnapshot originTweet;
+    private final List<HashtagTweetEntry> hashtagEntries;
+    private final List<MediaTweetEntry> mediaEntries;
+    private final List<SymbolTweetEntry> symbolEntries;
+    private final List<UrlTweetEntry> urlEntries;
+    private final List<UserMentionTweetEntry> userMentionEntries;
+    private final DerivedTweetViews derivedViews = new DerivedTweetViews();
+
+    private TweetSnapshot(final Builder builder) {
+        this.id = builder.id;
+        // the epoch second is used as a compact encoding of the local date time only
+        this.createdAtEpochSecond = null == builder.createdAt ? Long.MIN_VALUE : builder.createdAt.toEpochSecond(ZoneOffset.UTC);
+        this.createdAtNano = null == builder.createdAt ? 0 : builder.createdAt.getNano();
+        this.favoriteCount = builder.favoriteCount;
+        this.retweetCount = builder.retweetCount;
+        this.inReplyToTweetId = builder.inReplyToTweetId;
+        this.inReplyToUserId = builder.inReplyToUserId;
+        this.inReplyToScreenName = builder.inReplyToScreenName;
+        this.lang = builder.lang;
+        this.text = builder.text;
+        this.user = builder.user;
+        this.retweet = builder.retweet;
+        this.truncated = builder.truncated;
+        this.retweetedTweet = builder.retweetedTweet;
+        this.originTweet = builder.originTweet;
+        this.hashtagEntries = builder.hashtagEntries;
+        this.mediaEntries = builder.mediaEntries;
+        this.symbolEntries = builder.symbolEntries;
+        this.urlEntries = builder.urlEntries;
+        this.userMentionEntries = builder.userMentionEntries;
+    }
+
+    /**
+     * Takes a snapshot of the given tweet including the tweets it retweets.
+     *
+     * @param tweet the tweet to take the snapshot of
+     * @return the snapshot of the tweet, {@code tweet} itself in case it
+     * already is a snapshot or {@code null} if {@code tweet} is {@code null}
+     */
+    public static TweetSnapshot of(final Tweet tweet) {
+        return switch (tweet) {
+            case null -> null;
+            case TweetSnapshot tweetSnapshot -> tweetSnapshot;
+            default -> copyOf(tweet);
+        };
+    }
+
+    private static TweetSnapshot copyOf(final Tweet tweet) {
+        final TweetSnapshot retweetedTweet = of(tweet.getRetweetedTweet());
+        final Tweet origin = tweet.getOriginTweet();
+
+        return builder()
+                .withId(tweet.getId())
+                .withCreatedAt(tweet.getCreatedAt())
+                .withFavoriteCount(tweet.getFavoriteCount())
+                .withRetweetCount(tweet.getRetweetCount())
+                .withInReplyToTweetId(tweet.getInReplyToTweetId())
+                .withInReplyToUserId(tweet.getInReplyToUserId())
+                .withInReplyToScreenName(tweet.getInReplyToScreenName())
+                .withLang(tweet.getLang())
+                .withText(tweet.getText())
+                .withUser(tweet.getUser())
+                .withRetweet(tweet.isRetweet())
+                .withTruncated(tweet.isTruncated())
+                .withRetweetedTweet(retweetedTweet)
+                .withOriginTweet(null == origin || tweet == origin
+                        ? null
+                        : null != retweetedTweet && origin.getId() == retweetedTweet.getId() ? retweetedTweet : of(origin))
+                .withHashtagEntries(tweet.getHashtagEntries())
+                .withMediaEntries(tweet.getMediaEntries())
+                .withSymbolEntries(tweet.getSymbolEntries())
+                .withUrlEntries(tweet.getUrlEntries())
+                .withUserMentionEntries(tweet.getUserMentionEntries())
+                .build();
+    }
+
+    /**
+     * Creates a builder for a snapshot, e.g. for decoding a tweet stored in a
+     * compact form of its own without copying it twice.
+     *
+     * @return the created builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static <T, R extends T> List<T> copy(final List<? extends T> entries, final Function<T, R> copier) {
+        if (null == entries || entries.isEmpty()) {
+            return List.of();
+        }
+
+        final List<T> result = new ArrayList<>(entries.size());
+
+        for (final T entry : entries) {
+            result.add(copier.apply(entry));
+        }
+
+        return List.copyOf(result);
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return Long.MIN_VALUE == createdAtEpochSecond
+                ? null
+                : LocalDateTime.ofEpochSecond(createdAtEpochSecond, createdAtNano, ZoneOffset.UTC);
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return favoriteCount;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public long getInReplyToTweetId() {
+        return inReplyToTweetId;
+    }
+
+    @Override
+    public long getInReplyToUserId() {
+        return inReplyToUserId;
+    }
+
+    @Override
+    public String getInReplyToScreenName() {
+        return inReplyToScreenName;
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public int getRetweetCount() {
+        return retweetCount;
+    }
+
+    @Override
+    public Tweet getRetweetedTweet() {
+        return retweetedTweet;
+    }
+
+    @Override
+    public Tweet getOriginTweet() {
+        return null == originTweet ? this : originTweet;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public boolean isRetweet() {
+        return retweet;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public DerivedTweetViews getDerivedViews() {
+        return derivedViews;
+    }
+
+    @Override
+    public List<HashtagTweetEntry> getHashtagEntries() {
+        return hashtagEntries;
+    }
+
+    @Override
+    public List<MediaTweetEntry> getMediaEntries() {
+        return mediaEntries;
+    }
+
+    @Override
+    public List<SymbolTweetEntry> getSymbolEntries() {
+        return symbolEntries;
+    }
+
+    @Override
+    public List<UrlTweetEntry> getUrlEntries() {
+        return urlEntries;
+    }
+
+    @Override
+    public List<UserMentionTweetEntry> getUserMentionEntries() {
+        return userMentionEntries;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof TweetSnapshot other
+                && id == other.id
+                && createdAtEpochSecond == other.createdAtEpochSecond
+                && createdAtNano == other.createdAtNano
+                && favoriteCount == other.favoriteCount
+                && retweetCount == other.retweetCount
+                && inReplyToTweetId == other.inReplyToTweetId
+                && inReplyToUserId == other.inReplyToUserId
+                && retweet == other.retweet
+                && truncated == other.truncated
+                && Objects.equals(inReplyToScreenName, other.inReplyToScreenName)
+                && Objects.equals(lang, other.lang)
+                && Objects.equals(text, other.text)
+                && Objects.equals(user, other.user)
+                && Objects.equals(retweetedTweet, other.retweetedTweet)
+                && Objects.equals(originTweet, other.originTweet)
+                && hashtagEntries.equals(other.hashtagEntries)
+                && mediaEntries.equals(other.mediaEntries)
+                && symbolEntries.equals(other.symbolEntries)
+                && urlEntries.equals(other.urlEntries)
+                && userMentionEntries.equals(other.userMentionEntries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, createdAtEpochSecond, createdAtNano, text, user);
+    }
+
+    @Override
+    public String toString() {
+        return createToString(this, map(
+                "id", getId(),
+                "createdAt", getCreatedAt(),
+                "user", getUser(),
+                "text", getText(),
+                "retweet", isRetweet()
+        ), super.toString());
+    }
+
+    /**
+     * Builder of a {@link TweetSnapshot}. Entries already being entry records
+     * of {@link TweetSnapshot} are taken over as they are.
+     */
+    @SuppressWarnings("CanIgnoreReturnValueSuggester")
+    public static final class Builder {
+
+        private long id;
+        private LocalDateTime createdAt;
+        private int favoriteCount;
+        private int retweetCount;
+        private long inReplyToTweetId;
+        private long inReplyToUserId;
+        private String inReplyToScreenName;
+        private String lang;
+        private String text;
+        private UserSnapshot user;
+        private boolean retweet;
+        private boolean truncated;
+        private TweetSnapshot retweetedTweet;
+        private TweetSnapshot originTweet;
+        private List<HashtagTweetEntry> hashtagEntries = List.of();
+        private List<MediaTweetEntry> mediaEntries = List.of();
+        private List<SymbolTweetEntry> symbolEntries = List.of();
+        private List<UrlTweetEntry> urlEntries = List.of();
+        private List<UserMentionTweetEntry> userMentionEntries = List.of();
+
+        private Builder() {
+        }
+
+        public Builder withId(final long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withCreatedAt(final LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder withFavoriteCount(final int favoriteCount) {
+            this.favoriteCount = favoriteCount;
+            return this;
+        }
+
+        public Builder withRetweetCount(final int retweetCount) {
+            this.retweetCount = retweetCount;
+            return this;
+        }
+
+        public Builder withInReplyToTweetId(final long inReplyToTweetId) {
+            this.inReplyToTweetId = inReplyToTweetId;
+            return this;
+        }
+
+        public Builder withInReplyToUserId(final long inReplyToUserId) {
+            this.inReplyToUserId = inReplyToUserId;
+            return this;
+        }
+
+        public Builder withInReplyToScreenName(final String inReplyToScreenName) {
+            this.inReplyToScreenName = inReplyToScreenName;
+            return this;
+        }
+
+        public Builder withLang(final String lang) {
+            this.lang = lang;
+            return this;
+        }
+
+        public Builder withText(final String text) {
+            this.text = text;
+            return this;
+        }
+
+        /**
+         * Sets the author of the tweet. The user is interned (see
+         * {@link UserSnapshot#of(User)}).
+         *
+         * @param user the author of the tweet
+         *
+         * @return this builder
+         */
+        public Builder withUser(final User user) {
+            this.user = UserSnapshot.of(user);
+            return this;
+        }
+
+        public Builder withRetweet(final boolean retweet) {
+            this.retweet = retweet;
+            return this;
+        }
+
+        public Builder withTruncated(final boolean truncated) {
+            this.truncated = truncated;
+            return this;
+        }
+
+        public Builder withRetweetedTweet(final TweetSnapshot retweetedTweet) {
+            this.retweetedTweet = retweetedTweet;
+            return this;
+        }
+
+        /**
+         * Sets the origin tweet of the tweet (see
+         * {@link Tweet#getOriginTweet()}).
+         *
+         * @param originTweet the origin tweet or {@code null} in case the tweet
+         * is its own origin
+         *
+         * @return this builder
+         */
+        public Builder withOriginTweet(final TweetSnapshot originTweet) {
+            this.originTweet = originTweet;
+            return this;
+        }
+
+        public Builder withHashtagEntries(final List<? extends HashtagTweetEntry> hashtagEntries) {
+            this.hashtagEntries = copy(hashtagEntries, e -> e instanceof HashtagEntry entry
+                    ? entry
+                    : new HashtagEntry(e.getText(), e.getStart(), e.getEnd()));
+            return this;
+        }
+
+        public Builder withMediaEntries(final List<? extends MediaTweetEntry> mediaEntries) {
+            this.mediaEntries = copy(mediaEntries, e -> e instanceof MediaEntry entry
+                    ? entry
+                    : new MediaEntry(e.getId(), e.getMediaUrl(), e.getType(), e.getSizes(), e.getText(), e.getStart(), e.getEnd()));
+            return this;
+        }
+
+        public Builder withSymbolEntries(final List<? extends SymbolTweetEntry> symbolEntries) {
+            this.symbolEntries = copy(symbolEntries, e -> e instanceof SymbolEntry entry
+                    ? entry
+                    : new SymbolEntry(e.getText(), e.getStart(), e.getEnd()));
+            return this;
+        }
+
+        public Builder withUrlEntries(final List<? extends UrlTweetEntry> urlEntries) {
+            this.urlEntries = copy(urlEntries, e -> e instanceof UrlEntry entry
+                    ? entry
+                    : new UrlEntry(e.getURL(), e.getExpandedURL(), e.getDisplayURL(), e.getText(), e.getStart(), e.getEnd()));
+            return this;
+        }
+
+        public Builder withUserMentionEntries(final List<? extends UserMentionTweetEntry> userMentionEntries) {
+            this.userMentionEntries = copy(userMentionEntries, e -> e instanceof UserMentionEntry entry
+                    ? entry
+                    : new UserMentionEntry(e.getId(), e.getName(), e.getScreenName(), e.getText(), e.getStart(), e.getEnd()));
+            return this;
+        }
+
+        public TweetSnapshot build() {
+            return new TweetSnapshot(this);
+        }
+    }
+
+    /**
+     * Compact hashtag entry of a snapshot.
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record HashtagEntry(String text, int start, int end) implements HashtagTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Compact symbol entry of a snapshot.
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record SymbolEntry(String text, int start, int end) implements SymbolTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Compact url entry of a snapshot.
+     *
+     * @param url the URL as contained in the tweet text
+     *
+     * @param expandedUrl the expanded URL
+     *
+     * @param displayUrl the URL to display
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record UrlEntry(String url, String expandedUrl, String displayUrl,
+            String text, int start, int end) implements UrlTweetEntry {
+
+        @Override
+        public String getURL() {
+            return url;
+        }
+
+        @Override
+        public String getExpandedURL() {
+            return expandedUrl;
+        }
+
+        @Override
+        public String getDisplayURL() {
+            return displayUrl;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Compact user mention entry of a snapshot.
+     *
+     * @param id the id of the mentioned user
+     *
+     * @param name the name of the mentioned user
+     *
+     * @param screenName the screen name of the mentioned user
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record UserMentionEntry(long id, String name, String screenName,
+            String text, int start, int end) implements UserMentionTweetEntry {
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getScreenName() {
+            return screenName;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Compact media entry of a snapshot.
+     *
+     * @param id the id of the media
+     *
+     * @param mediaUrl the URL of the media
+     *
+     * @param type the type of the media
+     *
+     * @param sizes the size variations of the media
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record MediaEntry(long id, String mediaUrl, MediaTweetEntryType type, Map<Integer, Size> sizes,
+            String text, int start, int end) implements MediaTweetEntry {
+
+        public MediaEntry {
+            sizes = null == sizes ? Map.of() : Map.copyOf(sizes);
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String getMediaUrl() {
+            return mediaUrl;
+        }
+
+        @Override
+        public MediaTweetEntryType getType() {
+            return type;
+        }
+
+        @Override
+        public Map<Integer, Size> getSizes() {
+            return sizes;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2019 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.tweet.api;
 
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 public interface TweetStream {
@@ -33,4 +34,48 @@ public interface TweetStream {
      * @param tweetConsumer the Consumer to be notified.
      */
     void onTweet(Consumer<Tweet> tweetConsumer);
+
+    /**
+     * Returns a {@link Flow.Publisher} view of this stream buffering up to
+     * {@link TweetPublisher#DEFAULT_BUFFER_SIZE} tweets per subscriber without
+     * demand and dropping the oldest ones beyond.
+     *
+     * @return the publisher of the tweets of this stream
+     */
+    default Flow.Publisher<Tweet> asPublisher() {
+        return asPublisher(TweetPublisher.DEFAULT_BUFFER_SIZE, TweetPublisher.OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} view of this stream. Every call
+     * registers a new publisher with this stream. Backends may override this
+     * method in order to skip converting tweets as long as none of their
+     * publishers {@link TweetPublisher#hasDemand() has demand} and no consumer
+     * is registered.
+     *
+     * @param bufferSize the maximum number of tweets buffered per subscriber
+     * without demand
+     *
+     * @param overflowPolicy the policy applied once the buffer of a subscriber
+     * is full
+     *
+     * @return the publisher of the tweets of this stream
+     */
+    default Flow.Publisher<Tweet> asPublisher(final int bufferSize, final TweetPublisher.OverflowPolicy overflowPolicy) {
+        final TweetPublisher publisher = new TweetPublisher(bufferSize, overflowPolicy);
+        onTweet(publisher);
+        return publisher;
+    }
+
+    /**
+     * Creates a {@link TweetStream} subscribing every consumer registered via
+     * {@link #onTweet(java.util.function.Consumer)} to the given publisher.
+     *
+     * @param publisher the publisher of the tweets
+     *
+     * @return the stream of the published tweets
+     */
+    static TweetStream of(final Flow.Publisher<Tweet> publisher) {
+        return tweetConsumer -> publisher.subscribe(TweetPublisher.toSubscriber(tweetConsumer));
+    }
 }
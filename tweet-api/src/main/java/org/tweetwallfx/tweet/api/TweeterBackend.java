@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.tweetwallfx.tweet.api.config.TweeterSettings;
+
+/**
+ * A {@link Tweeter} combined by {@link CompositeTweeter} together with the
+ * latency statistics of the calls to it and a circuit breaker.
+ *
+ * <p>
+ * The circuit opens once the configured number of consecutive calls failed
+ * or timed out. While it is open the backend is skipped. After the open
+ * duration the backend is called again, closing the circuit on success and
+ * reopening it on failure. Lookups rejected by the backend with an
+ * {@link IllegalArgumentException}, e.g. for an unknown tweet, are not
+ * considered failures.
+ */
+final class TweeterBackend {
+
+    private final Tweeter tweeter;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntilNanos;
+
+    TweeterBackend(Tweeter tweeter, TweeterSettings.BackendCallSettings settings) {
+        this.tweeter = tweeter;
+        this.failureThreshold = settings.failureThreshold();
+        this.openDurationNanos = Duration.ofSeconds(settings.openSeconds()).toNanos();
+    }
+
+    Tweeter tweeter() {
+        return tweeter;
+    }
+
+    /**
+     * Checks if the circuit of this backend is closed (or half open) so that
+     * the backend is to be called. Counts a skipped call otherwise.
+     *
+     * @return {@code true} if the backend is to be called
+     */
+    boolean isAvailable() {
+        if (consecutiveFailures.get() >= failureThreshold
+                && System.nanoTime() - openUntilNanos < 0) {
+            skipped.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Wraps the given action into a {@link Callable} recording the latency
+     * of successful calls.
+     *
+     * @param <T> the type of the result of the action
+     *
+     * @param action the action calling the backend
+     *
+     * @return the wrapping callable
+     */
+    <T> Callable<T> timed(Callable<T> action) {
+        return () -> {
+            final long start = System.nanoTime();
+            final T result = action.call();
+            final long latency = System.nanoTime() - start;
+            calls.increment();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            consecutiveFailures.set(0);
+            return result;
+        };
+    }
+
+    void recordFailure() {
+        failures.increment();
+        recordUnsuccessfulCall();
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+        recordUnsuccessfulCall();
+    }
+
+    private void recordUnsuccessfulCall() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntilNanos = System.nanoTime() + openDurationNanos;
+        }
+    }
+
+    CompositeTweeter.BackendStatistics statistics() {
+        final long successfulCalls = calls.sum();
+        return new CompositeTweeter.BackendStatistics(
+                tweeter.toString(),
+                successfulCalls,
+                failures.sum(),
+                timeouts.sum(),
+                skipped.sum(),
+                Duration.ofNanos(0 == successfulCalls ? 0 : totalLatencyNanos.sum() / successfulCalls),
+                Duration.ofNanos(maxLatencyNanos.get()),
+                consecutiveFailures.get() >= failureThreshold);
+    }
+}
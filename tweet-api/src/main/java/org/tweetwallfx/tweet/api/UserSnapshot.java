@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable copy of the data of a {@link User}.
+ *
+ * <p>
+ * Snapshots are interned by the id of the user so that the tweets of a user
+ * share a single instance as long as the data of the user does not change.
+ * The interning table is bounded and dropped as a whole once it is full, so
+ * it never retains more than a fixed number of users.
+ *
+ * @param id the id of the user
+ * @param name the name of the user
+ * @param screenName the screen name of the user
+ * @param lang the language of the user
+ * @param profileImageUrl the URL of the profile image of the user
+ * @param biggerProfileImageUrl the URL of the bigger profile image of the user
+ * @param followersCount the number of followers of the user
+ * @param verified whether the user is verified
+ */
+public record UserSnapshot(
+        long id,
+        String name,
+        String screenName,
+        String lang,
+        String profileImageUrl,
+        String biggerProfileImageUrl,
+        int followersCount,
+        boolean verified) implements User {
+
+    private static final int MAX_INTERNED_USERS = 10_000;
+    private static final Map<Long, UserSnapshot> INTERNED_USERS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the interned snapshot of the given user.
+     *
+     * @param user the user to take the snapshot of
+     * @return the interned snapshot of the user or {@code null} if
+     * {@code user} is {@code null}
+     */
+    public static UserSnapshot of(final User user) {
+        if (null == user) {
+            return null;
+        }
+
+        final String profileImageUrl = user.getProfileImageUrl();
+        final String biggerProfileImageUrl = user.getBiggerProfileImageUrl();
+        final UserSnapshot snapshot = user instanceof UserSnapshot userSnapshot
+                ? userSnapshot
+                : new UserSnapshot(
+                        user.getId(),
+                        user.getName(),
+                        user.getScreenName(),
+                        user.getLang(),
+                        profileImageUrl,
+                        // share the instance in case both URLs are the same
+                        null != biggerProfileImageUrl && biggerProfileImageUrl.equals(profileImageUrl)
+                                ? profileImageUrl
+                                : biggerProfileImageUrl,
+                        user.getFollowersCount(),
+                        user.isVerified());
+
+        if (INTERNED_USERS.size() >= MAX_INTERNED_USERS) {
+            INTERNED_USERS.clear();
+        }
+
+        return INTERNED_USERS.compute(snapshot.id(), (id, interned) -> snapshot.equals(interned) ? interned : snapshot);
+    }
+
+    @Override
+    public String getBiggerProfileImageUrl() {
+        return biggerProfileImageUrl;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getProfileImageUrl() {
+        return profileImageUrl;
+    }
+
+    @Override
+    public String getScreenName() {
+        return screenName;
+    }
+
+    @Override
+    public int getFollowersCount() {
+        return followersCount;
+    }
+
+    @Override
+    public boolean isVerified() {
+        return verified;
+    }
+}
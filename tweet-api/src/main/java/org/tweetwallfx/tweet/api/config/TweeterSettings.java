@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.config;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.tweetwallfx.config.ConfigurationConverter;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.Tweeter;
+
+/**
+ * POJO for reading Settings concerning the {@link Tweeter} combining the
+ * enabled backends.
+ *
+ * <p>
+ * Param {@code streamDispatch} the mode of dispatching the tweets received
+ * by the backends to the consumers registered on the combined
+ * {@link TweetStream}. Defaults to {@link StreamDispatchMode#INLINE}.
+ *
+ * <p>
+ * Param {@code dispatchQueueCapacity} the number of tweets queued per
+ * consumer in {@link StreamDispatchMode#ISOLATED} mode. Tweets arriving while
+ * the queue of a consumer is full are dropped for that consumer. Defaults to
+ * {@code 1000}.
+ *
+ * <p>
+ * Param {@code deduplication} the settings concerning the rejection of
+ * tweets already delivered by one of the backends
+ *
+ * <p>
+ * Param {@code backendCalls} the settings concerning the concurrent calls to
+ * the backends
+ */
+public record TweeterSettings(
+        StreamDispatchMode streamDispatch,
+        Integer dispatchQueueCapacity,
+        DeduplicationSettings deduplication,
+        BackendCallSettings backendCalls) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "tweeter";
+
+    public TweeterSettings {
+        streamDispatch = Objects.requireNonNullElse(streamDispatch, StreamDispatchMode.INLINE);
+        dispatchQueueCapacity = Objects.requireNonNullElse(dispatchQueueCapacity, 1_000);
+        if (dispatchQueueCapacity <= 0) {
+            throw new IllegalArgumentException("property 'dispatchQueueCapacity' must be a positive number");
+        }
+        deduplication = Objects.requireNonNullElseGet(deduplication, () -> new DeduplicationSettings(null, null));
+        backendCalls = Objects.requireNonNullElseGet(backendCalls, () -> new BackendCallSettings(null, null, null));
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link TweeterSettings#CONFIG_KEY} into {@link TweeterSettings}.
+     */
+    public static final class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return TweeterSettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return TweeterSettings.class;
+        }
+    }
+
+    /**
+     * The mode of dispatching tweets to the {@link Consumer Consumers} of a
+     * combined {@link TweetStream}.
+     */
+    public enum StreamDispatchMode {
+
+        /**
+         * Every {@link Tweet} is passed to the consumers directly on the
+         * thread of the backend having received it.
+         */
+        INLINE,
+        /**
+         * Every consumer processes the tweets on a virtual thread of its own
+         * so that neither a slow consumer nor a burst of one backend blocks
+         * the threads of the other backends. The tweets are queued per
+         * consumer in a bounded queue, dropping the tweets not fitting.
+         *
+         * <p>
+         * As the consumers no longer run one after another, the derived views
+         * of a tweet (see {@link org.tweetwallfx.tweet.api.DerivedTweetViews})
+         * are computed on the thread of the backend before the tweet is
+         * queued for the consumers.
+         */
+        ISOLATED;
+    }
+
+    /**
+     * POJO for the settings concerning the rejection of duplicate tweets
+     * delivered by the searches and the combined {@link TweetStream}.
+     *
+     * <p>
+     * A tweet is considered a duplicate if a tweet of the same backend with
+     * the same origin tweet (see {@link Tweet#getOriginTweet()}) has been
+     * delivered before.
+     *
+     * <p>
+     * Param {@code enabled} flag indicating that duplicate tweets are
+     * rejected. Defaults to {@code false}.
+     *
+     * <p>
+     * Param {@code capacity} the number of most recently delivered tweets
+     * remembered for detecting duplicates. Defaults to {@code 10000}.
+     */
+    public record DeduplicationSettings(
+            Boolean enabled,
+            Integer capacity) {
+
+        public DeduplicationSettings {
+            enabled = Objects.requireNonNullElse(enabled, false);
+            capacity = Objects.requireNonNullElse(capacity, 10_000);
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("property 'capacity' must be a positive number");
+            }
+        }
+    }
+
+    /**
+     * POJO for the settings concerning the calls to the backends. Searches
+     * and lookups are sent to all backends concurrently and the results of
+     * the backends having responded within the deadline are combined.
+     *
+     * <p>
+     * Param {@code timeoutMillis} the deadline in milli seconds for a lookup
+     * across all backends and for the first response of each backend to a
+     * search. It also bounds the wait for each further result of a backend.
+     * Defaults to {@code 30000}.
+     *
+     * <p>
+     * Param {@code failureThreshold} the number of consecutive failed or
+     * timed out calls after which a backend is skipped. Defaults to
+     * {@code 3}.
+     *
+     * <p>
+     * Param {@code openSeconds} the number of seconds a backend is skipped
+     * before it is called again. Defaults to {@code 60}.
+     */
+    public record BackendCallSettings(
+            Long timeoutMillis,
+            Integer failureThreshold,
+            Long openSeconds) {
+
+        public BackendCallSettings {
+            timeoutMillis = Objects.requireNonNullElse(timeoutMillis, 30_000L);
+            if (timeoutMillis <= 0) {
+                throw new IllegalArgumentException("property 'timeoutMillis' must be a positive number");
+            }
+            failureThreshold = Objects.requireNonNullElse(failureThreshold, 3);
+            if (failureThreshold <= 0) {
+                throw new IllegalArgumentException("property 'failureThreshold' must be a positive number");
+            }
+            openSeconds = Objects.requireNonNullElse(openSeconds, 60L);
+            if (openSeconds < 0) {
+                throw new IllegalArgumentException("property 'openSeconds' must not be a negative number");
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,13 +28,24 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.config.TweeterSettings;
+import org.tweetwallfx.tweet.api.config.TweeterSettings.StreamDispatchMode;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @MockitoSettings
@@ -56,8 +67,7 @@ public class CompositeTweetStreamTest {
 
     @Test
     void acceptWithoutConsumers() {
-        doNothing().when(logger).info("Redispatching new received tweet to {}", new CopyOnWriteArrayList<>());
-        assertThatNoException().isThrownBy(() -> compositeTweetStream.accept(tweet));
+        assertThatNoException().isThrownBy(() -> compositeTweetStream.accept(0, tweet));
     }
 
     @Test
@@ -72,10 +82,79 @@ public class CompositeTweetStreamTest {
                 new CopyOnWriteArrayList<>(List.of(tweetConsumerOne, tweetConsumerTwo)));
         compositeTweetStream.onTweet(tweetConsumerTwo);
 
-        doNothing().when(logger).info("Redispatching new received tweet to {}",
-                new CopyOnWriteArrayList<>(List.of(tweetConsumerOne, tweetConsumerTwo)));
         doNothing().when(tweetConsumerOne).accept(tweet);
         doNothing().when(tweetConsumerTwo).accept(tweet);
-        assertThatNoException().isThrownBy(() -> compositeTweetStream.accept(tweet));
+        assertThatNoException().isThrownBy(() -> compositeTweetStream.accept(0, tweet));
+    }
+
+    @Test
+    void acceptWithFailingConsumer() {
+        RuntimeException problem = new RuntimeException("some problem");
+        compositeTweetStream.onTweet(tweetConsumerOne);
+        compositeTweetStream.onTweet(tweetConsumerTwo);
+
+        doThrow(problem).when(tweetConsumerOne).accept(tweet);
+        doNothing().when(tweetConsumerTwo).accept(tweet);
+        assertThatNoException().isThrownBy(() -> compositeTweetStream.accept(0, tweet));
+        verify(logger).error("Failed to dispatch tweet to {}", tweetConsumerOne, problem);
+    }
+
+    @Test
+    void acceptIsolated() {
+        Tweet isolatedTweet = mock(Tweet.class);
+        CompositeTweetStream isolatedTweetStream = new CompositeTweetStream(
+                new TweeterSettings(StreamDispatchMode.ISOLATED, null, null, null), TweetAdmission.ALL);
+        isolatedTweetStream.onTweet(tweetConsumerOne);
+        isolatedTweetStream.onTweet(tweetConsumerTwo);
+
+        try {
+            assertThatNoException().isThrownBy(() -> isolatedTweetStream.accept(0, isolatedTweet));
+            verify(tweetConsumerOne, timeout(1000)).accept(isolatedTweet);
+            verify(tweetConsumerTwo, timeout(1000)).accept(isolatedTweet);
+            // derived views are computed before the tweet is queued
+            verify(isolatedTweet).getDerivedViews();
+        } finally {
+            isolatedTweetStream.close();
+        }
+    }
+
+    @Test
+    void acceptIsolatedDropsTweetsExceedingQueueCapacity() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(2);
+        CompositeTweetStream isolatedTweetStream = new CompositeTweetStream(
+                new TweeterSettings(StreamDispatchMode.ISOLATED, 1, null, null), TweetAdmission.ALL);
+        isolatedTweetStream.onTweet(new Consumer<>() {
+            @Override
+            public void accept(Tweet t) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.countDown();
+            }
+
+            @Override
+            public String toString() {
+                return "blockingConsumer";
+            }
+        });
+
+        try {
+            // the first tweet is processed right away, the second one is queued
+            isolatedTweetStream.accept(0, mock(Tweet.class));
+            isolatedTweetStream.accept(0, mock(Tweet.class));
+            isolatedTweetStream.accept(0, mock(Tweet.class));
+            isolatedTweetStream.accept(0, mock(Tweet.class));
+
+            assertThat(isolatedTweetStream.getDroppedCount()).isEqualTo(2);
+            verify(logger).warn(eq("Dropped {} tweets in total for slow consumer {}"), eq(1L), any());
+        } finally {
+            release.countDown();
+            isolatedTweetStream.close();
+        }
+
+        assertThat(processed.await(1, TimeUnit.SECONDS)).isTrue();
     }
 }
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,20 +23,30 @@
  */
 package org.tweetwallfx.tweet.api;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.config.TweeterSettings;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -73,12 +83,12 @@ class CompositeTweeterTest {
 
     @BeforeEach
     void prepare() {
-        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo));
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo), deduplicating(null));
     }
 
     @AfterEach
     void verifyMocks() {
-        verifyNoInteractions(tweetOne, tweetTwo, userOne, userTwo);
+        verifyNoInteractions(userOne, userTwo);
         verifyNoMoreInteractions(logger, tweeterOne, tweeterTwo, filterQery, tweetStreamOne, tweetStreamTwo, user);
     }
 
@@ -96,9 +106,8 @@ class CompositeTweeterTest {
         assertThat(compositeTweeter.createTweetStream(filterQery))
                 .isInstanceOf(CompositeTweetStream.class)
                 .extracting(CompositeTweetStream.class::cast)
-                .satisfies(compositeStream -> {
-                    verify(tweetStreamOne).onTweet(compositeStream);
-                });
+                .isNotNull();
+        verify(tweetStreamOne).onTweet(any());
         verify(logger).error("Failed create tweet with query {} on tweeter {}", filterQery, tweeterTwo, problem);
     }
 
@@ -111,11 +120,30 @@ class CompositeTweeterTest {
         assertThat(compositeTweeter.getTweet(42L)).isEqualTo(tweetOne);
     }
 
+    @Test
+    void getTweetNotFound() {
+        IllegalArgumentException notFound = new IllegalArgumentException("unknown");
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                new TweeterSettings(null, null, null, new TweeterSettings.BackendCallSettings(null, 1, null)));
+        when(tweeterOne.getTweet(42L)).thenThrow(notFound);
+        when(tweeterTwo.getTweet(42L)).thenReturn(tweetOne);
+
+        assertThat(compositeTweeter.getTweet(42L)).isEqualTo(tweetOne);
+        assertThat(compositeTweeter.getTweet(42L)).isEqualTo(tweetOne);
+        assertThat(compositeTweeter.getBackendStatistics())
+                .extracting(CompositeTweeter.BackendStatistics::failures,
+                        CompositeTweeter.BackendStatistics::circuitOpen)
+                .containsExactly(tuple(0L, false), tuple(0L, false));
+        verify(logger, times(2)).debug("Tweeter {} rejected the lookup: {}", tweeterOne, "unknown");
+    }
+
     @Test
     void getUser() {
         when(tweeterOne.getUser("johnDoe")).thenReturn(user);
 
         assertThat(compositeTweeter.getUser("johnDoe")).isEqualTo(user);
+        // queried concurrently but possibly cancelled before being called
+        verify(tweeterTwo, atMost(1)).getUser("johnDoe");
     }
 
     @Test
@@ -123,7 +151,7 @@ class CompositeTweeterTest {
         when(tweeterOne.getFriends(user)).thenReturn(Stream.of(userOne));
         when(tweeterTwo.getFriends(user)).thenReturn(Stream.of(userTwo));
 
-        assertThat(compositeTweeter.getFriends(user)).containsExactly(userOne, userTwo);
+        assertThat(compositeTweeter.getFriends(user)).containsExactlyInAnyOrder(userOne, userTwo);
     }
 
     @Test
@@ -147,7 +175,7 @@ class CompositeTweeterTest {
         when(tweeterOne.getFollowers(user)).thenReturn(Stream.of(userTwo));
         when(tweeterTwo.getFollowers(user)).thenReturn(Stream.of(userOne));
 
-        assertThat(compositeTweeter.getFollowers(user)).containsExactly(userTwo, userOne);
+        assertThat(compositeTweeter.getFollowers(user)).containsExactlyInAnyOrder(userTwo, userOne);
     }
 
     @Test
@@ -168,18 +196,211 @@ class CompositeTweeterTest {
 
     @Test
     void search() {
+        prepareOriginTweets();
         when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
         when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(tweetTwo));
 
-        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne, tweetTwo);
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactlyInAnyOrder(tweetOne, tweetTwo);
+        assertThat(compositeTweeter.getDuplicateCount()).isZero();
     }
 
     @Test
     void searchPaged() {
+        prepareOriginTweets();
         when(tweeterOne.searchPaged(tweetQuery, 2)).thenReturn(Stream.of(tweetTwo));
         when(tweeterTwo.searchPaged(tweetQuery, 2)).thenReturn(Stream.of(tweetOne));
 
-        assertThat(compositeTweeter.searchPaged(tweetQuery, 2)).containsExactly(tweetTwo, tweetOne);
+        assertThat(compositeTweeter.searchPaged(tweetQuery, 2)).containsExactlyInAnyOrder(tweetTwo, tweetOne);
+        assertThat(compositeTweeter.getDuplicateCount()).isZero();
+    }
+
+    @Test
+    void searchDeduplicated() {
+        when(tweetOne.getOriginTweet()).thenReturn(tweetOne);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetTwo.getOriginTweet()).thenReturn(tweetOne);
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne, tweetTwo));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne);
+        assertThat(compositeTweeter.getDuplicateCount()).isEqualTo(2);
+    }
+
+    @Test
+    void searchRepeated() {
+        prepareOriginTweets();
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne), Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(tweetTwo), Stream.of(tweetTwo));
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactlyInAnyOrder(tweetOne, tweetTwo);
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactlyInAnyOrder(tweetOne, tweetTwo);
+        assertThat(compositeTweeter.getDuplicateCount()).isZero();
+    }
+
+    @Test
+    void searchResultsNotDeliveredByTweetStream() {
+        prepareOriginTweets();
+        List<Tweet> delivered = new ArrayList<>();
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.empty());
+        when(tweeterOne.createTweetStream(filterQery)).thenReturn(tweetStreamOne);
+        when(tweeterTwo.createTweetStream(filterQery)).thenReturn(tweetStreamTwo);
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne);
+        compositeTweeter.createTweetStream(filterQery).onTweet(delivered::add);
+        ArgumentCaptor<Consumer<Tweet>> backendOne = ArgumentCaptor.captor();
+        verify(tweetStreamOne).onTweet(backendOne.capture());
+        verify(tweetStreamTwo).onTweet(any());
+        backendOne.getValue().accept(tweetOne);
+        backendOne.getValue().accept(tweetTwo);
+
+        assertThat(delivered).containsExactly(tweetTwo);
+        assertThat(compositeTweeter.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchSnapshotsOfDifferentBackends() {
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetTwo.getId()).thenReturn(1L);
+        // snapshots of both backends are of the same class and have the same id
+        TweetSnapshot snapshotOne = TweetSnapshot.of(tweetOne);
+        TweetSnapshot snapshotTwo = TweetSnapshot.of(tweetTwo);
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(snapshotOne, snapshotOne));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(snapshotTwo));
+
+        assertThat(compositeTweeter.search(tweetQuery)).satisfiesExactlyInAnyOrder(
+                tweet -> assertThat(tweet).isSameAs(snapshotOne),
+                tweet -> assertThat(tweet).isSameAs(snapshotTwo));
+        assertThat(compositeTweeter.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void tweetStreamSnapshotsOfDifferentBackends() {
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetTwo.getId()).thenReturn(1L);
+        TweetSnapshot snapshotOne = TweetSnapshot.of(tweetOne);
+        TweetSnapshot snapshotTwo = TweetSnapshot.of(tweetTwo);
+        List<Tweet> delivered = new ArrayList<>();
+        when(tweeterOne.createTweetStream(filterQery)).thenReturn(tweetStreamOne);
+        when(tweeterTwo.createTweetStream(filterQery)).thenReturn(tweetStreamTwo);
+
+        compositeTweeter.createTweetStream(filterQery).onTweet(delivered::add);
+        ArgumentCaptor<Consumer<Tweet>> backendOne = ArgumentCaptor.captor();
+        ArgumentCaptor<Consumer<Tweet>> backendTwo = ArgumentCaptor.captor();
+        verify(tweetStreamOne).onTweet(backendOne.capture());
+        verify(tweetStreamTwo).onTweet(backendTwo.capture());
+        backendOne.getValue().accept(snapshotOne);
+        backendTwo.getValue().accept(snapshotTwo);
+        backendOne.getValue().accept(snapshotOne);
+
+        assertThat(delivered).satisfiesExactly(
+                tweet -> assertThat(tweet).isSameAs(snapshotOne),
+                tweet -> assertThat(tweet).isSameAs(snapshotTwo));
+        assertThat(compositeTweeter.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchNotDeduplicated() {
+        // deduplication is disabled by default
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                new TweeterSettings(null, null, null, null));
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne, tweetOne);
+        assertThat(compositeTweeter.getDuplicateCount()).isZero();
+    }
+
+    @Test
+    void searchWithTimedOutBackend() {
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                deduplicating(new TweeterSettings.BackendCallSettings(200L, null, null)));
+        when(tweetOne.getOriginTweet()).thenReturn(tweetOne);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Stream.of(tweetTwo);
+        });
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne);
+        assertThat(compositeTweeter.getBackendStatistics())
+                .extracting(CompositeTweeter.BackendStatistics::calls, CompositeTweeter.BackendStatistics::timeouts)
+                .containsExactly(tuple(1L, 0L), tuple(0L, 1L));
+        verify(logger).warn("Tweeter {} did not respond within the deadline", tweeterTwo);
+    }
+
+    @Test
+    void searchWithPartiallyRespondingBackend() {
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                deduplicating(new TweeterSettings.BackendCallSettings(500L, null, null)));
+        prepareOriginTweets();
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.concat(Stream.of(tweetTwo), Stream.generate(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return tweetTwo;
+        })));
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactlyInAnyOrder(tweetOne, tweetTwo);
+        assertThat(compositeTweeter.getBackendStatistics())
+                .extracting(CompositeTweeter.BackendStatistics::calls, CompositeTweeter.BackendStatistics::timeouts)
+                .containsExactly(tuple(1L, 0L), tuple(0L, 1L));
+        verify(logger).warn("Tweeter {} did not respond within the deadline", tweeterTwo);
+    }
+
+    @Test
+    void searchWithSlowConsumer() throws InterruptedException {
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                new TweeterSettings(null, null, null, new TweeterSettings.BackendCallSettings(200L, null, null)));
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.generate(() -> tweetOne).limit(300));
+        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.empty());
+
+        try (Stream<Tweet> tweets = compositeTweeter.search(tweetQuery)) {
+            Iterator<Tweet> iterator = tweets.iterator();
+            assertThat(iterator.next()).isSameAs(tweetOne);
+            // the backend waits on the full queue beyond the deadline
+            TimeUnit.MILLISECONDS.sleep(300);
+            assertThat(iterator).toIterable().hasSize(299);
+        }
+        assertThat(compositeTweeter.getBackendStatistics())
+                .extracting(CompositeTweeter.BackendStatistics::calls,
+                        CompositeTweeter.BackendStatistics::failures,
+                        CompositeTweeter.BackendStatistics::timeouts)
+                .containsExactly(tuple(1L, 0L, 0L), tuple(1L, 0L, 0L));
+    }
+
+    @Test
+    void searchWithOpenCircuit() {
+        RuntimeException problem = new RuntimeException("some problem");
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo),
+                new TweeterSettings(null, null, new TweeterSettings.DeduplicationSettings(false, null),
+                        new TweeterSettings.BackendCallSettings(null, 1, null)));
+        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne), Stream.of(tweetOne));
+        when(tweeterTwo.search(tweetQuery)).thenThrow(problem);
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne);
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne);
+        assertThat(compositeTweeter.getBackendStatistics())
+                .extracting(CompositeTweeter.BackendStatistics::failures,
+                        CompositeTweeter.BackendStatistics::skipped,
+                        CompositeTweeter.BackendStatistics::circuitOpen)
+                .containsExactly(tuple(0L, 0L, false), tuple(1L, 1L, true));
+        verify(logger).error("Failed to call tweeter {}", tweeterTwo, problem);
+    }
+
+    private static TweeterSettings deduplicating(TweeterSettings.BackendCallSettings backendCalls) {
+        return new TweeterSettings(null, null, new TweeterSettings.DeduplicationSettings(true, null), backendCalls);
+    }
+
+    private void prepareOriginTweets() {
+        when(tweetOne.getOriginTweet()).thenReturn(tweetOne);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetTwo.getOriginTweet()).thenReturn(tweetTwo);
+        when(tweetTwo.getId()).thenReturn(2L);
     }
 
     @Test
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.entry.EmojiTweetEntry;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class DerivedTweetViewsTest {
+    @Mock(name = "tweet", answer = Answers.CALLS_REAL_METHODS)
+    Tweet tweet;
+
+    @Test
+    void viewsAreComputedOnce() {
+        when(tweet.getDerivedViews()).thenReturn(new DerivedTweetViews());
+        when(tweet.getText()).thenReturn("Hello 🌍 world");
+        when(tweet.getHashtagEntries()).thenReturn(List.of());
+
+        assertThat(tweet.getEmojiEntries())
+                .extracting(EmojiTweetEntry::getText, EmojiTweetEntry::getStart)
+                .containsExactly(tuple("🌍", 6));
+        assertThat(tweet.getEmojiEntries()).isSameAs(tweet.getEmojiEntries());
+
+        final String textWithoutEmojis = tweet.getTextWithout(EmojiTweetEntry.class).get();
+        assertThat(textWithoutEmojis).isEqualTo("Hello world");
+        assertThat(tweet.getTextWithout(EmojiTweetEntry.class).get()).isSameAs(textWithoutEmojis);
+        assertThat(tweet.getTextWithout(HashtagTweetEntry.class).get()).isEqualTo("Hello 🌍 world");
+
+        // once for the emoji entries and once per distinct text without entries
+        verify(tweet, times(3)).getText();
+    }
+
+    @Test
+    void viewsAreNotMemoizedWithoutOptIn() {
+        when(tweet.getText()).thenReturn("Hello 🌍");
+
+        assertThat(tweet.getEmojiEntries()).isNotSameAs(tweet.getEmojiEntries());
+        verify(tweet, times(2)).getText();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TextExtractorTest {
+    @Mock(name = "tweet")
+    Tweet tweet;
+    @Mock(name = "hashtag")
+    HashtagTweetEntry hashtag;
+    @Mock(name = "url")
+    UrlTweetEntry url;
+    @Mock(name = "userMention")
+    UserMentionTweetEntry userMention;
+
+    @Test
+    void getWithoutEntries() {
+        when(tweet.getText()).thenReturn("  some   text ");
+
+        assertThat(new Tweet.TextExtractor(tweet).get()).isEqualTo("  some   text ");
+    }
+
+    @Test
+    void getWithoutOverlappingAndUnorderedEntries() {
+        when(tweet.getText()).thenReturn("@duke  loves   #javafx https://t.co/xyz  !");
+        when(tweet.getUrlEntries()).thenReturn(List.of(url));
+        when(url.getStart()).thenReturn(23);
+        when(url.getEnd()).thenReturn(39);
+        when(tweet.getHashtagEntries()).thenReturn(List.of(hashtag));
+        when(hashtag.getStart()).thenReturn(15);
+        when(hashtag.getEnd()).thenReturn(25);
+        when(tweet.getUserMentionEntries()).thenReturn(List.of(userMention));
+        when(userMention.getStart()).thenReturn(0);
+        when(userMention.getEnd()).thenReturn(5);
+
+        assertThat(new Tweet.TextExtractor(tweet)
+                .getTextWithout(UrlTweetEntry.class)
+                .getTextWithout(HashtagTweetEntry.class)
+                .getTextWithout(UserMentionTweetEntry.class)
+                .get()).isEqualTo("loves !");
+    }
+
+    @Test
+    void getWithoutEntryOfZeroWidth() {
+        when(tweet.getText()).thenReturn("a…b");
+        when(tweet.getHashtagEntries()).thenReturn(List.of(hashtag));
+        when(hashtag.getStart()).thenReturn(1);
+        when(hashtag.getEnd()).thenReturn(1);
+
+        assertThat(new Tweet.TextExtractor(tweet).getTextWithout(HashtagTweetEntry.class).get()).isEqualTo("ab");
+    }
+
+    @Test
+    void getWithoutEntryExceedingText() {
+        when(tweet.getText()).thenReturn("text #tag");
+        when(tweet.getHashtagEntries()).thenReturn(List.of(hashtag));
+        when(hashtag.getStart()).thenReturn(5);
+        when(hashtag.getEnd()).thenReturn(42);
+
+        assertThat(new Tweet.TextExtractor(tweet).getTextWithout(HashtagTweetEntry.class).get()).isEqualTo("text");
+    }
+}
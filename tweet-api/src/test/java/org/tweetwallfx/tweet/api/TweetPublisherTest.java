@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.TweetPublisher.OverflowPolicy;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@MockitoSettings
+class TweetPublisherTest {
+    // delivers on the calling thread to keep the tests deterministic
+    private static final Executor DIRECT = Runnable::run;
+
+    @Mock(name = "tweetOne")
+    Tweet tweetOne;
+    @Mock(name = "tweetTwo")
+    Tweet tweetTwo;
+    @Mock(name = "tweetThree")
+    Tweet tweetThree;
+    @Mock(name = "tweetConsumer")
+    Consumer<Tweet> tweetConsumer;
+
+    @Test
+    void invalidBufferSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TweetPublisher(0, OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    void honorsDemand() {
+        final TweetPublisher publisher = new TweetPublisher(10, OverflowPolicy.DROP_OLDEST, DIRECT);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.accept(tweetOne);
+        publisher.accept(tweetTwo);
+        assertThat(subscriber.tweets).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.tweets).containsExactly(tweetOne);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.tweets).containsExactly(tweetOne, tweetTwo);
+
+        publisher.accept(tweetThree);
+        assertThat(subscriber.tweets).containsExactly(tweetOne, tweetTwo, tweetThree);
+        assertThat(publisher.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void dropsOldest() {
+        final TweetPublisher publisher = new TweetPublisher(2, OverflowPolicy.DROP_OLDEST, DIRECT);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.accept(tweetOne);
+        publisher.accept(tweetTwo);
+        assertThat(publisher.hasDemand()).isFalse();
+        publisher.accept(tweetThree);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.tweets).containsExactly(tweetTwo, tweetThree);
+        assertThat(publisher.getDroppedCount()).isOne();
+        assertThat(publisher.hasDemand()).isTrue();
+    }
+
+    @Test
+    void dropsLatest() {
+        final TweetPublisher publisher = new TweetPublisher(2, OverflowPolicy.DROP_LATEST, DIRECT);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.accept(tweetOne);
+        publisher.accept(tweetTwo);
+        publisher.accept(tweetThree);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.tweets).containsExactly(tweetOne, tweetTwo);
+        assertThat(publisher.getDroppedCount()).isOne();
+    }
+
+    @Test
+    void cancelAndInvalidRequest() {
+        final TweetPublisher publisher = new TweetPublisher();
+        final RecordingSubscriber cancelling = new RecordingSubscriber();
+        final RecordingSubscriber invalid = new RecordingSubscriber();
+        publisher.subscribe(cancelling);
+        publisher.subscribe(invalid);
+
+        cancelling.subscription.request(1);
+        cancelling.subscription.cancel();
+        invalid.subscription.request(0);
+        publisher.accept(tweetOne);
+
+        assertThat(cancelling.tweets).isEmpty();
+        assertThat(invalid.tweets).isEmpty();
+        assertThat(invalid.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(publisher.hasDemand()).isFalse();
+    }
+
+    @Test
+    void adaptsConsumers() {
+        final TweetPublisher publisher = new TweetPublisher();
+        final TweetStream tweetStream = TweetStream.of(publisher);
+        tweetStream.onTweet(tweetConsumer);
+
+        publisher.accept(tweetOne);
+
+        verify(tweetConsumer, timeout(5_000)).accept(tweetOne);
+    }
+
+    @Test
+    void publishesTweetStream() throws InterruptedException {
+        final TweetPublisher backend = new TweetPublisher(TweetPublisher.DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST, DIRECT);
+        final TweetStream tweetStream = TweetStream.of(backend);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        tweetStream.asPublisher(1, OverflowPolicy.DROP_LATEST).subscribe(subscriber);
+
+        backend.accept(tweetOne);
+        backend.accept(tweetTwo);
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.received.poll(5, TimeUnit.SECONDS)).isSameAs(tweetOne);
+        assertThat(subscriber.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void slowSubscriberBlocksNeitherBackendNorOthers() throws InterruptedException {
+        final TweetPublisher publisher = new TweetPublisher();
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingSubscriber blocked = new RecordingSubscriber() {
+            @Override
+            public void onNext(Tweet tweet) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(tweet);
+            }
+        };
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(blocked);
+        publisher.subscribe(subscriber);
+        blocked.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        publisher.accept(tweetOne);
+        publisher.accept(tweetTwo);
+
+        assertThat(subscriber.received.poll(5, TimeUnit.SECONDS)).isSameAs(tweetOne);
+        assertThat(subscriber.received.poll(5, TimeUnit.SECONDS)).isSameAs(tweetTwo);
+        assertThat(blocked.tweets).isEmpty();
+        release.countDown();
+        assertThat(blocked.received.poll(5, TimeUnit.SECONDS)).isSameAs(tweetOne);
+        assertThat(blocked.received.poll(5, TimeUnit.SECONDS)).isSameAs(tweetTwo);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Tweet> {
+
+        private final List<Tweet> tweets = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<Tweet> received = new LinkedBlockingQueue<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Tweet tweet) {
+            tweets.add(tweet);
+            received.add(tweet);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TweetSnapshotTest {
+    @Mock(name = "tweet")
+    Tweet tweet;
+    @Mock(name = "retweetedTweet")
+    Tweet retweetedTweet;
+    @Mock(name = "user")
+    User user;
+    @Mock(name = "hashtag")
+    HashtagTweetEntry hashtag;
+
+    @Test
+    void ofNull() {
+        assertThat(TweetSnapshot.of(null)).isNull();
+        assertThat(UserSnapshot.of(null)).isNull();
+    }
+
+    @Test
+    void ofTweet() {
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 10, 50, 21, 123_456_789);
+        when(tweet.getId()).thenReturn(4711L);
+        when(tweet.getCreatedAt()).thenReturn(createdAt);
+        when(tweet.getFavoriteCount()).thenReturn(3);
+        when(tweet.getRetweetCount()).thenReturn(2);
+        when(tweet.getLang()).thenReturn("en");
+        when(tweet.getText()).thenReturn("Hello #world");
+        when(tweet.getUser()).thenReturn(user);
+        when(tweet.getHashtagEntries()).thenReturn(List.of(hashtag));
+        when(hashtag.getText()).thenReturn("world");
+        when(hashtag.getStart()).thenReturn(6);
+        when(hashtag.getEnd()).thenReturn(12);
+        prepareUser(1001L, 10);
+
+        final TweetSnapshot snapshot = TweetSnapshot.of(tweet);
+
+        assertThat(snapshot.getId()).isEqualTo(4711L);
+        assertThat(snapshot.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(snapshot.getFavoriteCount()).isEqualTo(3);
+        assertThat(snapshot.getRetweetCount()).isEqualTo(2);
+        assertThat(snapshot.getLang()).isEqualTo("en");
+        assertThat(snapshot.getText()).isEqualTo("Hello #world");
+        assertThat(snapshot.isRetweet()).isFalse();
+        assertThat(snapshot.getRetweetedTweet()).isNull();
+        assertThat(snapshot.getOriginTweet()).isSameAs(snapshot);
+        assertThat(snapshot.getUser()).isEqualTo(new UserSnapshot(1001L, "Duke", "duke", "en", "profile", "profile", 10, true));
+        assertThat(snapshot.getHashtagEntries()).singleElement().satisfies(entry -> {
+            assertThat(entry.getText()).isEqualTo("world");
+            assertThat(entry.getStart()).isEqualTo(6);
+            assertThat(entry.getEnd()).isEqualTo(12);
+        });
+        assertThat(snapshot.getMediaEntries()).isEmpty();
+        assertThat(snapshot.getTextWithout(HashtagTweetEntry.class).get()).isEqualTo("Hello");
+        assertThat(TweetSnapshot.of(snapshot)).isSameAs(snapshot);
+    }
+
+    @Test
+    void ofRetweet() {
+        when(tweet.getId()).thenReturn(4712L);
+        when(tweet.isRetweet()).thenReturn(true);
+        when(tweet.getRetweetedTweet()).thenReturn(retweetedTweet);
+        when(tweet.getOriginTweet()).thenReturn(retweetedTweet);
+        when(retweetedTweet.getId()).thenReturn(4711L);
+        when(retweetedTweet.getText()).thenReturn("original");
+
+        final TweetSnapshot snapshot = TweetSnapshot.of(tweet);
+
+        assertThat(snapshot.isRetweet()).isTrue();
+        assertThat(snapshot.getCreatedAt()).isNull();
+        assertThat(snapshot.getUser()).isNull();
+        assertThat(snapshot.getRetweetedTweet()).isInstanceOf(TweetSnapshot.class).satisfies(retweeted -> {
+            assertThat(retweeted.getId()).isEqualTo(4711L);
+            assertThat(retweeted.getText()).isEqualTo("original");
+        });
+        assertThat(snapshot.getOriginTweet()).isSameAs(snapshot.getRetweetedTweet());
+    }
+
+    @Test
+    void builder() {
+        final TweetSnapshot.HashtagEntry entry = new TweetSnapshot.HashtagEntry("world", 6, 12);
+
+        final TweetSnapshot snapshot = TweetSnapshot.builder()
+                .withId(4713L)
+                .withText("Hello #world")
+                .withHashtagEntries(List.of(entry))
+                .build();
+
+        assertThat(snapshot.getId()).isEqualTo(4713L);
+        assertThat(snapshot.getText()).isEqualTo("Hello #world");
+        assertThat(snapshot.getOriginTweet()).isSameAs(snapshot);
+        assertThat(snapshot.getHashtagEntries()).singleElement().isSameAs(entry);
+        assertThat(snapshot.getUrlEntries()).isEmpty();
+    }
+
+    @Test
+    void usersAreInterned() {
+        prepareUser(1002L, 10);
+        final UserSnapshot first = UserSnapshot.of(user);
+
+        assertThat(UserSnapshot.of(user)).isSameAs(first);
+        assertThat(UserSnapshot.of(new UserSnapshot(1002L, "Duke", "duke", "en", "profile", "profile", 10, true))).isSameAs(first);
+        assertThat(UserSnapshot.of(new UserSnapshot(1002L, "Duke", "duke", "en", "profile", "profile", 11, true)))
+                .isNotSameAs(first)
+                .extracting(UserSnapshot::getFollowersCount)
+                .isEqualTo(11);
+    }
+
+    private void prepareUser(final long id, final int followersCount) {
+        when(user.getId()).thenReturn(id);
+        when(user.getName()).thenReturn("Duke");
+        when(user.getScreenName()).thenReturn("duke");
+        when(user.getLang()).thenReturn("en");
+        when(user.getProfileImageUrl()).thenReturn("profile");
+        when(user.getBiggerProfileImageUrl()).thenReturn("profile");
+        when(user.getFollowersCount()).thenReturn(followersCount);
+        when(user.isVerified()).thenReturn(true);
+    }
+}
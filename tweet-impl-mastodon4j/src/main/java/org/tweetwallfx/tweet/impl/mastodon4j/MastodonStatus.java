@@ -37,24 +37,27 @@ import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 final class MastodonStatus implements Tweet {
 
     private final Status status;
+    private final MastodonAccount account;
 
     public MastodonStatus(Status status) {
         this.status = status;
+        this.account = null == status.account() ? null : new MastodonAccount(status.account());
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
-        return status.created_at().toLocalDateTime();
+        return null == status.created_at() ? null : status.created_at().toLocalDateTime();
     }
 
     @Override
     public int getFavoriteCount() {
-        return status.favourites_count();
+        return Objects.requireNonNullElse(status.favourites_count(), 0);
     }
 
     @Override
@@ -92,7 +95,7 @@ final class MastodonStatus implements Tweet {
 
     @Override
     public int getRetweetCount() {
-        return status.reblogs_count();
+        return Objects.requireNonNullElse(status.reblogs_count(), 0);
     }
 
     @Override
@@ -113,7 +116,7 @@ final class MastodonStatus implements Tweet {
 
     @Override
     public User getUser() {
-        return new MastodonAccount(status.account());
+        return account;
     }
 
     @Override
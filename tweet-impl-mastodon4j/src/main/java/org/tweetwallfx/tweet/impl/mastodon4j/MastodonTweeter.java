@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -51,6 +51,7 @@ import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
 import org.tweetwallfx.tweet.api.TweetStream;
 import org.tweetwallfx.tweet.api.Tweeter;
 import org.tweetwallfx.tweet.api.User;
@@ -143,6 +144,7 @@ public class MastodonTweeter implements Tweeter {
         try {
             return Optional.ofNullable(client.statuses().get(Long.toString(tweetId)))
                     .map(MastodonStatus::new)
+                    .map(TweetSnapshot::of)
                     .orElse(null);
         } catch (RuntimeException e) {
             LOGGER.error("Unexpected failure on backend", e);
@@ -204,7 +206,8 @@ public class MastodonTweeter implements Tweeter {
         LOGGER.debug("search({})", tweetQuery);
         return KEYWORD_DELEMITER.splitAsStream(tweetQuery.getQuery())
                 .flatMap(keyword -> queryStatuses(keyword, null))
-                .map(MastodonStatus::new);
+                .map(MastodonStatus::new)
+                .map(TweetSnapshot::of);
     }
 
     @Override
@@ -212,7 +215,8 @@ public class MastodonTweeter implements Tweeter {
         LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
         return KEYWORD_DELEMITER.splitAsStream(tweetQuery.getQuery())
                 .flatMap(keyword -> queryStatuses(keyword, numberOfPages))
-                .map(MastodonStatus::new);
+                .map(MastodonStatus::new)
+                .map(TweetSnapshot::of);
     }
 
     private Stream<Status> queryStatuses(String keyword, Integer numberOfPages) {
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -27,15 +27,25 @@ import org.mastodon4j.core.api.entities.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetPublisher;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
 import org.tweetwallfx.tweet.api.TweetStream;
 
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
+/**
+ * {@link TweetStream} of the statuses streamed by Mastodon. Statuses are only
+ * converted into tweets in case a consumer is registered or a publisher
+ * returned by {@link #asPublisher(int, TweetPublisher.OverflowPolicy)} has
+ * demand for them.
+ */
 final class StatusStream implements TweetStream, Consumer<Status> {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatusStream.class);
 
     private final CopyOnWriteArrayList<Consumer<Tweet>> consumers;
+    private final CopyOnWriteArrayList<TweetPublisher> publishers = new CopyOnWriteArrayList<>();
 
     StatusStream() {
         consumers = new CopyOnWriteArrayList<>();
@@ -47,10 +57,23 @@ final class StatusStream implements TweetStream, Consumer<Status> {
         consumers.add(tweetConsumer);
     }
 
+    @Override
+    public Flow.Publisher<Tweet> asPublisher(int bufferSize, TweetPublisher.OverflowPolicy overflowPolicy) {
+        LOGGER.debug("asPublisher({}, {})", bufferSize, overflowPolicy);
+        final TweetPublisher publisher = new TweetPublisher(bufferSize, overflowPolicy);
+        publishers.add(publisher);
+        return publisher;
+    }
+
     @Override
     public void accept(Status status) {
         LOGGER.debug("Notify status:\n{}", status);
-        final MastodonStatus mastodonStatus = new MastodonStatus(status);
-        consumers.forEach(tweetConsumer -> tweetConsumer.accept(mastodonStatus));
+        if (consumers.isEmpty() && publishers.stream().noneMatch(TweetPublisher::hasDemand)) {
+            LOGGER.debug("Skipping status {} without demand", status.id());
+            return;
+        }
+        final Tweet tweet = TweetSnapshot.of(new MastodonStatus(status));
+        consumers.forEach(tweetConsumer -> tweetConsumer.accept(tweet));
+        publishers.forEach(publisher -> publisher.accept(tweet));
     }
 }
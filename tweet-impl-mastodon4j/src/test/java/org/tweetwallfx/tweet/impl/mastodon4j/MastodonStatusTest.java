@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -30,10 +30,11 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.tweetwallfx.tweet.impl.mastodon4j.MastodonEntities.createAccount;
 
 class MastodonStatusTest {
     ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.systemDefault());
-    MastodonStatus status = new MastodonStatus(new Status("42", null, createdAt, null,
+    MastodonStatus status = new MastodonStatus(new Status("42", null, createdAt, createAccount("7", "johnDoe"),
             "<p>the status message html</p>", null, null, null, null,
             null, null, null, null, 33, 22, null,
             null, null, null, null, null, null, "german",
@@ -113,8 +114,8 @@ class MastodonStatusTest {
 
     @Test
     void getUser() {
-        assertThat(status.getUser()).isInstanceOf(MastodonAccount.class);
-        assertThat(statusWithoutOptionals.getUser()).isInstanceOf(MastodonAccount.class);
+        assertThat(status.getUser()).isInstanceOf(MastodonAccount.class).isSameAs(status.getUser());
+        assertThat(statusWithoutOptionals.getUser()).isNull();
     }
 
     @Test
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -31,11 +31,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetPublisher;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
 
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.tweetwallfx.tweet.impl.mastodon4j.MastodonEntities.createStatus;
 
@@ -67,6 +72,7 @@ class StatusStreamTest {
     void acceptNoConsumers() {
         Status status = createStatus("4711", "gugus");
         doNothing().when(logger).debug("Notify status:\n{}", status);
+        doNothing().when(logger).debug("Skipping status {} without demand", "4711");
         assertThatNoException().isThrownBy(() -> stream.accept(status));
     }
 
@@ -75,8 +81,31 @@ class StatusStreamTest {
         Status status = createStatus("4711", "gugus");
         doNothing().when(logger).debug("onTweet({})", tweetConsumer);
         doNothing().when(logger).debug("Notify status:\n{}", status);
-        doNothing().when(tweetConsumer).accept(new MastodonStatus(status));
+        doNothing().when(tweetConsumer).accept(TweetSnapshot.of(new MastodonStatus(status)));
         stream.onTweet(tweetConsumer);
         assertThatNoException().isThrownBy(() -> stream.accept(status));
     }
+
+    @Test
+    void acceptPublisherWithoutSubscriber() {
+        Status status = createStatus("4711", "gugus");
+        doNothing().when(logger).debug("asPublisher({}, {})", 1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        doNothing().when(logger).debug("Notify status:\n{}", status);
+        doNothing().when(logger).debug("Skipping status {} without demand", "4711");
+        stream.asPublisher(1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        assertThatNoException().isThrownBy(() -> stream.accept(status));
+    }
+
+    @Test
+    void acceptPublisherWithSubscriber() {
+        Status status = createStatus("4711", "gugus");
+        doNothing().when(logger).debug("asPublisher({}, {})", 1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        doNothing().when(logger).debug("Notify status:\n{}", status);
+        doNothing().when(tweetConsumer).accept(TweetSnapshot.of(new MastodonStatus(status)));
+        Flow.Publisher<Tweet> publisher = stream.asPublisher(1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        publisher.subscribe(TweetPublisher.toSubscriber(tweetConsumer));
+        assertThatNoException().isThrownBy(() -> stream.accept(status));
+        // delivered asynchronously by the publisher
+        verify(tweetConsumer, timeout(5_000)).accept(TweetSnapshot.of(new MastodonStatus(status)));
+    }
 }
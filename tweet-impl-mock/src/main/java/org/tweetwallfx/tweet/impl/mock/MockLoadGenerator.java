@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import net.datafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Produces posts at a high rate following the configured
+ * {@link MockSettings.LoadProfile}. The texts are precomputed upon creation so
+ * that producing a post merely picks from the corpus.
+ *
+ * <p>
+ * Posts are due at absolute points in time measured from the start of the
+ * generator. All posts due are produced at once before parking until the next
+ * one is due, so intervals below the resolution of the scheduler still result
+ * in the configured average rate.
+ */
+final class MockLoadGenerator implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MockLoadGenerator.class);
+    private static final String[] EMOJIS = {"😀", "😂", "😍", "🎉", "🔥", "👍", "👏", "🚀", "☕", "💡", "🙌", "🤯"};
+    private static final int RECENT_POSTS = 64;
+    private static final int MAX_BURST = 1024;
+    // the generator skips posts it cannot catch up with instead of bursting them
+    private static final long MAX_LAG_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final MockSettings.LoadGenerator settings;
+    private final SplittableRandom random;
+    private final String[] texts;
+    private final User[] users;
+    private final LongSupplier ids;
+    private final Consumer<Tweet> postConsumer;
+    private final Tweet[] recentPosts = new Tweet[RECENT_POSTS];
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private long originals;
+
+    MockLoadGenerator(
+            final MockSettings.LoadGenerator settings,
+            final SplittableRandom random,
+            final Faker faker,
+            final List<User> users,
+            final List<String> mentions,
+            final List<String> hashtags,
+            final LongSupplier ids,
+            final Consumer<Tweet> postConsumer) {
+        this.settings = settings;
+        this.random = random;
+        this.users = users.toArray(User[]::new);
+        this.ids = ids;
+        this.postConsumer = postConsumer;
+        this.texts = new String[settings.corpusSize()];
+
+        for (int i = 0; i < texts.length; i++) {
+            final StringJoiner text = new StringJoiner(" ");
+            for (final String word : faker.lorem().words(random.nextInt(7, 20))) {
+                text.add(word);
+                if (random.nextDouble() < settings.emojiDensity()) {
+                    text.add(EMOJIS[random.nextInt(EMOJIS.length)]);
+                }
+            }
+            mentions.forEach(mention -> text.add("@" + mention));
+            hashtags.forEach(hashtag -> text.add("#" + hashtag));
+            texts[i] = text.toString();
+        }
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("Starting load generator with {}", settings);
+        final long start = System.nanoTime();
+        long due = start;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final long now = System.nanoTime();
+
+                if (due - now > 0) {
+                    LockSupport.parkNanos(due - now);
+                    continue;
+                }
+
+                for (int burst = 0; burst < MAX_BURST && due - now <= 0; burst++) {
+                    postConsumer.accept(nextPost());
+                    generated.increment();
+                    due += intervalNanos(due - start);
+                }
+
+                if (now - due > MAX_LAG_NANOS) {
+                    skipped.add((now - due) / intervalNanos(now - start));
+                    due = now;
+                }
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.error("Load generator failed", e);
+        }
+
+        LOGGER.info("Load generator stopped after {} posts ({} skipped)", generated.sum(), skipped.sum());
+    }
+
+    /**
+     * Returns the interval between two posts at the given point in time of
+     * the load profile.
+     *
+     * @param elapsedNanos the time elapsed since the start of the generator
+     *
+     * @return the interval in nanoseconds
+     */
+    long intervalNanos(final long elapsedNanos) {
+        final long intervalNanos = TimeUnit.MICROSECONDS.toNanos(settings.intervalMicros());
+
+        return switch (settings.profile()) {
+            case STEADY ->
+                intervalNanos;
+            case RAMP -> {
+                final double progress = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(settings.rampSeconds());
+                yield (long) (intervalNanos / Math.clamp(progress, 0.01, 1.0));
+            }
+            case SPIKE -> {
+                final long periodNanos = TimeUnit.SECONDS.toNanos(settings.spikePeriodSeconds());
+                yield elapsedNanos % periodNanos < TimeUnit.SECONDS.toNanos(settings.spikeSeconds())
+                        ? Math.max(1, (long) (intervalNanos / settings.spikeFactor()))
+                        : intervalNanos;
+            }
+        };
+    }
+
+    /**
+     * Assembles the next post from the corpus. Only called from the thread
+     * running the generator.
+     *
+     * @return the next post
+     */
+    Tweet nextPost() {
+        final long id = ids.getAsLong();
+        final User user = users[random.nextInt(users.length)];
+        final LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
+
+        if (originals > 0 && random.nextDouble() < settings.retweetRatio()) {
+            final Tweet origin = recentPosts[random.nextInt((int) Math.min(originals, RECENT_POSTS))];
+            return new MockPost(id, "RT " + origin.getText(), user, createdAt, origin, 0, 0);
+        }
+
+        final Tweet post = random.nextDouble() < settings.mediaRatio()
+                ? new MockPost(id, texts[random.nextInt(texts.length)], user, createdAt, null,
+                        random.nextInt(10), random.nextInt(10),
+                        new MockPostMedia(random.nextInt(500), random.nextInt(300, 1600), random.nextInt(200, 1200)))
+                : new MockPost(id, texts[random.nextInt(texts.length)], user, createdAt, null,
+                        random.nextInt(10), random.nextInt(10));
+        recentPosts[(int) (originals++ % RECENT_POSTS)] = post;
+        return post;
+    }
+
+    /**
+     * {@return the number of posts produced}.
+     */
+    long getGeneratedCount() {
+        return generated.sum();
+    }
+}
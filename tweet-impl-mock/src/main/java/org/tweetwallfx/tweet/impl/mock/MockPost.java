@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.tweet.impl.mock;
 
+import org.tweetwallfx.tweet.api.DerivedTweetViews;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.User;
 import org.tweetwallfx.tweet.api.entry.EmojiTweetEntry;
@@ -39,7 +40,19 @@ import java.util.Objects;
 public record MockPost(long id, String text, User user, LocalDateTime created,
                        Tweet originPost,
                        int favoriteCount, int repostCount,
-                       List<MediaTweetEntry> mediaTweetEntries) implements Tweet {
+                       List<MediaTweetEntry> mediaTweetEntries,
+                       DerivedTweetViews derivedViews) implements Tweet {
+
+    public MockPost {
+        derivedViews = Objects.requireNonNullElseGet(derivedViews, DerivedTweetViews::new);
+    }
+
+    public MockPost(long id, String text, User user, LocalDateTime created,
+                    Tweet originPost,
+                    int favoriteCount, int repostCount,
+                    List<MediaTweetEntry> mediaTweetEntries) {
+        this(id, text, user, created, originPost, favoriteCount, repostCount, mediaTweetEntries, null);
+    }
 
     public MockPost(long id, String text, User user, LocalDateTime created,
                     Tweet originPost,
@@ -148,6 +161,11 @@ public record MockPost(long id, String text, User user, LocalDateTime created,
         return List.of();
     }
 
+    @Override
+    public DerivedTweetViews getDerivedViews() {
+        return derivedViews;
+    }
+
     @Override
     public List<EmojiTweetEntry> getEmojiEntries() {
         return Tweet.super.getEmojiEntries();
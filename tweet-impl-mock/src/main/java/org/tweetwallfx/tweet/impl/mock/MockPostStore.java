@@ -0,0 +1,485 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.tweetwallfx.tweet.api.Tweet;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Retains the simulated posts ordered by their creation time, bounded by
+ * their number and age.
+ *
+ * <p>
+ * The posts are kept in a concurrent skip list so that streaming them is
+ * safe while posts are added and evicted concurrently. Lookups by id go
+ * through an open addressing hash table keyed by the primitive id, which is
+ * read optimistically without locking. Searches go through an inverted index
+ * mapping the terms of the posts onto skip lists of the posts containing
+ * them, maintained along with the retained posts.
+ */
+final class MockPostStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(Key::id);
+
+    private final int maxPosts;
+    private final long maxAgeSeconds;
+    private final Clock clock;
+    private final ConcurrentNavigableMap<Key, IndexedPost> timeline = new ConcurrentSkipListMap<>(KEY_ORDER);
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+    private final StampedLock lock = new StampedLock();
+    // replaced as a whole on growth so that readers always see matching arrays
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private volatile int size;
+
+    MockPostStore(final int maxPosts, final long maxAgeSeconds, final Clock clock) {
+        this.maxPosts = maxPosts;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Adds the given post replacing a post with the same id and evicts the
+     * oldest posts exceeding the retention limits.
+     *
+     * @param post the post to add
+     */
+    void add(final Tweet post) {
+        final IndexedPost indexedPost = new IndexedPost(post, MockSearchQuery.terms(post));
+        final Key key = Key.of(post);
+        final long stamp = lock.writeLock();
+        try {
+            final Tweet replaced = put(post);
+
+            if (null == replaced) {
+                size++;
+            } else {
+                unindex(Key.of(replaced), timeline.remove(Key.of(replaced)));
+            }
+
+            timeline.put(key, indexedPost);
+            indexedPost.terms().forEach(term -> postings.computeIfAbsent(term, t -> new Posting()).add(key, post));
+            evict();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the post with the given id.
+     *
+     * @param id the id of the post
+     *
+     * @return the post or {@code null} in case no post with the id is
+     * retained
+     */
+    Tweet get(final long id) {
+        long stamp = lock.tryOptimisticRead();
+        Tweet post = table.get(id);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                post = table.get(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return post;
+    }
+
+    /**
+     * Returns the retained posts from the oldest to the newest. The stream
+     * reflects the state of the store at some point at or since its
+     * creation and never fails due to concurrent modifications.
+     *
+     * @return the retained posts
+     */
+    Stream<Tweet> stream() {
+        return timeline.values().stream().map(IndexedPost::post);
+    }
+
+    /**
+     * Searches the retained posts matching the given query from the newest
+     * to the oldest. Each page continues strictly before the oldest post of
+     * the previous page, so posts added while paging do not shift the pages.
+     * The first page is evaluated immediately, each further one once the
+     * stream reaches it.
+     *
+     * @param query the query to evaluate
+     *
+     * @param numberOfPages the maximum number of pages to return
+     *
+     * @return the matching posts
+     */
+    Stream<Tweet> search(final MockSearchQuery query, final int numberOfPages) {
+        evictExpired();
+
+        if (null == query.count()) {
+            return numberOfPages < 1
+                    ? Stream.empty()
+                    : matches(query, null).map(Map.Entry::getValue);
+        }
+
+        final int count = query.count();
+        return Stream.iterate(
+                page(query, null, count),
+                page -> !page.isEmpty(),
+                page -> page.size() < count ? List.of() : page(query, page.getLast().getKey(), count))
+                .limit(Math.max(0, numberOfPages))
+                .flatMap(page -> page.stream().map(Map.Entry::getValue));
+    }
+
+    /**
+     * Evicts the posts exceeding the age limit.
+     */
+    void evictExpired() {
+        if (isExpired(timeline.firstEntry())) {
+            final long stamp = lock.writeLock();
+            try {
+                evict();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * {@return the number of retained posts}.
+     */
+    int size() {
+        return size;
+    }
+
+    private List<Map.Entry<Key, Tweet>> page(final MockSearchQuery query, final Key before, final int count) {
+        return matches(query, before).limit(count).toList();
+    }
+
+    private Stream<Map.Entry<Key, Tweet>> matches(final MockSearchQuery query, final Key before) {
+        final Key lower = null == query.since() ? null : new Key(query.since(), Long.MIN_VALUE);
+        Key upper = null == query.until() ? null : new Key(query.until(), Long.MIN_VALUE);
+        if (null != before && (null == upper || KEY_ORDER.compare(before, upper) < 0)) {
+            upper = before;
+        }
+
+        // the condition matching the least posts drives the search, all others are checked per post
+        Set<String> driver = null;
+        long driverSize = Long.MAX_VALUE;
+        for (final Set<String> condition : query.conditions()) {
+            final long conditionSize = condition.stream().mapToLong(this::postingSize).sum();
+            if (conditionSize < driverSize) {
+                driver = condition;
+                driverSize = conditionSize;
+            }
+        }
+
+        final Iterator<Map.Entry<Key, Tweet>> candidates;
+        if (null == driver) {
+            final Iterator<Map.Entry<Key, IndexedPost>> posts = range(timeline, lower, upper).entrySet().iterator();
+            candidates = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return posts.hasNext();
+                }
+
+                @Override
+                public Map.Entry<Key, Tweet> next() {
+                    final Map.Entry<Key, IndexedPost> entry = posts.next();
+                    return Map.entry(entry.getKey(), entry.getValue().post());
+                }
+            };
+        } else {
+            final List<Iterator<Map.Entry<Key, Tweet>>> iterators = new ArrayList<>();
+            for (final String term : driver) {
+                final Posting posting = postings.get(term);
+                if (null != posting) {
+                    iterators.add(range(posting.posts, lower, upper).entrySet().iterator());
+                }
+            }
+            candidates = iterators.size() == 1 ? iterators.getFirst() : new MergingIterator(iterators);
+        }
+
+        final Set<String> drivingCondition = driver;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(candidates,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .filter(entry -> query.conditions().stream()
+                        .filter(condition -> condition != drivingCondition)
+                        .allMatch(condition -> condition.stream().anyMatch(term -> contains(term, entry.getKey()))))
+                .filter(entry -> query.excludedTerms().stream().noneMatch(term -> contains(term, entry.getKey())))
+                .filter(entry -> query.filter().test(entry.getValue()));
+    }
+
+    private static <V> ConcurrentNavigableMap<Key, V> range(
+            final ConcurrentNavigableMap<Key, V> map, final Key lower, final Key upper) {
+        ConcurrentNavigableMap<Key, V> range = map;
+        if (null != lower) {
+            range = range.tailMap(lower, true);
+        }
+        if (null != upper) {
+            range = range.headMap(upper, false);
+        }
+        return range.descendingMap();
+    }
+
+    private long postingSize(final String term) {
+        final Posting posting = postings.get(term);
+        return null == posting ? 0 : posting.size;
+    }
+
+    private boolean contains(final String term, final Key key) {
+        final Posting posting = postings.get(term);
+        return null != posting && posting.posts.containsKey(key);
+    }
+
+    private void evict() {
+        for (Map.Entry<Key, IndexedPost> oldest = timeline.firstEntry();
+                null != oldest && (size > maxPosts || isExpired(oldest));
+                oldest = timeline.firstEntry()) {
+            timeline.remove(oldest.getKey());
+            table.remove(oldest.getKey().id());
+            unindex(oldest.getKey(), oldest.getValue());
+            size--;
+        }
+    }
+
+    private void unindex(final Key key, final IndexedPost indexedPost) {
+        if (null != indexedPost) {
+            indexedPost.terms().forEach(term -> postings.computeIfPresent(term,
+                    (t, posting) -> posting.remove(key) ? null : posting));
+        }
+    }
+
+    private boolean isExpired(final Map.Entry<Key, IndexedPost> entry) {
+        final LocalDateTime createdAt = null == entry ? null : entry.getKey().createdAt();
+        return null != createdAt
+                && createdAt.isBefore(LocalDateTime.now(clock).minusSeconds(maxAgeSeconds));
+    }
+
+    private Tweet put(final Tweet post) {
+        Table current = table;
+
+        if (2 * (size + 1) > current.ids.length) {
+            current = current.resize(2 * current.ids.length);
+            table = current;
+        }
+
+        return current.put(post.getId(), post);
+    }
+
+    private record Key(LocalDateTime createdAt, long id) {
+
+        static Key of(final Tweet post) {
+            return new Key(post.getCreatedAt(), post.getId());
+        }
+    }
+
+    private record IndexedPost(Tweet post, Set<String> terms) {
+    }
+
+    /**
+     * The posts containing a term. Mutated under the write lock only.
+     */
+    private static final class Posting {
+
+        private final ConcurrentNavigableMap<Key, Tweet> posts = new ConcurrentSkipListMap<>(KEY_ORDER);
+        private volatile int size;
+
+        void add(final Key key, final Tweet post) {
+            if (null == posts.put(key, post)) {
+                size++;
+            }
+        }
+
+        /**
+         * Removes the post with the given key.
+         *
+         * @return {@code true} if the posting became empty
+         */
+        boolean remove(final Key key) {
+            if (null != posts.remove(key)) {
+                size--;
+            }
+            return 0 == size;
+        }
+    }
+
+    /**
+     * Merges the entries of several iterators each returning its entries from
+     * the newest to the oldest into a single such iterator without
+     * duplicates.
+     */
+    private static final class MergingIterator implements Iterator<Map.Entry<Key, Tweet>> {
+
+        private final PriorityQueue<Head> heads = new PriorityQueue<>();
+
+        MergingIterator(final List<Iterator<Map.Entry<Key, Tweet>>> iterators) {
+            iterators.forEach(this::advance);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<Key, Tweet> next() {
+            final Head head = heads.poll();
+            if (null == head) {
+                throw new NoSuchElementException();
+            }
+
+            advance(head.iterator());
+            // drop the same post contained in other iterators
+            while (!heads.isEmpty() && KEY_ORDER.compare(heads.peek().entry().getKey(), head.entry().getKey()) == 0) {
+                advance(heads.poll().iterator());
+            }
+
+            return head.entry();
+        }
+
+        private void advance(final Iterator<Map.Entry<Key, Tweet>> iterator) {
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        private record Head(Map.Entry<Key, Tweet> entry, Iterator<Map.Entry<Key, Tweet>> iterator)
+                implements Comparable<Head> {
+
+            @Override
+            public int compareTo(final Head other) {
+                // newest first
+                return KEY_ORDER.compare(other.entry.getKey(), entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Linear probing hash table from the id onto the post. A {@code null}
+     * post marks a free slot. Mutated under the write lock only.
+     */
+    private static final class Table {
+
+        private final long[] ids;
+        private final Tweet[] posts;
+
+        Table(final int capacity) {
+            this.ids = new long[capacity];
+            this.posts = new Tweet[capacity];
+        }
+
+        Tweet get(final long id) {
+            final int mask = ids.length - 1;
+
+            // bounded as concurrent writers may leave no free slot in view
+            for (int slot = hash(id) & mask, probes = 0; probes < ids.length; slot = (slot + 1) & mask, probes++) {
+                final Tweet post = posts[slot];
+
+                if (null == post || ids[slot] == id) {
+                    return post;
+                }
+            }
+
+            return null;
+        }
+
+        Tweet put(final long id, final Tweet post) {
+            final int mask = ids.length - 1;
+            int slot = hash(id) & mask;
+
+            while (null != posts[slot] && ids[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+
+            final Tweet replaced = posts[slot];
+            ids[slot] = id;
+            posts[slot] = post;
+            return replaced;
+        }
+
+        void remove(final long id) {
+            final int mask = ids.length - 1;
+            int slot = hash(id) & mask;
+
+            while (null != posts[slot] && ids[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (null == posts[slot]) {
+                return;
+            }
+
+            // shift back the entries of the probe sequence following the freed slot
+            for (int next = (slot + 1) & mask; null != posts[next]; next = (next + 1) & mask) {
+                final int home = hash(ids[next]) & mask;
+
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    ids[slot] = ids[next];
+                    posts[slot] = posts[next];
+                    slot = next;
+                }
+            }
+
+            posts[slot] = null;
+        }
+
+        Table resize(final int capacity) {
+            final Table resized = new Table(capacity);
+
+            for (int slot = 0; slot < ids.length; slot++) {
+                if (null != posts[slot]) {
+                    resized.put(ids[slot], posts[slot]);
+                }
+            }
+
+            return resized;
+        }
+
+        private static int hash(final long id) {
+            final long mixed = id * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
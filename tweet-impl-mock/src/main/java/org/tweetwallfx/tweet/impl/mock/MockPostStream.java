@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2024 TweetWallFX
+ * Copyright (c) 2024-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,15 +26,24 @@ package org.tweetwallfx.tweet.impl.mock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetPublisher;
 import org.tweetwallfx.tweet.api.TweetStream;
 
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 
+/**
+ * {@link TweetStream} of the generated posts. Posts are only dispatched in
+ * case a consumer is registered or a publisher returned by
+ * {@link #asPublisher(int, TweetPublisher.OverflowPolicy)} has demand for
+ * them.
+ */
 final class MockPostStream implements TweetStream, Consumer<Tweet> {
     private static final Logger LOGGER = LoggerFactory.getLogger(MockPostStream.class);
 
     private final CopyOnWriteArrayList<Consumer<Tweet>> consumers;
+    private final CopyOnWriteArrayList<TweetPublisher> publishers = new CopyOnWriteArrayList<>();
 
     MockPostStream() {
         consumers = new CopyOnWriteArrayList<>();
@@ -46,9 +55,22 @@ final class MockPostStream implements TweetStream, Consumer<Tweet> {
         consumers.add(tweetConsumer);
     }
 
+    @Override
+    public Flow.Publisher<Tweet> asPublisher(int bufferSize, TweetPublisher.OverflowPolicy overflowPolicy) {
+        LOGGER.debug("asPublisher({}, {})", bufferSize, overflowPolicy);
+        final TweetPublisher publisher = new TweetPublisher(bufferSize, overflowPolicy);
+        publishers.add(publisher);
+        return publisher;
+    }
+
     @Override
     public void accept(Tweet post) {
         LOGGER.debug("Notify post:\n{}", post);
+        if (consumers.isEmpty() && publishers.stream().noneMatch(TweetPublisher::hasDemand)) {
+            LOGGER.debug("Skipping post {} without demand", post.getId());
+            return;
+        }
         consumers.forEach(tweetConsumer -> tweetConsumer.accept(post));
+        publishers.forEach(publisher -> publisher.accept(post));
     }
 }
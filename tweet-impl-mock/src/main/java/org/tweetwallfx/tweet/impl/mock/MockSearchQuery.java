@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link TweetQuery} prepared for the evaluation against the terms indexed
+ * by the {@link MockPostStore}.
+ *
+ * <p>
+ * The query string is split into conditions which are AND connected. Terms
+ * joined by {@code OR} form a single condition matching either of them. A
+ * term is a word, a {@code #hashtag} or an {@code @handle} matched case
+ * insensitively, where a handle matches both mentions and the author of a
+ * post. Terms prefixed with {@code -} exclude matching posts. The operators
+ * {@code filter:media}, {@code filter:links} and {@code filter:retweets}
+ * restrict the posts to those with media, links or to reposts respectively
+ * and may be negated as well.
+ *
+ * @param conditions the AND connected conditions each matching any of its
+ * terms
+ * @param excludedTerms the terms of posts excluded from the result
+ * @param filter the conditions not backed by the index
+ * @param since the earliest creation time of posts or {@code null}
+ * @param until the creation time all posts are created before or
+ * {@code null}
+ * @param count the number of posts per page or {@code null} for a single
+ * page containing all posts
+ */
+record MockSearchQuery(
+        List<Set<String>> conditions,
+        Set<String> excludedTerms,
+        Predicate<Tweet> filter,
+        LocalDateTime since,
+        LocalDateTime until,
+        Integer count) {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_#@]+");
+    private static final Pattern URL = Pattern.compile("https?://\\S+");
+
+    MockSearchQuery {
+        conditions = List.copyOf(conditions);
+        excludedTerms = Set.copyOf(excludedTerms);
+    }
+
+    /**
+     * Prepares the given query.
+     *
+     * @param tweetQuery the query to prepare
+     *
+     * @return the prepared query
+     *
+     * @throws IllegalArgumentException in case {@code since} or {@code until}
+     * are not formatted as {@code YYYY-MM-DD} or {@code count} is not positive
+     */
+    static MockSearchQuery of(final TweetQuery tweetQuery) {
+        final List<Set<String>> conditions = new ArrayList<>();
+        final Set<String> excludedTerms = new LinkedHashSet<>();
+        Predicate<Tweet> filter = post -> true;
+        Set<String> condition = null;
+        boolean or = false;
+
+        final String query = tweetQuery.getQuery();
+        for (final String token : null == query ? new String[0] : query.trim().split("\\s+")) {
+            if ("OR".equals(token)) {
+                or = null != condition;
+                continue;
+            }
+
+            final boolean negated = token.length() > 1 && token.startsWith("-");
+            final String term = (negated ? token.substring(1) : token).toLowerCase(Locale.ROOT);
+            final Predicate<Tweet> operator = operator(term);
+            final List<String> words = words(term);
+
+            if (null != operator) {
+                filter = filter.and(negated ? operator.negate() : operator);
+            } else if (negated) {
+                excludedTerms.addAll(words);
+            } else if (or) {
+                condition.addAll(words);
+            } else {
+                // a term consisting of several words requires all of them
+                for (final String word : words) {
+                    condition = new LinkedHashSet<>();
+                    condition.add(word);
+                    conditions.add(condition);
+                }
+            }
+            or = false;
+        }
+
+        final Long sinceId = tweetQuery.getSinceId();
+        final Long maxId = tweetQuery.getMaxId();
+        final String lang = tweetQuery.getLang();
+        if (null != sinceId) {
+            filter = filter.and(post -> post.getId() > sinceId);
+        }
+        if (null != maxId) {
+            filter = filter.and(post -> post.getId() <= maxId);
+        }
+        if (null != lang) {
+            filter = filter.and(post -> lang.equalsIgnoreCase(langOf(post)));
+        }
+
+        final Integer count = tweetQuery.getCount();
+        if (null != count && count < 1) {
+            throw new IllegalArgumentException("count must be a positive number");
+        }
+
+        return new MockSearchQuery(conditions, excludedTerms, filter,
+                date("since", tweetQuery.getSince()),
+                date("until", tweetQuery.getUntil()),
+                count);
+    }
+
+    /**
+     * Returns the terms the given post is indexed with, being the words,
+     * hashtags and mentions of its text as well as the handle of its author.
+     *
+     * @param post the post to index
+     *
+     * @return the terms of the post
+     */
+    static Set<String> terms(final Tweet post) {
+        final Set<String> terms = new LinkedHashSet<>(terms(post.getText()));
+        final User user = post.getUser();
+
+        if (null != user) {
+            addHandle(terms, user.getScreenName());
+            addHandle(terms, user.getName());
+        }
+
+        return terms;
+    }
+
+    private static List<String> terms(final String text) {
+        final List<String> terms = new ArrayList<>();
+
+        for (final String word : words(text)) {
+            terms.add(word);
+            // hashtags and mentions are found by their bare word as well
+            if (word.charAt(0) == '#' || word.charAt(0) == '@') {
+                terms.add(word.substring(1));
+            }
+        }
+
+        return terms;
+    }
+
+    private static List<String> words(final String text) {
+        return null == text
+                ? List.of()
+                : SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                        .filter(word -> !word.isEmpty() && !"#".equals(word) && !"@".equals(word))
+                        .toList();
+    }
+
+    private static void addHandle(final Set<String> terms, final String name) {
+        if (null != name) {
+            final String handle = name.replace("@", "").replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+
+            if (!handle.isEmpty()) {
+                terms.add("@" + handle);
+            }
+        }
+    }
+
+    private static Predicate<Tweet> operator(final String term) {
+        return switch (term) {
+            case "filter:media" ->
+                post -> !post.getMediaEntries().isEmpty();
+            case "filter:links" ->
+                post -> !post.getUrlEntries().isEmpty() || URL.matcher(post.getText()).find();
+            case "filter:retweets" ->
+                Tweet::isRetweet;
+            default ->
+                null;
+        };
+    }
+
+    private static String langOf(final Tweet post) {
+        if (null != post.getLang()) {
+            return post.getLang();
+        }
+
+        return null == post.getUser() ? null : post.getUser().getLang();
+    }
+
+    private static LocalDateTime date(final String property, final String date) {
+        try {
+            return null == date ? null : LocalDate.parse(date).atStartOfDay();
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException(property + " must be formatted as YYYY-MM-DD", e);
+        }
+    }
+}
@@ -36,16 +36,15 @@ import org.tweetwallfx.tweet.api.Tweeter;
 import org.tweetwallfx.tweet.api.User;
 import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Collections;
-import java.util.Comparator;
+import java.time.ZoneOffset;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.StringJoiner;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
@@ -54,8 +53,8 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
-import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.tweetwallfx.tweet.impl.mock.config.MockSettings.CONFIG_KEY;
@@ -63,15 +62,16 @@ import static org.tweetwallfx.tweet.impl.mock.config.MockSettings.CONFIG_KEY;
 public final class MockTweeter implements Tweeter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MockTweeter.class);
-    private static final Faker FAKER = new Faker();
     private static final AtomicLong ID = new AtomicLong();
 
     private final MockSettings settings;
+    private final Faker faker;
     private final ScheduledExecutorService executor;
     private final List<Consumer<Tweet>> postConsumers;
-    private final Set<PostEntry> posts;
+    private final MockPostStore posts;
     private final Map<Integer, User> users;
     private ScheduledFuture<?> postTask;
+    private Thread loadGeneratorThread;
 
     /**
      * Used from service loader.
@@ -84,32 +84,55 @@ public final class MockTweeter implements Tweeter {
     MockTweeter(MockSettings settings, ScheduledExecutorService executor) {
         LOGGER.debug("Initializing with configuration: {}", settings);
         this.settings = settings;
+        this.faker = null == settings.seed()
+                ? new Faker()
+                : new Faker(new Random(settings.seed()));
         this.executor = executor;
         this.postConsumers = new CopyOnWriteArrayList<>();
         this.users = new ConcurrentHashMap<>();
-        this.posts = Collections.synchronizedSet(new TreeSet<>());
+        this.posts = new MockPostStore(settings.retention().maxPosts(),
+                settings.retention().maxAgeSeconds(), Clock.systemUTC());
         initializePosts();
     }
 
     private void initializePosts() {
-        int initialPosts = settings.initialPosts();
-        while (posts.size() < initialPosts) {
+        for (int i = 0; i < settings.initialPosts(); i++) {
             simulatePost();
         }
     }
 
     private synchronized void initializePostsTask() {
-        if (postTask == null) {
+        if (settings.loadGenerator().enabled()) {
+            if (loadGeneratorThread == null) {
+                loadGeneratorThread = Thread.ofPlatform()
+                        .daemon()
+                        .name("mock-load-generator")
+                        .start(createLoadGenerator());
+            }
+        } else if (postTask == null) {
             long time = settings.postInterval().longValue();
             LOGGER.debug("Starting post task with {} second interval", time);
             postTask = executor.scheduleWithFixedDelay(this::simulatePost, time, time, TimeUnit.SECONDS);
         }
     }
 
+    private MockLoadGenerator createLoadGenerator() {
+        final List<User> corpusUsers = IntStream.range(0, 200)
+                .mapToObj(userId -> users.computeIfAbsent(userId, this::createUser))
+                .toList();
+        return new MockLoadGenerator(settings.loadGenerator(),
+                null == settings.seed() ? new SplittableRandom() : new SplittableRandom(settings.seed()),
+                faker, corpusUsers, settings.users(), settings.hashtags(),
+                ID::incrementAndGet, this::publishPost);
+    }
+
     private void simulatePost() {
-        final Tweet post = createPost();
+        publishPost(createPost());
+    }
+
+    private void publishPost(final Tweet post) {
         LOGGER.debug("Simulate post {}", post);
-        posts.add(new PostEntry(post));
+        posts.add(post);
         postConsumers.forEach(postConsumer -> postConsumer.accept(post));
     }
 
@@ -120,24 +143,24 @@ public final class MockTweeter implements Tweeter {
         return userId;
     }
 
-    static User createUser(int userId) {
+    User createUser(int userId) {
         userId = limitUserId(userId);
-        final String lastName = FAKER.name().lastName();
+        final String lastName = faker.name().lastName();
         final String profileUrl;
         final String biggerProfileUrl;
         final String firstName;
         if (userId < 100) {
-            firstName = FAKER.resolve("name.female_first_name");
+            firstName = faker.resolve("name.female_first_name");
             profileUrl = "https://randomuser.me/api/portraits/med/women/%d.jpg".formatted(userId);
             biggerProfileUrl = "https://randomuser.me/api/portraits/women/%d.jpg".formatted(userId);
         } else {
             int profileNumber = userId - 100;
-            firstName = FAKER.resolve("name.male_first_name");
+            firstName = faker.resolve("name.male_first_name");
             profileUrl = "https://randomuser.me/api/portraits/med/men/%d.jpg".formatted(profileNumber);
             biggerProfileUrl = "https://randomuser.me/api/portraits/men/%d.jpg".formatted(profileNumber);
         }
         return new MockUser(userId, "en", "@%s%s".formatted(firstName, lastName),
-                "%s %s".formatted(firstName, lastName), FAKER.number().randomDigit(), FAKER.bool().bool(),
+                "%s %s".formatted(firstName, lastName), faker.number().randomDigit(), faker.bool().bool(),
                 profileUrl, biggerProfileUrl);
     }
 
@@ -146,17 +169,17 @@ public final class MockTweeter implements Tweeter {
     }
 
     private Tweet createPost(long postId) {
-        var userId = limitUserId(FAKER.number().numberBetween(0, 199));
-        return createPost(postId, users.computeIfAbsent(userId, MockTweeter::createUser));
+        var userId = limitUserId(faker.number().numberBetween(0, 199));
+        return createPost(postId, users.computeIfAbsent(userId, this::createUser));
     }
 
     private Tweet createPost(long postId, User user) {
-        final Number number = FAKER.number();
+        final Number number = faker.number();
         final StringJoiner text = new StringJoiner(" ");
-        text.add(FAKER.lorem().sentence(number.numberBetween(7, 20)));
+        text.add(faker.lorem().sentence(number.numberBetween(7, 20)));
         settings.users().stream().map("@%s"::formatted).forEach(text::add);
         settings.hashtags().stream().map("#%s"::formatted).forEach(text::add);
-        return new MockPost(postId, text.toString(), user, LocalDateTime.now(ZoneId.of("UTC")),
+        return new MockPost(postId, text.toString(), user, LocalDateTime.now(ZoneOffset.UTC),
                 null, number.randomDigit(), number.randomDigit(),
                 new MockPostMedia(number.numberBetween(0, 500),
                         number.numberBetween(300, 1600),
@@ -227,16 +250,14 @@ public final class MockTweeter implements Tweeter {
     @Override
     public Tweet getTweet(long postId) {
         LOGGER.debug("getTweet({})", postId);
-        return posts.stream()
-                .filter(postEntry -> postEntry.test(postId))
-                .map(PostEntry::tweet)
-                .findFirst().orElseGet(() -> createPost(postId));
+        final Tweet post = posts.get(postId);
+        return null == post ? createPost(postId) : post;
     }
 
     @Override
     public User getUser(String userId) {
         LOGGER.debug("getUser({})", userId);
-        return users.computeIfAbsent(limitUserId(Integer.parseInt(userId)), MockTweeter::createUser);
+        return users.computeIfAbsent(limitUserId(Integer.parseInt(userId)), this::createUser);
     }
 
     @Override
@@ -278,25 +299,24 @@ public final class MockTweeter implements Tweeter {
     @Override
     public Stream<Tweet> search(TweetQuery tweetQuery) {
         LOGGER.debug("search({})", tweetQuery);
-        final String query = tweetQuery.getQuery();
-        System.out.println(query); //TODO
-        return posts.stream()
-                .map(PostEntry::tweet);
+        return posts.search(MockSearchQuery.of(tweetQuery), 1);
     }
 
     @Override
     public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages) {
         LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
-        final String query = tweetQuery.getQuery();
-        System.out.println(query); //TODO
-        return posts.stream()
-                .map(PostEntry::tweet)
-                .limit(numberOfPages);
+        return posts.search(MockSearchQuery.of(tweetQuery), numberOfPages);
     }
 
     @Override
     public void shutdown() {
         LOGGER.debug("shutdown()");
+        synchronized (this) {
+            if (loadGeneratorThread != null) {
+                loadGeneratorThread.interrupt();
+                loadGeneratorThread = null;
+            }
+        }
         try {
             postTask = null;
             if (!executor.isTerminated()) {
@@ -310,20 +330,4 @@ public final class MockTweeter implements Tweeter {
             LOGGER.error("Termination interrupted", e);
         }
     }
-
-    private record PostEntry(Tweet tweet) implements Comparable<PostEntry>, LongPredicate {
-
-        @Override
-        public int compareTo(PostEntry other) {
-            return Comparator
-                    .comparing(Tweet::getCreatedAt)
-                    .thenComparingLong(Tweet::getId)
-                    .compare(tweet, other.tweet);
-        }
-
-        @Override
-        public boolean test(long value) {
-            return tweet.getId() == value;
-        }
-    }
 }
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2024-2025 TweetWallFX
+ * Copyright (c) 2024-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -42,6 +42,20 @@ import static org.tweetwallfx.util.Nullable.nullable;
  *
  * <p>
  * Param {@code postInterval} the base data directory where the static data resides.
+ *
+ * <p>
+ * Param {@code seed} the seed of the random generator used to create the
+ * simulated posts and users in order to produce a reproducible sequence of
+ * data (defaults to {@code null} resulting in a random seed)
+ *
+ * <p>
+ * Param {@code loadGenerator} the settings of the load generator mode
+ * replacing the periodic posts by a high rate of posts following a
+ * configurable profile (defaults to a disabled load generator)
+ *
+ * <p>
+ * Param {@code retention} the limits of the simulated posts retained for
+ * lookup and search (defaults to the limits documented in {@link Retention})
  */
 public record MockSettings(
         Boolean debugEnabled,
@@ -49,7 +63,10 @@ public record MockSettings(
         Integer postInterval,
         Integer initialPosts,
         List<String> users,
-        List<String> hashtags) {
+        List<String> hashtags,
+        Long seed,
+        LoadGenerator loadGenerator,
+        Retention retention) {
 
     /**
      * Configuration key under which the data for this Settings object is stored
@@ -64,11 +81,179 @@ public record MockSettings(
         initialPosts = Objects.requireNonNullElse(initialPosts, 0);
         users = nullable(users);
         hashtags = nullable(hashtags);
-        if (Boolean.TRUE.equals(enabled) && postInterval < 2) {
+        loadGenerator = Objects.requireNonNullElseGet(loadGenerator,
+                () -> new LoadGenerator(null, null, null, null, null, null, null, null, null, null, null));
+        retention = Objects.requireNonNullElseGet(retention, () -> new Retention(null, null));
+        if (Boolean.TRUE.equals(enabled) && !loadGenerator.enabled() && postInterval < 2) {
             throw new IllegalArgumentException("Minimum post interval is 2 seconds");
         }
     }
 
+    public MockSettings(
+            Boolean debugEnabled,
+            Boolean enabled,
+            Integer postInterval,
+            Integer initialPosts,
+            List<String> users,
+            List<String> hashtags,
+            Long seed) {
+        this(debugEnabled, enabled, postInterval, initialPosts, users, hashtags, seed, null, null);
+    }
+
+    /**
+     * The shape of the rate of posts produced by the load generator over
+     * time.
+     */
+    public enum LoadProfile {
+
+        /**
+         * Posts are produced at a constant rate.
+         */
+        STEADY,
+        /**
+         * The rate rises linearly up to the configured rate within
+         * {@code rampSeconds} and stays constant thereafter.
+         */
+        RAMP,
+        /**
+         * Posts are produced at the configured rate, multiplied by
+         * {@code spikeFactor} for {@code spikeSeconds} every
+         * {@code spikePeriodSeconds}.
+         */
+        SPIKE;
+    }
+
+    /**
+     * POJO for the settings of the load generator mode of the mock client.
+     * All posts are assembled from a corpus of texts and users precomputed
+     * upon start, so producing a post does not involve the random data
+     * generator.
+     *
+     * <p>
+     * Param {@code enabled} a flag indicating that the load generator replaces
+     * the periodic posts (defaults to {@code false})
+     *
+     * <p>
+     * Param {@code intervalMicros} the interval between two posts in
+     * microseconds at the configured rate (defaults to {@code 1000})
+     *
+     * <p>
+     * Param {@code profile} the shape of the rate over time (defaults to
+     * {@link LoadProfile#STEADY})
+     *
+     * <p>
+     * Param {@code rampSeconds} the duration of the ramp with
+     * {@link LoadProfile#RAMP} (defaults to {@code 60})
+     *
+     * <p>
+     * Param {@code spikeFactor} the factor the rate is multiplied by during a
+     * spike with {@link LoadProfile#SPIKE} (defaults to {@code 10})
+     *
+     * <p>
+     * Param {@code spikePeriodSeconds} the period of the spikes with
+     * {@link LoadProfile#SPIKE} (defaults to {@code 60})
+     *
+     * <p>
+     * Param {@code spikeSeconds} the duration of a spike with
+     * {@link LoadProfile#SPIKE} (defaults to {@code 5})
+     *
+     * <p>
+     * Param {@code corpusSize} the number of precomputed texts (defaults to
+     * {@code 1000})
+     *
+     * <p>
+     * Param {@code mediaRatio} the share of posts containing a photo between
+     * {@code 0} and {@code 1} (defaults to {@code 0.3})
+     *
+     * <p>
+     * Param {@code retweetRatio} the share of posts reposting a recent post
+     * between {@code 0} and {@code 1} (defaults to {@code 0.2})
+     *
+     * <p>
+     * Param {@code emojiDensity} the share of words followed by an emoji
+     * between {@code 0} and {@code 1} (defaults to {@code 0.05})
+     */
+    public record LoadGenerator(
+            Boolean enabled,
+            Long intervalMicros,
+            LoadProfile profile,
+            Long rampSeconds,
+            Double spikeFactor,
+            Long spikePeriodSeconds,
+            Long spikeSeconds,
+            Integer corpusSize,
+            Double mediaRatio,
+            Double retweetRatio,
+            Double emojiDensity) {
+
+        public LoadGenerator {
+            enabled = Objects.requireNonNullElse(enabled, false);
+            intervalMicros = Objects.requireNonNullElse(intervalMicros, 1000L);
+            if (intervalMicros < 1) {
+                throw new IllegalArgumentException("property 'intervalMicros' must be a positive number");
+            }
+            profile = Objects.requireNonNullElse(profile, LoadProfile.STEADY);
+            rampSeconds = Objects.requireNonNullElse(rampSeconds, 60L);
+            if (rampSeconds < 1) {
+                throw new IllegalArgumentException("property 'rampSeconds' must be a positive number");
+            }
+            spikeFactor = Objects.requireNonNullElse(spikeFactor, 10.0);
+            if (!(spikeFactor >= 1)) {
+                throw new IllegalArgumentException("property 'spikeFactor' must be at least 1");
+            }
+            spikePeriodSeconds = Objects.requireNonNullElse(spikePeriodSeconds, 60L);
+            if (spikePeriodSeconds < 1) {
+                throw new IllegalArgumentException("property 'spikePeriodSeconds' must be a positive number");
+            }
+            spikeSeconds = Objects.requireNonNullElse(spikeSeconds, 5L);
+            if (spikeSeconds < 0 || spikeSeconds > spikePeriodSeconds) {
+                throw new IllegalArgumentException("property 'spikeSeconds' must be between 0 and 'spikePeriodSeconds'");
+            }
+            corpusSize = Objects.requireNonNullElse(corpusSize, 1000);
+            if (corpusSize < 1) {
+                throw new IllegalArgumentException("property 'corpusSize' must be a positive number");
+            }
+            mediaRatio = requireRatio("mediaRatio", Objects.requireNonNullElse(mediaRatio, 0.3));
+            retweetRatio = requireRatio("retweetRatio", Objects.requireNonNullElse(retweetRatio, 0.2));
+            emojiDensity = requireRatio("emojiDensity", Objects.requireNonNullElse(emojiDensity, 0.05));
+        }
+
+        private static Double requireRatio(final String property, final Double ratio) {
+            if (!(ratio >= 0 && ratio <= 1)) {
+                throw new IllegalArgumentException("property '" + property + "' must be between 0 and 1");
+            }
+            return ratio;
+        }
+    }
+
+    /**
+     * POJO for the limits of the simulated posts retained by the mock client.
+     * Once a limit is exceeded the oldest posts are evicted.
+     *
+     * <p>
+     * Param {@code maxPosts} the maximum number of posts retained (defaults to
+     * {@code 10000})
+     *
+     * <p>
+     * Param {@code maxAgeSeconds} the maximum age of the posts retained in
+     * seconds (defaults to {@code 86400}, i.e. one day)
+     */
+    public record Retention(
+            Integer maxPosts,
+            Long maxAgeSeconds) {
+
+        public Retention {
+            maxPosts = Objects.requireNonNullElse(maxPosts, 10_000);
+            if (maxPosts < 1) {
+                throw new IllegalArgumentException("property 'maxPosts' must be a positive number");
+            }
+            maxAgeSeconds = Objects.requireNonNullElse(maxAgeSeconds, 86_400L);
+            if (maxAgeSeconds < 1) {
+                throw new IllegalArgumentException("property 'maxAgeSeconds' must be a positive number");
+            }
+        }
+    }
+
     /**
      * Service implementation converting the configuration data of the root key
      * {@link MockSettings#CONFIG_KEY} into {@link MockSettings}.
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
+
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@MockitoSettings
+class MockLoadGeneratorTest {
+    private static final List<User> USERS = List.of(
+            new MockUser(1, "en", "First", "first", 10, false, "pic1", "bigpic1"),
+            new MockUser(2, "en", "Second", "second", 20, true, "pic2", "bigpic2"));
+
+    @Mock(name = "org.tweetwallfx.tweet.impl.mock.MockLoadGenerator")
+    Logger logger;
+    final AtomicLong ids = new AtomicLong();
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void sameSeedProducesSamePosts() {
+        final MockSettings.LoadGenerator settings = settings(MockSettings.LoadProfile.STEADY, 0.3, 0.2, 0.05);
+        final MockLoadGenerator first = generator(settings, 42);
+        final MockLoadGenerator second = generator(settings, 42);
+
+        for (int i = 0; i < 100; i++) {
+            final Tweet expected = first.nextPost();
+            final Tweet actual = second.nextPost();
+
+            assertThat(actual.getText()).isEqualTo(expected.getText());
+            assertThat(actual.getUser()).isSameAs(expected.getUser());
+            assertThat(actual.isRetweet()).isEqualTo(expected.isRetweet());
+            assertThat(actual.getMediaEntries()).hasSameSizeAs(expected.getMediaEntries());
+        }
+    }
+
+    @Test
+    void ratiosAreApplied() {
+        final MockLoadGenerator generator = generator(settings(MockSettings.LoadProfile.STEADY, 1.0, 0.0, 1.0), 7);
+
+        assertThat(Stream.generate(generator::nextPost).limit(100))
+                .allSatisfy(post -> {
+                    assertThat(post.isRetweet()).isFalse();
+                    assertThat(post.getMediaEntries()).isNotEmpty();
+                    assertThat(post.getText()).contains("@TweetWallFX", "#javaone");
+                    // every emoji used is either outside the BMP or U+2615 (hot beverage)
+                    assertThat(post.getText().codePoints().anyMatch(cp -> cp > 0xFFFF || cp == 0x2615)).isTrue();
+                });
+    }
+
+    @Test
+    void retweetsReferToEarlierPosts() {
+        final MockLoadGenerator generator = generator(settings(MockSettings.LoadProfile.STEADY, 0.0, 1.0, 0.0), 7);
+        final Tweet original = generator.nextPost();
+        final Tweet retweet = generator.nextPost();
+
+        assertThat(original.isRetweet()).isFalse();
+        assertThat(retweet.isRetweet()).isTrue();
+        assertThat(((MockPost) retweet).originPost()).isSameAs(original);
+        assertThat(retweet.getText()).isEqualTo("RT " + original.getText());
+    }
+
+    @Test
+    void intervalFollowsProfile() {
+        final long interval = TimeUnit.MILLISECONDS.toNanos(1);
+
+        final MockLoadGenerator steady = generator(settings(MockSettings.LoadProfile.STEADY, 0.0, 0.0, 0.0), 1);
+        assertThat(steady.intervalNanos(0)).isEqualTo(interval);
+        assertThat(steady.intervalNanos(TimeUnit.SECONDS.toNanos(120))).isEqualTo(interval);
+
+        final MockLoadGenerator ramp = generator(settings(MockSettings.LoadProfile.RAMP, 0.0, 0.0, 0.0), 1);
+        assertThat(ramp.intervalNanos(0)).isEqualTo(interval * 100);
+        assertThat(ramp.intervalNanos(TimeUnit.SECONDS.toNanos(5))).isEqualTo(interval * 2);
+        assertThat(ramp.intervalNanos(TimeUnit.SECONDS.toNanos(20))).isEqualTo(interval);
+
+        final MockLoadGenerator spike = generator(settings(MockSettings.LoadProfile.SPIKE, 0.0, 0.0, 0.0), 1);
+        assertThat(spike.intervalNanos(TimeUnit.SECONDS.toNanos(1))).isEqualTo(interval / 10);
+        assertThat(spike.intervalNanos(TimeUnit.SECONDS.toNanos(10))).isEqualTo(interval);
+        assertThat(spike.intervalNanos(TimeUnit.SECONDS.toNanos(61))).isEqualTo(interval / 10);
+    }
+
+    @Test
+    void runPublishesUntilInterrupted() throws InterruptedException {
+        final MockSettings.LoadGenerator settings = new MockSettings.LoadGenerator(
+                true, 100L, null, null, null, null, null, 10, null, null, null);
+        final List<Tweet> posts = new CopyOnWriteArrayList<>();
+        final MockLoadGenerator generator = new MockLoadGenerator(
+                settings,
+                new SplittableRandom(3),
+                new Faker(new Random(3)),
+                USERS,
+                List.of(),
+                List.of(),
+                ids::incrementAndGet,
+                posts::add);
+        final Thread thread = Thread.ofPlatform().daemon().start(generator);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(posts).hasSizeGreaterThan(100);
+        assertThat(posts).extracting(Tweet::getId).doesNotHaveDuplicates();
+        assertThat(generator.getGeneratedCount()).isEqualTo(posts.size());
+        verify(logger).info("Starting load generator with {}", settings);
+        verify(logger).info(eq("Load generator stopped after {} posts ({} skipped)"), eq((long) posts.size()), anyLong());
+    }
+
+    private static MockSettings.LoadGenerator settings(
+            final MockSettings.LoadProfile profile,
+            final double mediaRatio,
+            final double retweetRatio,
+            final double emojiDensity) {
+        return new MockSettings.LoadGenerator(
+                true, 1000L, profile, 10L, 10.0, 60L, 5L, 20, mediaRatio, retweetRatio, emojiDensity);
+    }
+
+    private MockLoadGenerator generator(final MockSettings.LoadGenerator settings, final long seed) {
+        return new MockLoadGenerator(
+                settings,
+                new SplittableRandom(seed),
+                new Faker(new Random(seed)),
+                USERS,
+                List.of("TweetWallFX"),
+                List.of("javaone"),
+                ids::incrementAndGet,
+                post -> {
+                });
+    }
+}
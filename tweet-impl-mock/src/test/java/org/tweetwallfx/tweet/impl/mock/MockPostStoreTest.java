@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MockPostStoreTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    void postsAreOrderedByCreationTime() {
+        final MockPostStore store = new MockPostStore(10, 3600, CLOCK);
+
+        store.add(post(3, NOW.minusSeconds(10)));
+        store.add(post(1, NOW.minusSeconds(30)));
+        store.add(post(2, NOW.minusSeconds(10)));
+
+        assertThat(store.stream()).extracting(Tweet::getId).containsExactly(1L, 2L, 3L);
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    void postsAreFoundById() {
+        final MockPostStore store = new MockPostStore(10_000, 3600, CLOCK);
+        LongStream.rangeClosed(1, 5000).forEach(id -> store.add(post(id, NOW)));
+
+        assertThat(store.get(1).getId()).isEqualTo(1);
+        assertThat(store.get(4711).getId()).isEqualTo(4711);
+        assertThat(store.get(5001)).isNull();
+    }
+
+    @Test
+    void addingSameIdReplacesPost() {
+        final MockPostStore store = new MockPostStore(10, 3600, CLOCK);
+        final Tweet replacement = post(1, NOW);
+
+        store.add(post(1, NOW.minusSeconds(10)));
+        store.add(replacement);
+
+        assertThat(store.get(1)).isSameAs(replacement);
+        assertThat(store.stream()).containsExactly(replacement);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void oldestPostsAreEvictedBeyondMaxPosts() {
+        final MockPostStore store = new MockPostStore(100, 3600, CLOCK);
+        LongStream.rangeClosed(1, 1000).forEach(id -> store.add(post(id, NOW.minusSeconds(1000 - id))));
+
+        assertThat(store.size()).isEqualTo(100);
+        assertThat(store.stream()).extracting(Tweet::getId).containsExactlyElementsOf(LongStream.rangeClosed(901, 1000).boxed().toList());
+        assertThat(store.get(900)).isNull();
+        assertThat(store.get(901)).isNotNull();
+    }
+
+    @Test
+    void searchReturnsPagesOfMatchingPostsNewestFirst() {
+        final MockPostStore store = new MockPostStore(100, 3600, CLOCK);
+        LongStream.rangeClosed(1, 10).forEach(id -> store.add(
+                new MockPost(id, (id % 2 == 0 ? "even" : "odd") + " #post", null, NOW.minusSeconds(10 - id), null, 0, 0)));
+        final MockSearchQuery query = MockSearchQuery.of(new TweetQuery().query("#post even").count(2));
+
+        assertThat(store.search(query, 1)).extracting(Tweet::getId).containsExactly(10L, 8L);
+        assertThat(store.search(query, 2)).extracting(Tweet::getId).containsExactly(10L, 8L, 6L, 4L);
+        assertThat(store.search(query, 5)).extracting(Tweet::getId).containsExactly(10L, 8L, 6L, 4L, 2L);
+        assertThat(store.search(MockSearchQuery.of(new TweetQuery().query("odd OR even")), 1)).hasSize(10);
+        assertThat(store.search(MockSearchQuery.of(new TweetQuery().query("odd -#post")), 1)).isEmpty();
+    }
+
+    @Test
+    void searchIndexFollowsEvictions() {
+        final MockPostStore store = new MockPostStore(3, 3600, CLOCK);
+        LongStream.rangeClosed(1, 5).forEach(id -> store.add(
+                new MockPost(id, "word" + id + " #post", null, NOW.minusSeconds(10 - id), null, 0, 0)));
+
+        assertThat(store.search(MockSearchQuery.of(new TweetQuery().query("word1 OR word2")), 1)).isEmpty();
+        assertThat(store.search(MockSearchQuery.of(new TweetQuery().query("#post")), 1))
+                .extracting(Tweet::getId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void postsAreEvictedBeyondMaxAge() {
+        final MutableClock clock = new MutableClock();
+        final MockPostStore store = new MockPostStore(100, 60, clock);
+
+        store.add(post(1, NOW.minusSeconds(90)));
+        store.add(post(2, NOW.minusSeconds(30)));
+        store.add(post(3, NOW));
+        assertThat(store.stream()).extracting(Tweet::getId).containsExactly(2L, 3L);
+
+        clock.advanceSeconds(45);
+        store.evictExpired();
+        assertThat(store.stream()).extracting(Tweet::getId).containsExactly(3L);
+        assertThat(store.get(2)).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private static Tweet post(final long id, final LocalDateTime createdAt) {
+        return new MockPost(id, "post " + id, null, createdAt, null, 0, 0);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = CLOCK.instant();
+
+        void advanceSeconds(final long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023-2024 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -30,12 +30,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetPublisher;
 
 import java.time.LocalDateTime;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @MockitoSettings
@@ -66,6 +69,7 @@ class MockPostStreamTest {
     void acceptNoConsumers() {
         Tweet post = createPost();
         doNothing().when(logger).debug("Notify post:\n{}", post);
+        doNothing().when(logger).debug("Skipping post {} without demand", 4711L);
         assertThatNoException().isThrownBy(() -> stream.accept(post));
     }
 
@@ -79,6 +83,28 @@ class MockPostStreamTest {
         assertThatNoException().isThrownBy(() -> stream.accept(post));
     }
 
+    @Test
+    void acceptPublisherWithoutSubscriber() {
+        Tweet post = createPost();
+        doNothing().when(logger).debug("asPublisher({}, {})", 1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        doNothing().when(logger).debug("Notify post:\n{}", post);
+        doNothing().when(logger).debug("Skipping post {} without demand", 4711L);
+        stream.asPublisher(1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        assertThatNoException().isThrownBy(() -> stream.accept(post));
+    }
+
+    @Test
+    void acceptPublisherWithSubscriber() {
+        Tweet post = createPost();
+        doNothing().when(logger).debug("asPublisher({}, {})", 1, TweetPublisher.OverflowPolicy.DROP_LATEST);
+        doNothing().when(logger).debug("Notify post:\n{}", post);
+        doNothing().when(tweetConsumer).accept(post);
+        stream.asPublisher(1, TweetPublisher.OverflowPolicy.DROP_LATEST).subscribe(TweetPublisher.toSubscriber(tweetConsumer));
+        assertThatNoException().isThrownBy(() -> stream.accept(post));
+        // delivered asynchronously by the publisher
+        verify(tweetConsumer, timeout(5_000)).accept(post);
+    }
+
     private Tweet createPost() {
         return new MockPost(4711, "gugus", null,
                 LocalDateTime.of(2024, 3, 3, 11, 20, 0), null,
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.TweetQuery;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MockSearchQueryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+    private static final MockUser USER = new MockUser(1, "en", "@JaneDoe", "Jane Doe", 10, false, "pic", "bigpic");
+
+    @Test
+    void termsOfPost() {
+        MockPost post = new MockPost(1, "Hello #JavaOne, greetings to @TweetWallFX ☕!", USER, NOW, null, 0, 0);
+
+        assertThat(MockSearchQuery.terms(post)).containsExactly(
+                "hello", "#javaone", "javaone", "greetings", "to", "@tweetwallfx", "tweetwallfx", "@janedoe");
+    }
+
+    @Test
+    void conditionsAreAndConnected() {
+        MockSearchQuery query = MockSearchQuery.of(new TweetQuery().query("#JavaOne @TweetWallFX"));
+
+        assertThat(query.conditions()).containsExactly(Set.of("#javaone"), Set.of("@tweetwallfx"));
+        assertThat(query.excludedTerms()).isEmpty();
+        assertThat(query.count()).isNull();
+    }
+
+    @Test
+    void alternativesAreOrConnected() {
+        MockSearchQuery query = MockSearchQuery.of(new TweetQuery().query("#javaone OR #devoxx hello or -@reinhapa"));
+
+        assertThat(query.conditions()).containsExactly(Set.of("#javaone", "#devoxx"), Set.of("hello"), Set.of("or"));
+        assertThat(query.excludedTerms()).containsExactly("@reinhapa");
+    }
+
+    @Test
+    void filtersApplyToPosts() {
+        MockPost original = new MockPost(1, "see https://example.org", USER, NOW, null, 0, 0);
+        MockPost repost = new MockPost(2, "RT see https://example.org", USER, NOW, original, 0, 0,
+                new MockPostMedia(1, 300, 200));
+
+        MockSearchQuery links = MockSearchQuery.of(new TweetQuery().query(TweetQuery.QUERY_FILTER_LINKS, "-filter:retweets"));
+        assertThat(links.conditions()).isEmpty();
+        assertThat(links.filter()).accepts(original).rejects(repost);
+
+        MockSearchQuery media = MockSearchQuery.of(new TweetQuery().query(TweetQuery.QUERY_FILTER_MEDIA).lang("EN").sinceId(1L));
+        assertThat(media.filter()).accepts(repost).rejects(original);
+        assertThat(MockSearchQuery.of(new TweetQuery().lang("de")).filter()).rejects(original, repost);
+        assertThat(MockSearchQuery.of(new TweetQuery().maxId(1L)).filter()).accepts(original).rejects(repost);
+    }
+
+    @Test
+    void datesAreParsed() {
+        MockSearchQuery query = MockSearchQuery.of(new TweetQuery().since("2026-10-01").until("2026-10-17").count(20));
+
+        assertThat(query.since()).isEqualTo(LocalDateTime.of(2026, 10, 1, 0, 0));
+        assertThat(query.until()).isEqualTo(LocalDateTime.of(2026, 10, 17, 0, 0));
+        assertThat(query.count()).isEqualTo(20);
+    }
+
+    @Test
+    void invalidQueryIsRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MockSearchQuery.of(new TweetQuery().since("yesterday")))
+                .withMessage("since must be formatted as YYYY-MM-DD");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MockSearchQuery.of(new TweetQuery().count(0)))
+                .withMessage("count must be a positive number");
+    }
+}
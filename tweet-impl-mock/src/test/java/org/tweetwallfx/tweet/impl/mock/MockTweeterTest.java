@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2023-2024 TweetWallFX
+ * Copyright (c) 2023-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -29,11 +29,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
 import org.tweetwallfx.tweet.api.User;
 import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +46,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -65,7 +68,7 @@ class MockTweeterTest {
 
     @BeforeEach
     void prepare() {
-        settings = new MockSettings(false, true, 3, null, null, null);
+        settings = new MockSettings(false, true, 3, null, null, null, null);
         tweeter = new MockTweeter(settings, executor);
 
         verify(logger).debug("Initializing with configuration: {}", settings);
@@ -79,7 +82,7 @@ class MockTweeterTest {
     @Test
     void isEnabled() {
         assertThat(tweeter.isEnabled()).isTrue();
-        MockSettings disabledSettings = new MockSettings(false, false, null, 1, null, null);
+        MockSettings disabledSettings = new MockSettings(false, false, null, 1, null, null, null);
         MockTweeter disabledTweeter = new MockTweeter(disabledSettings, executor);
 
         assertThat(disabledTweeter.isEnabled()).isFalse();
@@ -188,6 +191,12 @@ class MockTweeterTest {
     void search() {
         doNothing().when(logger).debug("search({})", tweetQuery);
         when(tweetQuery.getQuery()).thenReturn("#javaIsFun or @TweetWallFx OR  @reinhapa");
+        when(tweetQuery.getSinceId()).thenReturn(null);
+        when(tweetQuery.getMaxId()).thenReturn(null);
+        when(tweetQuery.getLang()).thenReturn("en");
+        when(tweetQuery.getCount()).thenReturn(10);
+        when(tweetQuery.getSince()).thenReturn(null);
+        when(tweetQuery.getUntil()).thenReturn(null);
 
         assertThat(tweeter.search(tweetQuery)).isEmpty();
     }
@@ -196,11 +205,39 @@ class MockTweeterTest {
     void searchPaged() {
         doNothing().when(logger).debug("searchPaged({}, {})", tweetQuery, 22);
         when(tweetQuery.getQuery()).thenReturn("#javaIsFun @reinhapa");
+        when(tweetQuery.getSinceId()).thenReturn(4711L);
+        when(tweetQuery.getMaxId()).thenReturn(null);
+        when(tweetQuery.getLang()).thenReturn(null);
+        when(tweetQuery.getCount()).thenReturn(null);
+        when(tweetQuery.getSince()).thenReturn("2023-10-02");
+        when(tweetQuery.getUntil()).thenReturn("2023-10-06");
 
         assertThat(tweeter.searchPaged(tweetQuery, 22)).isEmpty();
         verify(logger).debug("Initializing with configuration: {}", settings);
     }
 
+    @Test
+    void searchPagedPosts() {
+        MockSettings postSettings = new MockSettings(false, true, 3, 5, List.of("TweetWallFX"), List.of("javaone"), 42L);
+        MockTweeter postTweeter = new MockTweeter(postSettings, executor);
+        TweetQuery query = new TweetQuery().query("#JavaOne", "@tweetwallfx").count(2);
+
+        assertThat(postTweeter.searchPaged(query, 2)).hasSize(4)
+                .extracting(Tweet::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(postTweeter.searchPaged(query, 3)).hasSize(5)
+                .extracting(Tweet::getId)
+                .doesNotHaveDuplicates();
+        assertThat(postTweeter.search(query)).hasSize(2);
+        assertThat(postTweeter.search(query.query("#JavaOne", "-@TweetWallFX"))).isEmpty();
+
+        verify(logger).debug("Initializing with configuration: {}", postSettings);
+        verify(logger, times(5)).debug(eq("Simulate post {}"), isA(MockPost.class));
+        verify(logger).debug("searchPaged({}, {})", query, 2);
+        verify(logger).debug("searchPaged({}, {})", query, 3);
+        verify(logger, times(2)).debug("search({})", query);
+    }
+
     @Test
     void shutdown() throws InterruptedException {
         doNothing().when(logger).debug("shutdown()");
@@ -0,0 +1,364 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * A tweet as stored in a line of a JSON lines recording. Properties missing
+ * in the recording default to {@code 0}, {@code false} or empty lists
+ * respectively. The entries are read into the entry records of
+ * {@link TweetSnapshot} so that they are taken over as they are when the
+ * recorded tweet is converted into a snapshot.
+ *
+ * @param id the id of the tweet
+ *
+ * @param createdAt the point in time (UTC) the tweet was created at
+ *
+ * @param text the text of the tweet
+ *
+ * @param lang the language of the tweet
+ *
+ * @param favoriteCount the number of favorites
+ *
+ * @param retweetCount the number of retweets
+ *
+ * @param inReplyToTweetId the id of the tweet replied to
+ *
+ * @param inReplyToUserId the id of the user replied to
+ *
+ * @param inReplyToScreenName the screen name of the user replied to
+ *
+ * @param truncated flag indicating that the text is truncated
+ *
+ * @param user the author of the tweet
+ *
+ * @param retweetedTweet the retweeted tweet
+ *
+ * @param hashtags the hashtag entries
+ *
+ * @param symbols the symbol entries
+ *
+ * @param urls the url entries
+ *
+ * @param userMentions the user mention entries
+ *
+ * @param media the media entries
+ */
+public record RecordedTweet(
+        Long id,
+        LocalDateTime createdAt,
+        String text,
+        String lang,
+        Integer favoriteCount,
+        Integer retweetCount,
+        Long inReplyToTweetId,
+        Long inReplyToUserId,
+        String inReplyToScreenName,
+        Boolean truncated,
+        Author user,
+        RecordedTweet retweetedTweet,
+        List<TweetSnapshot.HashtagEntry> hashtags,
+        List<TweetSnapshot.SymbolEntry> symbols,
+        List<TweetSnapshot.UrlEntry> urls,
+        List<TweetSnapshot.UserMentionEntry> userMentions,
+        List<Media> media) implements Tweet {
+
+    public RecordedTweet {
+        id = Objects.requireNonNullElse(id, 0L);
+        favoriteCount = Objects.requireNonNullElse(favoriteCount, 0);
+        retweetCount = Objects.requireNonNullElse(retweetCount, 0);
+        inReplyToTweetId = Objects.requireNonNullElse(inReplyToTweetId, 0L);
+        inReplyToUserId = Objects.requireNonNullElse(inReplyToUserId, 0L);
+        truncated = Objects.requireNonNullElse(truncated, false);
+        hashtags = null == hashtags ? List.of() : List.copyOf(hashtags);
+        symbols = null == symbols ? List.of() : List.copyOf(symbols);
+        urls = null == urls ? List.of() : List.copyOf(urls);
+        userMentions = null == userMentions ? List.of() : List.copyOf(userMentions);
+        media = null == media ? List.of() : List.copyOf(media);
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return favoriteCount;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public long getInReplyToTweetId() {
+        return inReplyToTweetId;
+    }
+
+    @Override
+    public long getInReplyToUserId() {
+        return inReplyToUserId;
+    }
+
+    @Override
+    public String getInReplyToScreenName() {
+        return inReplyToScreenName;
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public int getRetweetCount() {
+        return retweetCount;
+    }
+
+    @Override
+    public Tweet getRetweetedTweet() {
+        return retweetedTweet;
+    }
+
+    @Override
+    public Tweet getOriginTweet() {
+        return null == retweetedTweet ? this : retweetedTweet;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public boolean isRetweet() {
+        return null != retweetedTweet;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public List<HashtagTweetEntry> getHashtagEntries() {
+        return List.copyOf(hashtags);
+    }
+
+    @Override
+    public List<MediaTweetEntry> getMediaEntries() {
+        return List.copyOf(media);
+    }
+
+    @Override
+    public List<SymbolTweetEntry> getSymbolEntries() {
+        return List.copyOf(symbols);
+    }
+
+    @Override
+    public List<UrlTweetEntry> getUrlEntries() {
+        return List.copyOf(urls);
+    }
+
+    @Override
+    public List<UserMentionTweetEntry> getUserMentionEntries() {
+        return List.copyOf(userMentions);
+    }
+
+    /**
+     * The author of a recorded tweet.
+     *
+     * @param id the id of the user
+     *
+     * @param name the name of the user
+     *
+     * @param screenName the screen name of the user
+     *
+     * @param lang the language of the user
+     *
+     * @param profileImageUrl the URL of the profile image
+     *
+     * @param biggerProfileImageUrl the URL of the bigger profile image
+     *
+     * @param followersCount the number of followers
+     *
+     * @param verified flag indicating that the user is verified
+     */
+    public record Author(
+            Long id,
+            String name,
+            String screenName,
+            String lang,
+            String profileImageUrl,
+            String biggerProfileImageUrl,
+            Integer followersCount,
+            Boolean verified) implements User {
+
+        public Author {
+            id = Objects.requireNonNullElse(id, 0L);
+            followersCount = Objects.requireNonNullElse(followersCount, 0);
+            verified = Objects.requireNonNullElse(verified, false);
+        }
+
+        @Override
+        public String getBiggerProfileImageUrl() {
+            return null == biggerProfileImageUrl ? profileImageUrl : biggerProfileImageUrl;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String getLang() {
+            return lang;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getProfileImageUrl() {
+            return profileImageUrl;
+        }
+
+        @Override
+        public String getScreenName() {
+            return screenName;
+        }
+
+        @Override
+        public int getFollowersCount() {
+            return followersCount;
+        }
+
+        @Override
+        public boolean isVerified() {
+            return verified;
+        }
+    }
+
+    /**
+     * A recorded media entry.
+     *
+     * @param id the id of the media
+     *
+     * @param mediaUrl the URL of the media
+     *
+     * @param type the type of the media
+     *
+     * @param sizes the size variations of the media keyed by
+     * {@link MediaTweetEntry.Size#THUMB} and the like
+     *
+     * @param text the text of the entry
+     *
+     * @param start the start index of the entry within the tweet text
+     *
+     * @param end the end index of the entry within the tweet text
+     */
+    public record Media(long id, String mediaUrl, MediaTweetEntryType type, Map<Integer, MediaSize> sizes,
+            String text, int start, int end) implements MediaTweetEntry {
+
+        public Media {
+            sizes = null == sizes ? Map.of() : Map.copyOf(sizes);
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String getMediaUrl() {
+            return mediaUrl;
+        }
+
+        @Override
+        public MediaTweetEntryType getType() {
+            return type;
+        }
+
+        @Override
+        public Map<Integer, Size> getSizes() {
+            return sizes.entrySet().stream()
+                    .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().toSize()));
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * A recorded size variation of a media.
+     *
+     * @param width the width of the media
+     *
+     * @param height the height of the media
+     *
+     * @param resize the resize mode (see {@link MediaTweetEntry.Size#FIT} and
+     * {@link MediaTweetEntry.Size#CROP})
+     */
+    public record MediaSize(int width, int height, int resize) {
+
+        private MediaTweetEntry.Size toSize() {
+            return MediaTweetEntry.createSize(width, height, resize);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.impl.replay.config.ReplaySettings;
+import org.tweetwallfx.tweet.journal.TweetJournal;
+
+/**
+ * The tweets of a recording ordered by the point in time they have been
+ * created at. Tweets created at the same point in time keep the order of the
+ * recording.
+ */
+final class Recording {
+
+    private static final Comparator<Tweet> CREATION_ORDER = Comparator.comparing(
+            Tweet::getCreatedAt,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final List<Tweet> tweets;
+    private final Map<Long, Tweet> tweetsById;
+    private final Map<Long, User> usersById;
+
+    Recording(final List<? extends Tweet> recordedTweets) {
+        final List<Tweet> sorted = new ArrayList<>(recordedTweets.size());
+        recordedTweets.stream()
+                .map(TweetSnapshot::of)
+                .filter(Objects::nonNull)
+                .forEach(sorted::add);
+        sorted.sort(CREATION_ORDER);
+
+        this.tweets = List.copyOf(sorted);
+        this.tweetsById = HashMap.newHashMap(tweets.size());
+        this.usersById = new HashMap<>();
+
+        for (final Tweet tweet : tweets) {
+            tweetsById.putIfAbsent(tweet.getId(), tweet);
+
+            final User user = tweet.getUser();
+            if (null != user) {
+                usersById.putIfAbsent(user.getId(), user);
+            }
+        }
+    }
+
+    /**
+     * Loads the recording configured in the given settings.
+     *
+     * @param settings the settings of the replay
+     *
+     * @return the loaded recording
+     *
+     * @throws UncheckedIOException in case the recording cannot be read
+     */
+    static Recording load(final ReplaySettings settings) {
+        final Path source = Path.of(settings.source());
+        final ReplaySettings.Format format = Objects.requireNonNullElseGet(
+                settings.format(),
+                () -> Files.isDirectory(source) ? ReplaySettings.Format.JOURNAL : ReplaySettings.Format.JSON_LINES);
+
+        try {
+            return switch (format) {
+                case JOURNAL ->
+                    new Recording(TweetJournal.read(source));
+                case JSON_LINES ->
+                    new Recording(readJsonLines(source));
+            };
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read recording " + source, e);
+        }
+    }
+
+    @SuppressWarnings("try")
+    static List<RecordedTweet> readJsonLines(final Path file) throws IOException {
+        final List<RecordedTweet> recordedTweets = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                Jsonb jsonb = JsonbBuilder.create()) {
+            String line;
+            int lineNumber = 0;
+
+            while (null != (line = reader.readLine())) {
+                lineNumber++;
+
+                if (!line.isBlank()) {
+                    try {
+                        recordedTweets.add(jsonb.fromJson(line, RecordedTweet.class));
+                    } catch (final RuntimeException e) {
+                        throw new IOException("Invalid recorded tweet in line " + lineNumber + " of " + file, e);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IOException("Failed to read " + file, e);
+        }
+
+        return recordedTweets;
+    }
+
+    /**
+     * Returns the recorded tweets ordered by the point in time they have been
+     * created at.
+     *
+     * @return the recorded tweets
+     */
+    List<Tweet> tweets() {
+        return tweets;
+    }
+
+    /**
+     * Returns the recorded tweet with the given id.
+     *
+     * @param id the id of the tweet
+     *
+     * @return the recorded tweet or {@code null} in case it is not recorded
+     */
+    Tweet getTweet(final long id) {
+        return tweetsById.get(id);
+    }
+
+    /**
+     * Returns the author of a recorded tweet with the given id.
+     *
+     * @param id the id of the user
+     *
+     * @return the recorded user or {@code null} in case it is not recorded
+     */
+    User getUser(final long id) {
+        return usersById.get(id);
+    }
+
+    /**
+     * Returns the point in time the recording starts at, i.e. the creation
+     * time of the first recorded tweet with a creation time.
+     *
+     * @return the start of the recording or {@code null} in case no recorded
+     * tweet has a creation time
+     */
+    LocalDateTime start() {
+        return tweets.stream()
+                .map(Tweet::getCreatedAt)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetPublisher;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.User;
+
+final class ReplayTweetStream implements TweetStream, Consumer<Tweet> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayTweetStream.class);
+
+    private final List<Consumer<Tweet>> consumers = new ArrayList<>();
+    private final List<TweetPublisher> publishers = new ArrayList<>();
+    private final List<Tweet> replayed = new ArrayList<>();
+    private final List<String> tracks;
+    private final Runnable replayStarter;
+
+    ReplayTweetStream(final TweetFilterQuery filterQuery, final Runnable replayStarter) {
+        this.replayStarter = replayStarter;
+        this.tracks = null == filterQuery.getTrack()
+                ? List.of()
+                : Stream.of(filterQuery.getTrack())
+                        .map(track -> track.toLowerCase(Locale.ENGLISH))
+                        .toList();
+    }
+
+    @Override
+    public void onTweet(final Consumer<Tweet> tweetConsumer) {
+        LOGGER.debug("onTweet({})", tweetConsumer);
+        synchronized (this) {
+            // a consumer registered late receives the tweets replayed before first
+            replayed.forEach(tweetConsumer);
+            consumers.add(tweetConsumer);
+        }
+        replayStarter.run();
+    }
+
+    @Override
+    public Flow.Publisher<Tweet> asPublisher(final int bufferSize, final TweetPublisher.OverflowPolicy overflowPolicy) {
+        LOGGER.debug("asPublisher({}, {})", bufferSize, overflowPolicy);
+        final TweetPublisher publisher = new TweetPublisher(bufferSize, overflowPolicy);
+        synchronized (this) {
+            // buffered for the subscribers according to the given overflow policy
+            replayed.forEach(publisher);
+            publishers.add(publisher);
+        }
+        replayStarter.run();
+        return publisher;
+    }
+
+    @Override
+    public synchronized void accept(final Tweet tweet) {
+        if (matches(tweet)) {
+            replayed.add(tweet);
+            consumers.forEach(consumer -> consumer.accept(tweet));
+            publishers.forEach(publisher -> publisher.accept(tweet));
+        }
+    }
+
+    private boolean matches(final Tweet tweet) {
+        if (tracks.isEmpty()) {
+            return true;
+        }
+
+        final String text = null == tweet.getText() ? "" : tweet.getText().toLowerCase(Locale.ENGLISH);
+        final User user = tweet.getUser();
+        final String screenName = null == user || null == user.getScreenName()
+                ? null
+                : '@' + user.getScreenName().toLowerCase(Locale.ENGLISH);
+
+        for (final String track : tracks) {
+            if (text.contains(track) || track.equals(screenName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.filterchain.FilterChain;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.Tweeter;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.impl.replay.config.ReplaySettings;
+
+import static org.tweetwallfx.tweet.impl.replay.config.ReplaySettings.CONFIG_KEY;
+
+/**
+ * {@link Tweeter} replaying recorded tweets, e.g. in order to benchmark the
+ * filter chain, the data providers and the steps with reproducible traffic
+ * and without network access.
+ *
+ * <p>
+ * The replay starts with the first consumer being registered at a tweet
+ * stream. Consumers registered later on receive the tweets already replayed
+ * by their stream first, so that no tweet gets lost while the consumers of a
+ * stream are registered one after another. Every tweet is dispatched at the
+ * offset of its creation time to the creation time of the first replayed
+ * tweet divided by the configured speed. The offsets are
+ * measured from the start of the replay so that bursts keep their original
+ * timing regardless of the time spent dispatching. Search serves the tweets
+ * replayed so far, preceded by the tweets of the configured history.
+ */
+public final class ReplayTweeter implements Tweeter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayTweeter.class);
+
+    private final ReplaySettings settings;
+    private final Recording recording;
+    private final Predicate<Tweet> tweetFilter;
+    private final List<ReplayTweetStream> streams = new CopyOnWriteArrayList<>();
+    private final int historySize;
+    private volatile int replayed;
+    private Thread replayThread;
+
+    /**
+     * Used from service loader.
+     */
+    public ReplayTweeter() {
+        this(Configuration.getInstance().getConfigTyped(CONFIG_KEY, ReplaySettings.class),
+                FilterChain.createFilterChain(Tweet.class, "replay").asPredicate());
+    }
+
+    private ReplayTweeter(final ReplaySettings settings, final Predicate<Tweet> tweetFilter) {
+        this(settings,
+                settings.enabled() ? Recording.load(settings) : new Recording(List.of()),
+                tweetFilter);
+    }
+
+    ReplayTweeter(final ReplaySettings settings, final Recording recording, final Predicate<Tweet> tweetFilter) {
+        LOGGER.debug("Initializing with configuration: {}", settings);
+        this.settings = settings;
+        this.recording = recording;
+        this.tweetFilter = tweetFilter;
+        this.historySize = historySize(recording.tweets(), recording.start(), settings.historySeconds());
+        this.replayed = historySize;
+        LOGGER.info("Loaded {} recorded tweets of which {} are served as history", recording.tweets().size(), historySize);
+    }
+
+    private static int historySize(final List<Tweet> tweets, final LocalDateTime start, final long historySeconds) {
+        if (0 == historySeconds || null == start) {
+            return 0;
+        }
+
+        final LocalDateTime end = start.plusSeconds(historySeconds);
+        int size = 0;
+
+        while (size < tweets.size()
+                && (null == tweets.get(size).getCreatedAt() || tweets.get(size).getCreatedAt().isBefore(end))) {
+            size++;
+        }
+
+        return size;
+    }
+
+    private synchronized void startReplay() {
+        if (null == replayThread) {
+            LOGGER.debug("Starting replay with speed {}", settings.speed());
+            replayThread = Thread.ofVirtual().name("tweet-replay").start(this::replay);
+        }
+    }
+
+    private void replay() {
+        final List<Tweet> tweets = recording.tweets();
+        final LocalDateTime origin = tweets.subList(historySize, tweets.size()).stream()
+                .map(Tweet::getCreatedAt)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        final long startNanos = System.nanoTime();
+
+        try {
+            for (int i = historySize; i < tweets.size(); i++) {
+                final Tweet tweet = tweets.get(i);
+                awaitReplayTime(origin, tweet.getCreatedAt(), startNanos);
+                replayed = i + 1;
+
+                if (tweetFilter.test(tweet)) {
+                    streams.forEach(stream -> stream.accept(tweet));
+                }
+            }
+
+            LOGGER.info("Replayed {} tweets in {} ms",
+                    tweets.size() - historySize,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Replay interrupted after {} tweets", replayed - historySize);
+        }
+    }
+
+    private void awaitReplayTime(final LocalDateTime origin, final LocalDateTime createdAt, final long startNanos) throws InterruptedException {
+        if (0 == settings.speed() || null == origin || null == createdAt) {
+            return;
+        }
+
+        final long offsetNanos = (long) (Duration.between(origin, createdAt).toNanos() / settings.speed());
+        final long waitNanos = startNanos + offsetNanos - System.nanoTime();
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private Stream<Tweet> history(final TweetQuery tweetQuery) {
+        final List<Tweet> tweets = recording.tweets();
+        final int end = replayed;
+        final Long sinceId = tweetQuery.getSinceId();
+        final Long maxId = tweetQuery.getMaxId();
+        final String lang = tweetQuery.getLang();
+
+        return IntStream.range(0, end)
+                .mapToObj(i -> tweets.get(end - 1 - i))
+                .filter(tweet -> null == sinceId || tweet.getId() > sinceId)
+                .filter(tweet -> null == maxId || tweet.getId() <= maxId)
+                .filter(tweet -> null == lang || lang.equals(tweet.getLang()))
+                .filter(tweetFilter);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    @Override
+    public TweetStream createTweetStream(final TweetFilterQuery filterQuery) {
+        LOGGER.debug("createTweetStream({})", filterQuery);
+        final ReplayTweetStream stream = new ReplayTweetStream(filterQuery, this::startReplay);
+        streams.add(stream);
+        return stream;
+    }
+
+    @Override
+    public Tweet getTweet(final long tweetId) {
+        LOGGER.debug("getTweet({})", tweetId);
+        return recording.getTweet(tweetId);
+    }
+
+    @Override
+    public User getUser(final String userId) {
+        LOGGER.debug("getUser({})", userId);
+        return recording.getUser(Long.parseLong(userId));
+    }
+
+    @Override
+    public Stream<User> getFriends(final User user) {
+        LOGGER.debug("getFriends({})", user);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFriends(final String userScreenName) {
+        LOGGER.debug("getFriends({})", userScreenName);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFriends(final long userId) {
+        LOGGER.debug("getFriends({})", userId);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final User user) {
+        LOGGER.debug("getFollowers({})", user);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final String userScreenName) {
+        LOGGER.debug("getFollowers({})", userScreenName);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final long userId) {
+        LOGGER.debug("getFollowers({})", userId);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<Tweet> search(final TweetQuery tweetQuery) {
+        LOGGER.debug("search({})", tweetQuery);
+        final Stream<Tweet> history = history(tweetQuery);
+        return null == tweetQuery.getCount()
+                ? history
+                : history.limit(tweetQuery.getCount());
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, final int numberOfPages) {
+        LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
+        final Stream<Tweet> history = history(tweetQuery);
+        return null == tweetQuery.getCount()
+                ? history
+                : history.limit((long) tweetQuery.getCount() * numberOfPages);
+    }
+
+    @Override
+    public void shutdown() {
+        LOGGER.debug("shutdown()");
+        final Thread thread;
+        synchronized (this) {
+            thread = replayThread;
+        }
+
+        if (null != thread) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+import org.tweetwallfx.tweet.impl.replay.ReplayTweeter;
+
+/**
+ * POJO for reading Settings concerning the {@link ReplayTweeter}.
+ *
+ * <p>
+ * Param {@code enabled} flag indicating that the recorded tweets are
+ * replayed. Defaults to {@code false}.
+ *
+ * <p>
+ * Param {@code source} the file containing the recorded tweets as JSON lines
+ * or the directory of a recorded tweet journal. Required when enabled.
+ *
+ * <p>
+ * Param {@code format} the format of the recording. Defaults to
+ * {@link Format#JOURNAL} in case {@code source} is a directory and
+ * {@link Format#JSON_LINES} otherwise.
+ *
+ * <p>
+ * Param {@code speed} the factor the recorded timing is accelerated by, e.g.
+ * {@code 10} replays the recording ten times faster than recorded. The value
+ * {@code 0} replays the recorded tweets as fast as possible. Defaults to
+ * {@code 1}.
+ *
+ * <p>
+ * Param {@code historySeconds} the number of seconds at the beginning of the
+ * recording that are served as history via search instead of being replayed.
+ * Defaults to {@code 0}.
+ */
+public record ReplaySettings(
+        Boolean enabled,
+        String source,
+        Format format,
+        Double speed,
+        Long historySeconds) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "replay";
+
+    public ReplaySettings {
+        enabled = Objects.requireNonNullElse(enabled, false);
+        if (enabled && null == source) {
+            throw new IllegalArgumentException("property 'source' must be set");
+        }
+        speed = Objects.requireNonNullElse(speed, 1.0);
+        if (speed < 0 || speed.isNaN()) {
+            throw new IllegalArgumentException("property 'speed' must not be negative");
+        }
+        historySeconds = Objects.requireNonNullElse(historySeconds, 0L);
+        if (historySeconds < 0) {
+            throw new IllegalArgumentException("property 'historySeconds' must not be negative");
+        }
+    }
+
+    /**
+     * The formats a recording can be stored in.
+     */
+    public enum Format {
+
+        /**
+         * A file containing one JSON object per line.
+         */
+        JSON_LINES,
+        /**
+         * The directory of a tweet journal.
+         */
+        JOURNAL
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link ReplaySettings#CONFIG_KEY} into {@link ReplaySettings}.
+     */
+    public static final class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return ReplaySettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return ReplaySettings.class;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.impl.replay.config.ReplaySettings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@MockitoSettings
+class ReplayTweeterTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 17, 10, 0);
+
+    @TempDir
+    Path directory;
+    ReplayTweeter tweeter;
+
+    @AfterEach
+    void shutdown() {
+        if (null != tweeter) {
+            tweeter.shutdown();
+        }
+    }
+
+    @Test
+    void invalidSettings() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ReplaySettings(true, null, null, null, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new ReplaySettings(true, "tweets.jsonl", null, -1.0, null));
+        assertThat(new ReplaySettings(null, null, null, null, null))
+                .isEqualTo(new ReplaySettings(false, null, null, 1.0, 0L));
+    }
+
+    @Test
+    void servesHistoryAndReplaysAsFastAsPossible() throws InterruptedException {
+        final Recording recording = new Recording(List.of(
+                tweet(3, "third #javaone", START.plusSeconds(2)),
+                tweet(1, "first #javaone", START),
+                tweet(2, "second", START.plusSeconds(1)),
+                tweet(4, "fourth #JavaOne", START.plusHours(1)),
+                tweet(5, "fifth", START.plusHours(2)),
+                tweet(6, "sixth #javaone", START.plusHours(3))));
+        tweeter = new ReplayTweeter(new ReplaySettings(true, "tweets.jsonl", null, 0.0, 60L), recording, tweet -> 5 != tweet.getId());
+
+        assertThat(tweeter.search(new TweetQuery()).map(Tweet::getId)).containsExactly(3L, 2L, 1L);
+        assertThat(tweeter.getTweet(6).getText()).isEqualTo("sixth #javaone");
+        assertThat(tweeter.getUser("7").getScreenName()).isEqualTo("johnDoe");
+
+        final BlockingQueue<Tweet> replayed = new LinkedBlockingQueue<>();
+        final TweetStream stream = tweeter.createTweetStream(new TweetFilterQuery().track(new String[]{"#javaone"}));
+        // the replay does not start before a consumer is registered
+        assertThat(tweeter.search(new TweetQuery()).map(Tweet::getId)).containsExactly(3L, 2L, 1L);
+        stream.onTweet(replayed::add);
+
+        assertThat(replayed.poll(5, TimeUnit.SECONDS)).extracting(Tweet::getId).isEqualTo(4L);
+        assertThat(replayed.poll(5, TimeUnit.SECONDS)).extracting(Tweet::getId).isEqualTo(6L);
+        assertThat(tweeter.search(new TweetQuery()).map(Tweet::getId)).containsExactly(6L, 4L, 3L, 2L, 1L);
+        assertThat(tweeter.search(new TweetQuery().sinceId(2L).count(2)).map(Tweet::getId)).containsExactly(6L, 4L);
+        assertThat(tweeter.searchPaged(new TweetQuery().count(1), 3).map(Tweet::getId)).containsExactly(6L, 4L, 3L);
+
+        // a consumer registered late receives the tweets replayed before
+        final List<Tweet> replayedBefore = new ArrayList<>();
+        stream.onTweet(replayedBefore::add);
+        assertThat(replayedBefore).extracting(Tweet::getId).containsExactly(4L, 6L);
+    }
+
+    @Test
+    void keepsRecordedTiming() throws InterruptedException {
+        final Recording recording = new Recording(List.of(
+                tweet(1, "first", START),
+                tweet(2, "second", START.plusSeconds(1))));
+        tweeter = new ReplayTweeter(new ReplaySettings(true, "tweets.jsonl", null, 10.0, null), recording, tweet -> true);
+
+        final BlockingQueue<Tweet> replayed = new LinkedBlockingQueue<>();
+        final long start = System.nanoTime();
+        tweeter.createTweetStream(new TweetFilterQuery()).onTweet(replayed::add);
+
+        assertThat(replayed.poll(5, TimeUnit.SECONDS)).extracting(Tweet::getId).isEqualTo(1L);
+        assertThat(replayed.poll(5, TimeUnit.SECONDS)).extracting(Tweet::getId).isEqualTo(2L);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void readJsonLines() throws IOException {
+        final Path file = directory.resolve("tweets.jsonl");
+        Files.writeString(file, """
+                {"id": 2, "createdAt": "2026-10-17T10:00:01", "text": "#javaone rocks", "user": {"id": 7, "screenName": "johnDoe"}, "hashtags": [{"text": "javaone", "start": 0, "end": 8}]}
+
+                {"id": 1, "createdAt": "2026-10-17T10:00:00", "text": "hello", "favoriteCount": 3}
+                """);
+
+        final Recording recording = Recording.load(new ReplaySettings(true, file.toString(), null, null, null));
+
+        assertThat(recording.tweets()).extracting(Tweet::getId).containsExactly(1L, 2L);
+        assertThat(recording.start()).isEqualTo(START);
+        assertThat(recording.getTweet(1).getFavoriteCount()).isEqualTo(3);
+        assertThat(recording.getTweet(2).getHashtagEntries()).singleElement()
+                .satisfies(entry -> assertThat(entry.getText()).isEqualTo("javaone"));
+        assertThat(recording.getUser(7).getScreenName()).isEqualTo("johnDoe");
+    }
+
+    private static RecordedTweet tweet(final long id, final String text, final LocalDateTime createdAt) {
+        return new RecordedTweet(id, createdAt, text, "en", null, null, null, null, null, null,
+                new RecordedTweet.Author(7L, "John Doe", "johnDoe", "en", null, null, null, null),
+                null, null, null, null, null, null);
+    }
+}
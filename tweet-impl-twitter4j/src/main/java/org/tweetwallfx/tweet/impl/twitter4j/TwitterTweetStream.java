@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2023 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -27,12 +27,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetPublisher;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
 import org.tweetwallfx.tweet.api.TweetStream;
 import twitter4j.v1.FilterQuery;
 import twitter4j.v1.Status;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -41,6 +44,7 @@ final class TwitterTweetStream implements TweetStream, Consumer<Status> {
     private static final Logger LOG = LoggerFactory.getLogger(TwitterTweetStream.class);
 
     private final List<Consumer<Tweet>> tweetConsumerList = new CopyOnWriteArrayList<>();
+    private final List<TweetPublisher> publishers = new CopyOnWriteArrayList<>();
 
     private final TweetFilterQuery filterQuery;
     private final Predicate<Tweet> tweetFilter;
@@ -60,14 +64,27 @@ final class TwitterTweetStream implements TweetStream, Consumer<Status> {
         }
     }
 
+    @Override
+    public Flow.Publisher<Tweet> asPublisher(final int bufferSize, final TweetPublisher.OverflowPolicy overflowPolicy) {
+        LOG.info("Adding publisher with buffer size {} and overflow policy {}", bufferSize, overflowPolicy);
+        final TweetPublisher publisher = new TweetPublisher(bufferSize, overflowPolicy);
+        publishers.add(publisher);
+        return publisher;
+    }
+
     @Override
     public void accept(Status status) {
-        TwitterTweet twitterTweet = new TwitterTweet(status);
-        if (tweetFilter.test(twitterTweet)) {
+        if (tweetConsumerList.isEmpty() && publishers.stream().noneMatch(TweetPublisher::hasDemand)) {
+            LOG.debug("Skipping status {} without demand", status.getId());
+            return;
+        }
+        Tweet tweet = TweetSnapshot.of(new TwitterTweet(status));
+        if (tweetFilter.test(tweet)) {
             synchronized (TwitterTweetStream.this) {
                 LOG.info("redispatching new received tweet to {}", tweetConsumerList);
-                tweetConsumerList.stream().forEach(consumer -> consumer.accept(twitterTweet));
+                tweetConsumerList.stream().forEach(consumer -> consumer.accept(tweet));
             }
+            publishers.forEach(publisher -> publisher.accept(tweet));
         }
     }
 
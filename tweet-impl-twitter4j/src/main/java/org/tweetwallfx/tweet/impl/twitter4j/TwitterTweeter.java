@@ -1,7 +1,7 @@
 /*
  * The MIT License (MIT)
  *
- * Copyright (c) 2015-2025 TweetWallFX
+ * Copyright (c) 2015-2026 TweetWallFX
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -30,6 +30,7 @@ import org.tweetwallfx.filterchain.FilterChain;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
 import org.tweetwallfx.tweet.api.TweetStream;
 import org.tweetwallfx.tweet.api.Tweeter;
 import org.tweetwallfx.tweet.api.User;
@@ -78,9 +79,9 @@ public class TwitterTweeter implements Tweeter {
     @Override
     public Tweet getTweet(long tweetId) {
         try {
-            return new TwitterTweet(instance().twitterV1().tweets().showStatus(tweetId));
+            return TweetSnapshot.of(new TwitterTweet(instance().twitterV1().tweets().showStatus(tweetId)));
         } catch (TwitterException ex) {
-            throw new IllegalArgumentException("Error getting Status for " + tweetId, ex);
+            throw lookupFailure("Error getting Status for " + tweetId, ex);
         }
     }
 
@@ -89,10 +90,21 @@ public class TwitterTweeter implements Tweeter {
         try {
             return new TwitterUser(instance().twitterV1().users().showUser(userId));
         } catch (TwitterException ex) {
-            throw new IllegalArgumentException("Error getting User for " + userId, ex);
+            throw lookupFailure("Error getting User for " + userId, ex);
         }
     }
 
+    /**
+     * Converts the failure of looking up a tweet or user. An unknown tweet or
+     * user is reported by an {@link IllegalArgumentException} so that it is
+     * not mistaken for the backend being unavailable.
+     */
+    private static RuntimeException lookupFailure(final String message, final TwitterException ex) {
+        return ex.resourceNotFound()
+                ? new IllegalArgumentException(message, ex)
+                : new IllegalStateException(message, ex);
+    }
+
     @Override
     public Stream<User> getFriends(final User user) {
         return getFriends(user.getId());
@@ -166,6 +178,7 @@ public class TwitterTweeter implements Tweeter {
 
         return result.getTweets().stream()
                 .map(TwitterTweet::new)
+                .map(TweetSnapshot::of)
                 .map(Tweet.class::cast)
                 .filter(FILTER_CHAIN.asPredicate());
     }
@@ -271,7 +284,7 @@ public class TwitterTweeter implements Tweeter {
         @Override
         public Tweet next() {
             if (hasNext()) {
-                return new TwitterTweet(statuses.next());
+                return TweetSnapshot.of(new TwitterTweet(statuses.next()));
             } else {
                 throw new NoSuchElementException();
             }
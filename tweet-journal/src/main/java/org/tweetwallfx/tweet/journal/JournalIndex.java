@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal;
+
+import java.util.Arrays;
+
+/**
+ * Index of the tweets stored in the {@link TweetJournal}. Keeps the ids and
+ * the positions of the tweets in the order they have been appended and maps
+ * the ids onto their ordinal in an open addressing hash table so that no
+ * boxing is involved.
+ *
+ * <p>
+ * Instances are not thread safe.
+ */
+final class JournalIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] positions = new long[INITIAL_CAPACITY];
+    // ordinal + 1 of the tweet hashed to the slot, 0 marks a free slot
+    private int[] slots = new int[2 * INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the tweet with the given id stored at the given position.
+     *
+     * @param id the id of the tweet
+     *
+     * @param position the position of the tweet in the journal
+     *
+     * @return {@code true} if the tweet has been added or {@code false} in
+     * case a tweet with the same id is already contained
+     */
+    boolean add(final long id, final long position) {
+        if (ordinalOf(id) >= 0) {
+            return false;
+        }
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, 2 * size);
+            positions = Arrays.copyOf(positions, 2 * size);
+        }
+
+        if (2 * (size + 1) > slots.length) {
+            rehash(2 * slots.length);
+        }
+
+        ids[size] = id;
+        positions[size] = position;
+        insert(id, size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the position of the tweet with the given id.
+     *
+     * @param id the id of the tweet
+     *
+     * @return the position of the tweet or {@code -1} in case no tweet with
+     * the id is contained
+     */
+    long positionOf(final long id) {
+        final int ordinal = ordinalOf(id);
+        return ordinal < 0 ? -1 : positions[ordinal];
+    }
+
+    /**
+     * {@return the number of indexed tweets}.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * {@return a copy of the positions of the indexed tweets in the order they
+     * have been appended}.
+     */
+    long[] positions() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    /**
+     * Removes the given number of tweets appended first.
+     *
+     * @param count the number of tweets to remove
+     */
+    void removeFirst(final int count) {
+        final int removed = Math.min(count, size);
+
+        if (removed > 0) {
+            System.arraycopy(ids, removed, ids, 0, size - removed);
+            System.arraycopy(positions, removed, positions, 0, size - removed);
+            size -= removed;
+            rehash(slots.length);
+        }
+    }
+
+    private int ordinalOf(final long id) {
+        final int mask = slots.length - 1;
+
+        for (int slot = hash(id) & mask;; slot = (slot + 1) & mask) {
+            final int ordinal = slots[slot] - 1;
+
+            if (ordinal < 0 || ids[ordinal] == id) {
+                return ordinal;
+            }
+        }
+    }
+
+    private void insert(final long id, final int ordinal) {
+        final int mask = slots.length - 1;
+        int slot = hash(id) & mask;
+
+        while (0 != slots[slot]) {
+            slot = (slot + 1) & mask;
+        }
+
+        slots[slot] = ordinal + 1;
+    }
+
+    private void rehash(final int capacity) {
+        slots = new int[capacity];
+
+        for (int i = 0; i < size; i++) {
+            insert(ids[i], i);
+        }
+    }
+
+    private static int hash(final long id) {
+        final long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
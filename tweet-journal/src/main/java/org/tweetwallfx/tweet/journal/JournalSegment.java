@@ -0,0 +1,325 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory mapped segment file of the {@link TweetJournal}.
+ *
+ * <p>
+ * A segment starts with a header identifying the file format followed by
+ * the records. A record consists of the length of its data, the CRC32C
+ * checksum of its data and the data itself, which is the time the tweet has
+ * been journaled followed by the encoded tweet (see {@link TweetCodec}). The
+ * length is written last, so a record that has not been written completely
+ * marks the end of the segment.
+ *
+ * <p>
+ * Instances are not thread safe. The data of records having been appended
+ * may be read concurrently.
+ */
+final class JournalSegment {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalSegment.class);
+    private static final int MAGIC = 0x54574a31;
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final String FILE_PREFIX = "tweets-";
+    static final String FILE_SUFFIX = ".journal";
+
+    private final long sequence;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writeOffset = HEADER_SIZE;
+    private int recordCount;
+    private long lastAppendMillis;
+
+    private JournalSegment(final long sequence, final Path file, final FileChannel channel, final MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a new empty segment.
+     *
+     * @param directory the directory of the journal
+     *
+     * @param sequence the sequence number of the segment
+     *
+     * @param size the size of the segment in bytes
+     *
+     * @return the created segment
+     *
+     * @throws IOException in case the segment file cannot be created
+     */
+    static JournalSegment create(final Path directory, final long sequence, final int size) throws IOException {
+        final Path file = directory.resolve("%s%020d%s".formatted(FILE_PREFIX, sequence, FILE_SUFFIX));
+        final FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            final JournalSegment segment = new JournalSegment(sequence, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segment.buffer.putInt(0, MAGIC);
+            segment.lastAppendMillis = System.currentTimeMillis();
+            return segment;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing segment and passes the ids and offsets of its records
+     * to the given visitor in the order they have been appended.
+     *
+     * @param file the segment file
+     *
+     * @param writable flag indicating that records are to be appended to the
+     * segment
+     *
+     * @param visitor the visitor of the records
+     *
+     * @return the opened segment
+     *
+     * @throws IOException in case the segment file cannot be read or is no
+     * segment file
+     */
+    static JournalSegment open(final Path file, final boolean writable, final RecordVisitor visitor) throws IOException {
+        final FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            final long size = channel.size();
+
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid size of journal segment " + file + ": " + size);
+            }
+
+            final JournalSegment segment = new JournalSegment(
+                    sequenceOf(file),
+                    file,
+                    channel,
+                    channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size));
+
+            if (MAGIC != segment.buffer.getInt(0)) {
+                throw new IOException("Not a journal segment: " + file);
+            }
+
+            segment.scan(visitor);
+
+            // the remainder of the segment is overwritten by the next appends
+            if (writable && segment.writeOffset + Integer.BYTES <= segment.buffer.capacity()) {
+                segment.buffer.putInt(segment.writeOffset, 0);
+            }
+
+            return segment;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Determines whether the given file is a segment file.
+     *
+     * @param file the file to check
+     *
+     * @return {@code true} if the file is a segment file
+     */
+    static boolean isSegmentFile(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    /**
+     * Determines the sequence number of the given segment file.
+     *
+     * @param file the segment file
+     *
+     * @return the sequence number of the segment
+     */
+    static long sequenceOf(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    private void scan(final RecordVisitor visitor) {
+        final CRC32C crc = new CRC32C();
+
+        while (writeOffset + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            final int length = buffer.getInt(writeOffset);
+
+            if (length <= 0) {
+                break;
+            }
+
+            if (length < Long.BYTES + Long.BYTES || length > buffer.capacity() - writeOffset - RECORD_HEADER_SIZE) {
+                LOGGER.warn("Ignoring truncated record at {} of journal segment {}", writeOffset, file);
+                break;
+            }
+
+            crc.reset();
+            crc.update(buffer.slice(writeOffset + RECORD_HEADER_SIZE, length));
+
+            if ((int) crc.getValue() != buffer.getInt(writeOffset + Integer.BYTES)) {
+                LOGGER.warn("Ignoring corrupt record at {} of journal segment {}", writeOffset, file);
+                break;
+            }
+
+            lastAppendMillis = buffer.getLong(writeOffset + RECORD_HEADER_SIZE);
+            visitor.visit(TweetCodec.readId(buffer, writeOffset + RECORD_HEADER_SIZE + Long.BYTES), writeOffset);
+            recordCount++;
+            writeOffset += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    /**
+     * Appends a record for the given encoded tweet.
+     *
+     * @param tweet the encoded tweet
+     *
+     * @param journaledAt the time in milli seconds since the epoch the tweet
+     * is journaled at
+     *
+     * @return the offset of the record or {@code -1} in case the record does
+     * not fit into the remainder of the segment
+     */
+    int append(final byte[] tweet, final long journaledAt) {
+        final int length = Long.BYTES + tweet.length;
+        final int offset = writeOffset;
+
+        if (length > buffer.capacity() - offset - RECORD_HEADER_SIZE) {
+            return -1;
+        }
+
+        buffer.putLong(offset + RECORD_HEADER_SIZE, journaledAt);
+        buffer.put(offset + RECORD_HEADER_SIZE + Long.BYTES, tweet);
+
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + RECORD_HEADER_SIZE, length));
+        buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+
+        // terminate the records before the length of this record makes it valid
+        final int nextOffset = offset + RECORD_HEADER_SIZE + length;
+        if (nextOffset + Integer.BYTES <= buffer.capacity()) {
+            buffer.putInt(nextOffset, 0);
+        }
+        buffer.putInt(offset, length);
+
+        writeOffset = nextOffset;
+        recordCount++;
+        lastAppendMillis = journaledAt;
+        return offset;
+    }
+
+    /**
+     * Returns the encoded tweet of the record at the given offset.
+     *
+     * @param offset the offset of the record
+     *
+     * @return a buffer containing the encoded tweet
+     */
+    ByteBuffer read(final int offset) {
+        final int length = buffer.getInt(offset);
+        return buffer.slice(offset + RECORD_HEADER_SIZE + Long.BYTES, length - Long.BYTES);
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    /**
+     * Forces the appended records to be written to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Closes the segment. The records remain readable.
+     *
+     * @throws IOException in case closing the segment file fails
+     */
+    void close() throws IOException {
+        if (!buffer.isReadOnly()) {
+            force();
+        }
+        channel.close();
+    }
+
+    /**
+     * Closes and deletes the segment.
+     *
+     * @throws IOException in case closing or deleting the segment file fails
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    public String toString() {
+        return file.getFileName().toString();
+    }
+
+    /**
+     * Visitor of the records of a segment.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+
+        /**
+         * Visits a record of a segment.
+         *
+         * @param id the id of the tweet of the record
+         *
+         * @param offset the offset of the record
+         */
+        void visit(long id, int offset);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.UserSnapshot;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.entry.TweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * Binary encoding of the data of a {@link Tweet} as stored in the
+ * {@link TweetJournal}.
+ *
+ * <p>
+ * The encoding starts with the id and the creation time of the tweet so
+ * that these can be read without decoding the complete tweet. Strings are
+ * encoded as their UTF-8 length followed by their UTF-8 bytes with a length
+ * of {@code -1} denoting {@code null}.
+ */
+final class TweetCodec {
+
+    private static final byte ORIGIN_SELF = 0;
+    private static final byte ORIGIN_RETWEETED = 1;
+    private static final byte ORIGIN_OTHER = 2;
+    private static final int FLAG_RETWEET = 1;
+    private static final int FLAG_TRUNCATED = 2;
+    private static final MediaTweetEntryType[] MEDIA_TYPES = MediaTweetEntryType.values();
+
+    private TweetCodec() {
+        // prevent instantiation
+    }
+
+    /**
+     * Encodes the given tweet.
+     *
+     * @param tweet the tweet to encode
+     *
+     * @return the encoded tweet
+     */
+    static byte[] encode(final Tweet tweet) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeTweet(out, tweet);
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the tweet encoded in the remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer containing the encoded tweet
+     *
+     * @return the decoded tweet
+     */
+    static TweetSnapshot decode(final ByteBuffer buffer) {
+        return readTweet(buffer);
+    }
+
+    /**
+     * Reads the id of the tweet encoded at the given index of the buffer.
+     *
+     * @param buffer the buffer containing the encoded tweet
+     *
+     * @param index the index of the encoded tweet
+     *
+     * @return the id of the tweet
+     */
+    static long readId(final ByteBuffer buffer, final int index) {
+        return buffer.getLong(index);
+    }
+
+    private static void writeTweet(final DataOutputStream out, final Tweet tweet) throws IOException {
+        final LocalDateTime createdAt = tweet.getCreatedAt();
+
+        out.writeLong(tweet.getId());
+        out.writeLong(null == createdAt ? Long.MIN_VALUE : createdAt.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(null == createdAt ? 0 : createdAt.getNano());
+        out.writeInt(tweet.getFavoriteCount());
+        out.writeInt(tweet.getRetweetCount());
+        out.writeLong(tweet.getInReplyToTweetId());
+        out.writeLong(tweet.getInReplyToUserId());
+        writeString(out, tweet.getInReplyToScreenName());
+        writeString(out, tweet.getLang());
+        writeString(out, tweet.getText());
+        out.writeByte((tweet.isRetweet() ? FLAG_RETWEET : 0) | (tweet.isTruncated() ? FLAG_TRUNCATED : 0));
+        writeUser(out, tweet.getUser());
+        writeEntries(out, tweet.getHashtagEntries());
+        writeEntries(out, tweet.getSymbolEntries());
+        writeUrlEntries(out, tweet.getUrlEntries());
+        writeUserMentionEntries(out, tweet.getUserMentionEntries());
+        writeMediaEntries(out, tweet.getMediaEntries());
+
+        final Tweet retweetedTweet = tweet.getRetweetedTweet();
+        out.writeBoolean(null != retweetedTweet);
+        if (null != retweetedTweet) {
+            writeTweet(out, retweetedTweet);
+        }
+
+        final Tweet originTweet = tweet.getOriginTweet();
+        if (null == originTweet || tweet == originTweet) {
+            out.writeByte(ORIGIN_SELF);
+        } else if (null != retweetedTweet && originTweet.getId() == retweetedTweet.getId()) {
+            out.writeByte(ORIGIN_RETWEETED);
+        } else {
+            out.writeByte(ORIGIN_OTHER);
+            writeTweet(out, originTweet);
+        }
+    }
+
+    private static void writeUser(final DataOutputStream out, final User user) throws IOException {
+        out.writeBoolean(null != user);
+
+        if (null != user) {
+            out.writeLong(user.getId());
+            writeString(out, user.getName());
+            writeString(out, user.getScreenName());
+            writeString(out, user.getLang());
+            writeString(out, user.getProfileImageUrl());
+            writeString(out, user.getBiggerProfileImageUrl());
+            out.writeInt(user.getFollowersCount());
+            out.writeBoolean(user.isVerified());
+        }
+    }
+
+    private static void writeEntries(final DataOutputStream out, final List<? extends TweetEntry> entries) throws IOException {
+        final int size = null == entries ? 0 : entries.size();
+        out.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            writeEntry(out, entries.get(i));
+        }
+    }
+
+    private static void writeUrlEntries(final DataOutputStream out, final List<UrlTweetEntry> entries) throws IOException {
+        final int size = null == entries ? 0 : entries.size();
+        out.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            final UrlTweetEntry entry = entries.get(i);
+            writeString(out, entry.getURL());
+            writeString(out, entry.getExpandedURL());
+            writeString(out, entry.getDisplayURL());
+            writeEntry(out, entry);
+        }
+    }
+
+    private static void writeUserMentionEntries(final DataOutputStream out, final List<UserMentionTweetEntry> entries) throws IOException {
+        final int size = null == entries ? 0 : entries.size();
+        out.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            final UserMentionTweetEntry entry = entries.get(i);
+            out.writeLong(entry.getId());
+            writeString(out, entry.getName());
+            writeString(out, entry.getScreenName());
+            writeEntry(out, entry);
+        }
+    }
+
+    private static void writeMediaEntries(final DataOutputStream out, final List<MediaTweetEntry> entries) throws IOException {
+        final int size = null == entries ? 0 : entries.size();
+        out.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            final MediaTweetEntry entry = entries.get(i);
+            final Map<Integer, MediaTweetEntry.Size> sizes = null == entry.getSizes() ? Map.of() : entry.getSizes();
+            out.writeLong(entry.getId());
+            writeString(out, entry.getMediaUrl());
+            out.writeByte(null == entry.getType() ? -1 : entry.getType().ordinal());
+            out.writeInt(sizes.size());
+
+            for (final Map.Entry<Integer, MediaTweetEntry.Size> sizeEntry : sizes.entrySet()) {
+                out.writeInt(sizeEntry.getKey());
+                out.writeInt(sizeEntry.getValue().getWidth());
+                out.writeInt(sizeEntry.getValue().getHeight());
+                out.writeInt(sizeEntry.getValue().getResize());
+            }
+
+            writeEntry(out, entry);
+        }
+    }
+
+    private static void writeEntry(final DataOutputStream out, final TweetEntry entry) throws IOException {
+        writeString(out, entry.getText());
+        out.writeInt(entry.getStart());
+        out.writeInt(entry.getEnd());
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (null == value) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static TweetSnapshot readTweet(final ByteBuffer in) {
+        final TweetSnapshot.Builder builder = TweetSnapshot.builder()
+                .withId(in.getLong());
+        final long createdAtEpochSecond = in.getLong();
+        final int createdAtNano = in.getInt();
+
+        builder.withCreatedAt(Long.MIN_VALUE == createdAtEpochSecond
+                ? null
+                : LocalDateTime.ofEpochSecond(createdAtEpochSecond, createdAtNano, ZoneOffset.UTC))
+                .withFavoriteCount(in.getInt())
+                .withRetweetCount(in.getInt())
+                .withInReplyToTweetId(in.getLong())
+                .withInReplyToUserId(in.getLong())
+                .withInReplyToScreenName(readString(in))
+                .withLang(readString(in))
+                .withText(readString(in));
+
+        final byte flags = in.get();
+        builder.withRetweet(0 != (flags & FLAG_RETWEET))
+                .withTruncated(0 != (flags & FLAG_TRUNCATED))
+                .withUser(readUser(in))
+                .withHashtagEntries(readEntries(in, TweetSnapshot.HashtagEntry::new))
+                .withSymbolEntries(readEntries(in, TweetSnapshot.SymbolEntry::new))
+                .withUrlEntries(readUrlEntries(in))
+                .withUserMentionEntries(readUserMentionEntries(in))
+                .withMediaEntries(readMediaEntries(in));
+
+        final TweetSnapshot retweetedTweet = in.get() != 0 ? readTweet(in) : null;
+        return builder.withRetweetedTweet(retweetedTweet)
+                .withOriginTweet(switch (in.get()) {
+                    case ORIGIN_SELF -> null;
+                    case ORIGIN_RETWEETED -> retweetedTweet;
+                    default -> readTweet(in);
+                })
+                .build();
+    }
+
+    private static UserSnapshot readUser(final ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+
+        return new UserSnapshot(
+                in.getLong(),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                in.getInt(),
+                in.get() != 0);
+    }
+
+    private static <T> List<T> readEntries(final ByteBuffer in, final TextEntryFactory<T> factory) {
+        final int size = in.getInt();
+        final List<T> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            entries.add(factory.create(readString(in), in.getInt(), in.getInt()));
+        }
+
+        return entries;
+    }
+
+    private static List<TweetSnapshot.UrlEntry> readUrlEntries(final ByteBuffer in) {
+        final int size = in.getInt();
+        final List<TweetSnapshot.UrlEntry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            entries.add(new TweetSnapshot.UrlEntry(readString(in), readString(in), readString(in), readString(in), in.getInt(), in.getInt()));
+        }
+
+        return entries;
+    }
+
+    private static List<TweetSnapshot.UserMentionEntry> readUserMentionEntries(final ByteBuffer in) {
+        final int size = in.getInt();
+        final List<TweetSnapshot.UserMentionEntry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            entries.add(new TweetSnapshot.UserMentionEntry(in.getLong(), readString(in), readString(in), readString(in), in.getInt(), in.getInt()));
+        }
+
+        return entries;
+    }
+
+    private static List<TweetSnapshot.MediaEntry> readMediaEntries(final ByteBuffer in) {
+        final int size = in.getInt();
+        final List<TweetSnapshot.MediaEntry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final long id = in.getLong();
+            final String mediaUrl = readString(in);
+            final byte type = in.get();
+            final int sizeCount = in.getInt();
+            final Map<Integer, MediaTweetEntry.Size> sizes = new LinkedHashMap<>();
+
+            for (int j = 0; j < sizeCount; j++) {
+                sizes.put(in.getInt(), MediaTweetEntry.createSize(in.getInt(), in.getInt(), in.getInt()));
+            }
+
+            entries.add(new TweetSnapshot.MediaEntry(
+                    id,
+                    mediaUrl,
+                    type < 0 ? null : MEDIA_TYPES[type],
+                    sizes,
+                    readString(in),
+                    in.getInt(),
+                    in.getInt()));
+        }
+
+        return entries;
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final int length = in.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface TextEntryFactory<T> {
+
+        T create(String text, int start, int end);
+    }
+}
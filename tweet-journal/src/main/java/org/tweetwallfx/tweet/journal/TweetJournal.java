@@ -0,0 +1,480 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.journal.config.TweetJournalSettings;
+
+/**
+ * Append only journal of tweets persisted in memory mapped segment files.
+ *
+ * <p>
+ * Every tweet is journaled at most once. The journal keeps an index of the
+ * ids of the journaled tweets, so looking up a tweet by its id does not
+ * require scanning the segments. Once a segment is full the journal rolls
+ * over to a new segment. The oldest segments are deleted once there are more
+ * segments than configured or once nothing has been appended to them for
+ * longer than the configured retention.
+ *
+ * <p>
+ * The journal records the query its tweets have been found by. Recording a
+ * different query rolls over to a new segment and restricts {@link #stream()}
+ * and {@link #history()} to the tweets appended since, while the tweets of
+ * the former query remain accessible by their id until they are deleted.
+ *
+ * <p>
+ * Tweets read from the journal are instances of
+ * {@link org.tweetwallfx.tweet.api.TweetSnapshot}.
+ */
+public final class TweetJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetJournal.class);
+    private static final String QUERY_FILE = "query";
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Duration retention;
+    private final TreeMap<Long, JournalSegment> segments = new TreeMap<>();
+    private final JournalIndex index = new JournalIndex();
+    private long latestId;
+    private String query;
+    private long querySequence;
+    private boolean closed;
+
+    private TweetJournal(final Path directory, final int segmentSize, final int maxSegments, final Duration retention) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.retention = retention;
+    }
+
+    /**
+     * Returns the journal configured via {@link TweetJournalSettings}. The
+     * journal is opened on first access and closed on shutdown of the JVM.
+     *
+     * @return the configured journal or an empty {@link Optional} in case the
+     * journal is disabled or cannot be opened
+     */
+    public static Optional<TweetJournal> getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Opens the journal stored in the given directory. The directory is
+     * created if it does not exist.
+     *
+     * @param directory the directory of the journal
+     *
+     * @param segmentSize the size of a segment in bytes
+     *
+     * @param maxSegments the maximum number of segments retained
+     *
+     * @param retention the duration a segment is retained after the last
+     * tweet has been appended to it
+     *
+     * @return the opened journal
+     *
+     * @throws IOException in case the journal cannot be opened
+     */
+    public static TweetJournal open(
+            final Path directory,
+            final int segmentSize,
+            final int maxSegments,
+            final Duration retention) throws IOException {
+        final TweetJournal journal = new TweetJournal(directory, segmentSize, maxSegments, retention);
+        final long start = System.nanoTime();
+
+        Files.createDirectories(directory);
+
+        try {
+            journal.readQuery();
+
+            for (final Path file : segmentFiles(directory)) {
+                final long sequence = JournalSegment.sequenceOf(file);
+                journal.segments.put(sequence, JournalSegment.open(file, true, (id, offset) -> journal.index(id, position(sequence, offset))));
+            }
+
+            journal.applyRetention(System.currentTimeMillis());
+        } catch (final IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+
+        LOGGER.info("Opened tweet journal in {} with {} tweets in {} segments in {} ms",
+                directory,
+                journal.index.size(),
+                journal.segments.size(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return journal;
+    }
+
+    /**
+     * Opens the journal as configured by the given settings.
+     *
+     * @param settings the settings of the journal
+     *
+     * @return the opened journal
+     *
+     * @throws IOException in case the journal cannot be opened
+     */
+    public static TweetJournal open(final TweetJournalSettings settings) throws IOException {
+        return open(
+                Path.of(settings.directory()),
+                settings.segmentSizeMegaBytes() * 1024 * 1024,
+                settings.maxSegments(),
+                Duration.ofHours(settings.retentionHours()));
+    }
+
+    /**
+     * Reads all tweets of the journal stored in the given directory without
+     * modifying it, e.g. in order to replay a recorded journal.
+     *
+     * @param directory the directory of the journal
+     *
+     * @return the journaled tweets in the order they have been appended
+     *
+     * @throws IOException in case the journal cannot be read
+     */
+    public static List<Tweet> read(final Path directory) throws IOException {
+        final List<Tweet> tweets = new ArrayList<>();
+        final JournalIndex ids = new JournalIndex();
+
+        for (final Path file : segmentFiles(directory)) {
+            final List<Integer> offsets = new ArrayList<>();
+            final JournalSegment segment = JournalSegment.open(file, false, (id, offset) -> {
+                if (ids.add(id, offset)) {
+                    offsets.add(offset);
+                }
+            });
+
+            try {
+                offsets.forEach(offset -> tweets.add(TweetCodec.decode(segment.read(offset))));
+            } finally {
+                segment.close();
+            }
+        }
+
+        return tweets;
+    }
+
+    private static List<Path> segmentFiles(final Path directory) throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.filter(JournalSegment::isSegmentFile)
+                    .sorted((p1, p2) -> Long.compare(JournalSegment.sequenceOf(p1), JournalSegment.sequenceOf(p2)))
+                    .toList();
+        }
+    }
+
+    private static long position(final long sequence, final int offset) {
+        return (sequence << Integer.SIZE) | offset;
+    }
+
+    private void readQuery() throws IOException {
+        final Path file = directory.resolve(QUERY_FILE);
+
+        if (Files.exists(file)) {
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            querySequence = Long.parseLong(lines.getFirst());
+            query = String.join("\n", lines.subList(1, lines.size()));
+        }
+    }
+
+    private void index(final long id, final long position) {
+        if (index.add(id, position)) {
+            latestId = Math.max(latestId, id);
+        }
+    }
+
+    /**
+     * Appends the given tweet to the journal unless a tweet with the same id
+     * has already been journaled.
+     *
+     * @param tweet the tweet to append
+     *
+     * @return {@code true} if the tweet has been appended or {@code false} if
+     * it has been journaled before or is too large for a segment
+     *
+     * @throws IllegalStateException in case the journal has been closed
+     *
+     * @throws UncheckedIOException in case a new segment cannot be created
+     */
+    public synchronized boolean append(final Tweet tweet) {
+        if (closed) {
+            throw new IllegalStateException("Tweet journal in " + directory + " is closed");
+        }
+
+        if (index.positionOf(tweet.getId()) >= 0) {
+            return false;
+        }
+
+        final byte[] encoded = TweetCodec.encode(tweet);
+        final long now = System.currentTimeMillis();
+        JournalSegment segment = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        // tweets of a newly recorded query start a new segment
+        int offset = null == segment || segment.sequence() < querySequence ? -1 : segment.append(encoded, now);
+
+        if (offset < 0) {
+            segment = roll(now);
+            offset = segment.append(encoded, now);
+
+            if (offset < 0) {
+                LOGGER.warn("Tweet {} of {} bytes does not fit into a segment of the tweet journal", tweet.getId(), encoded.length);
+                return false;
+            }
+        }
+
+        index(tweet.getId(), position(segment.sequence(), offset));
+        return true;
+    }
+
+    private JournalSegment roll(final long now) {
+        final long sequence = Math.max(querySequence, segments.isEmpty() ? 0 : segments.lastKey() + 1);
+
+        try {
+            final JournalSegment segment = JournalSegment.create(directory, sequence, segmentSize);
+            segments.put(sequence, segment);
+            LOGGER.info("Rolled tweet journal over to segment {}", segment);
+            applyRetention(now);
+            return segment;
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Failed to create segment " + sequence + " of tweet journal in " + directory, ioe);
+        }
+    }
+
+    private void applyRetention(final long now) {
+        final long retainedSince = now - retention.toMillis();
+
+        while (segments.size() > 1
+                && (segments.size() > maxSegments || segments.firstEntry().getValue().lastAppendMillis() < retainedSince)) {
+            final JournalSegment segment = segments.pollFirstEntry().getValue();
+            // the index lists the tweets in the order of the segments
+            index.removeFirst(segment.recordCount());
+
+            try {
+                segment.delete();
+                LOGGER.info("Deleted segment {} of tweet journal", segment);
+            } catch (final IOException ioe) {
+                LOGGER.warn("Failed to delete segment {} of tweet journal", segment, ioe);
+            }
+        }
+    }
+
+    /**
+     * {@return the query recorded via {@link #recordQuery(String)} or an empty
+     * {@link Optional} in case no query has been recorded}.
+     */
+    public synchronized Optional<String> getQuery() {
+        return Optional.ofNullable(query);
+    }
+
+    /**
+     * Records the query the tweets appended from now on are found by. In case
+     * the query differs from the recorded one the tweets journaled so far are
+     * no longer part of {@link #stream()} and {@link #history()}.
+     *
+     * @param query the query of the tweets to append
+     *
+     * @throws IllegalStateException in case the journal has been closed
+     *
+     * @throws UncheckedIOException in case the query cannot be persisted
+     */
+    public synchronized void recordQuery(final String query) {
+        if (closed) {
+            throw new IllegalStateException("Tweet journal in " + directory + " is closed");
+        }
+
+        if (query.equals(this.query)) {
+            return;
+        }
+
+        final long sequence = segments.isEmpty() ? querySequence : segments.lastKey() + 1;
+
+        try {
+            Files.writeString(directory.resolve(QUERY_FILE), sequence + "\n" + query, StandardCharsets.UTF_8);
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Failed to record query of tweet journal in " + directory, ioe);
+        }
+
+        this.query = query;
+        this.querySequence = sequence;
+    }
+
+    /**
+     * Checks whether a tweet with the given id has been journaled.
+     *
+     * @param id the id of the tweet
+     *
+     * @return {@code true} if the tweet has been journaled
+     */
+    public synchronized boolean contains(final long id) {
+        return index.positionOf(id) >= 0;
+    }
+
+    /**
+     * Looks up the journaled tweet with the given id.
+     *
+     * @param id the id of the tweet
+     *
+     * @return the journaled tweet or an empty {@link Optional} in case no
+     * tweet with the id has been journaled
+     */
+    public Optional<Tweet> getTweet(final long id) {
+        final JournalSegment segment;
+        final long position;
+
+        synchronized (this) {
+            position = index.positionOf(id);
+
+            if (position < 0) {
+                return Optional.empty();
+            }
+
+            segment = segments.get(position >>> Integer.SIZE);
+        }
+
+        return Optional.of(TweetCodec.decode(segment.read((int) position)));
+    }
+
+    /**
+     * {@return the highest id of all journaled tweets or {@code 0} in case no
+     * tweet has been journaled}.
+     */
+    public synchronized long getLatestId() {
+        return latestId;
+    }
+
+    /**
+     * {@return the number of journaled tweets}.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the tweets journaled so far for the recorded query in the order
+     * they have been appended. Tweets appended after calling this method are
+     * not part of the returned stream.
+     *
+     * @return the journaled tweets, the oldest first
+     */
+    public Stream<Tweet> stream() {
+        return stream(false);
+    }
+
+    /**
+     * Returns the tweets journaled so far for the recorded query in reverse
+     * order of their append.
+     * Tweets appended after calling this method are not part of the returned
+     * stream.
+     *
+     * @return the journaled tweets, the most recent first
+     */
+    public Stream<Tweet> history() {
+        return stream(true);
+    }
+
+    private Stream<Tweet> stream(final boolean mostRecentFirst) {
+        final long[] positions;
+        final Map<Long, JournalSegment> segmentsBySequence;
+
+        synchronized (this) {
+            final long firstPosition = position(querySequence, 0);
+            positions = Arrays.stream(index.positions())
+                    .filter(position -> position >= firstPosition)
+                    .toArray();
+            segmentsBySequence = Map.copyOf(segments);
+        }
+
+        return IntStream.range(0, positions.length)
+                .map(i -> mostRecentFirst ? positions.length - 1 - i : i)
+                .mapToObj(i -> TweetCodec.decode(segmentsBySequence
+                        .get(positions[i] >>> Integer.SIZE)
+                        .read((int) positions[i])));
+    }
+
+    /**
+     * Closes the journal forcing the appended tweets to be written to the
+     * storage device. Tweets journaled before remain readable.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            segments.values().forEach(segment -> {
+                try {
+                    segment.close();
+                } catch (final IOException ioe) {
+                    LOGGER.warn("Failed to close segment {} of tweet journal", segment, ioe);
+                }
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TweetJournal{directory=" + directory + '}';
+    }
+
+    private static final class InstanceHolder {
+
+        private static final Optional<TweetJournal> INSTANCE = openConfigured();
+
+        private static Optional<TweetJournal> openConfigured() {
+            final TweetJournalSettings settings = Configuration.getInstance()
+                    .getConfigTyped(TweetJournalSettings.CONFIG_KEY, TweetJournalSettings.class);
+
+            if (!settings.enabled()) {
+                return Optional.empty();
+            }
+
+            try {
+                final TweetJournal journal = open(settings);
+                Runtime.getRuntime().addShutdownHook(Thread.ofPlatform()
+                        .name("tweet-journal-close")
+                        .unstarted(journal::close));
+                return Optional.of(journal);
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error("Failed to open tweet journal in {}", settings.directory(), e);
+                return Optional.empty();
+            }
+        }
+    }
+}
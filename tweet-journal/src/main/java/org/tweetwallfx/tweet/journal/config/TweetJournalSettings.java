@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+import org.tweetwallfx.tweet.journal.TweetJournal;
+
+/**
+ * POJO for reading Settings concerning the {@link TweetJournal}.
+ *
+ * <p>
+ * Param {@code enabled} flag indicating that the accepted tweets are recorded
+ * in the journal and the history is bootstrapped from it. Defaults to
+ * {@code false}.
+ *
+ * <p>
+ * Param {@code directory} the directory the segments of the journal are
+ * stored in. Defaults to {@code tweet-journal}.
+ *
+ * <p>
+ * Param {@code segmentSizeMegaBytes} the size of a segment in mega bytes.
+ * Once a segment is full the journal rolls over to a new segment. Defaults to
+ * {@code 16}.
+ *
+ * <p>
+ * Param {@code maxSegments} the maximum number of segments retained. The
+ * oldest segments are deleted once the limit is exceeded. Defaults to
+ * {@code 16}.
+ *
+ * <p>
+ * Param {@code retentionHours} the number of hours a segment is retained
+ * after the last tweet has been appended to it. Defaults to {@code 168}.
+ */
+public record TweetJournalSettings(
+        Boolean enabled,
+        String directory,
+        Integer segmentSizeMegaBytes,
+        Integer maxSegments,
+        Integer retentionHours) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "tweetJournal";
+
+    public TweetJournalSettings {
+        enabled = Objects.requireNonNullElse(enabled, false);
+        directory = Objects.requireNonNullElse(directory, "tweet-journal");
+        segmentSizeMegaBytes = Objects.requireNonNullElse(segmentSizeMegaBytes, 16);
+        if (segmentSizeMegaBytes <= 0 || segmentSizeMegaBytes > 1024) {
+            throw new IllegalArgumentException("property 'segmentSizeMegaBytes' must be a number between 1 and 1024");
+        }
+        maxSegments = Objects.requireNonNullElse(maxSegments, 16);
+        if (maxSegments <= 0) {
+            throw new IllegalArgumentException("property 'maxSegments' must be a positive number");
+        }
+        retentionHours = Objects.requireNonNullElse(retentionHours, 168);
+        if (retentionHours <= 0) {
+            throw new IllegalArgumentException("property 'retentionHours' must be a positive number");
+        }
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link TweetJournalSettings#CONFIG_KEY} into {@link TweetJournalSettings}.
+     */
+    public static final class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return TweetJournalSettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return TweetJournalSettings.class;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TweetJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendAndReopen() throws IOException {
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 10, 50, 21);
+
+        try (TweetJournal journal = TweetJournal.open(directory, 1024 * 1024, 2, Duration.ofHours(1))) {
+            assertThat(journal.getLatestId()).isZero();
+            assertThat(journal.append(tweet(4711, "first", createdAt))).isTrue();
+            assertThat(journal.append(tweet(4713, "second", createdAt.plusSeconds(1)))).isTrue();
+            assertThat(journal.append(tweet(4712, "third", createdAt.plusSeconds(2)))).isTrue();
+            assertThat(journal.append(tweet(4711, "duplicate", createdAt))).isFalse();
+
+            assertThat(journal.size()).isEqualTo(3);
+            assertThat(journal.getLatestId()).isEqualTo(4713);
+            assertThat(journal.getTweet(4713)).hasValueSatisfying(tweet -> {
+                assertThat(tweet.getText()).isEqualTo("second");
+                assertThat(tweet.getCreatedAt()).isEqualTo(createdAt.plusSeconds(1));
+            });
+            assertThat(journal.getTweet(4714)).isEmpty();
+        }
+
+        try (TweetJournal journal = TweetJournal.open(directory, 1024 * 1024, 2, Duration.ofHours(1))) {
+            assertThat(journal.size()).isEqualTo(3);
+            assertThat(journal.getLatestId()).isEqualTo(4713);
+            assertThat(journal.contains(4712)).isTrue();
+            assertThat(journal.stream().map(Tweet::getText)).containsExactly("first", "second", "third");
+            assertThat(journal.history().map(Tweet::getText)).containsExactly("third", "second", "first");
+
+            // history taken before appending does not contain the appended tweet
+            final Stream<Tweet> history = journal.history();
+            assertThat(journal.append(tweet(4714, "fourth", createdAt.plusSeconds(3)))).isTrue();
+            assertThat(history.map(Tweet::getId)).containsExactly(4712L, 4713L, 4711L);
+        }
+    }
+
+    @Test
+    void rollsOverAndRetainsSegments() throws IOException {
+        try (TweetJournal journal = TweetJournal.open(directory, 1024, 2, Duration.ofHours(1))) {
+            for (int id = 1; id <= 50; id++) {
+                assertThat(journal.append(tweet(id, "tweet number " + id, null))).isTrue();
+            }
+
+            assertThat(journal.contains(50)).isTrue();
+            assertThat(journal.contains(1)).isFalse();
+            assertThat(journal.getTweet(1)).isEmpty();
+            assertThat(journal.history().map(Tweet::getId)).startsWith(50L, 49L).hasSize(journal.size());
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(2);
+        }
+    }
+
+    @Test
+    void readWithoutModifying() throws IOException {
+        try (TweetJournal journal = TweetJournal.open(directory, 1024, 2, Duration.ofHours(1))) {
+            for (int id = 1; id <= 10; id++) {
+                assertThat(journal.append(tweet(id, "tweet number " + id, null))).isTrue();
+            }
+        }
+
+        final Map<Path, Long> lastModifiedTimes = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> lastModifiedTimes.put(file, file.toFile().lastModified()));
+        }
+
+        assertThat(TweetJournal.read(directory))
+                .extracting(Tweet::getId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        lastModifiedTimes.forEach((file, lastModified) -> assertThat(file.toFile().lastModified()).isEqualTo(lastModified));
+    }
+
+    @Test
+    void recordQuery() throws IOException {
+        try (TweetJournal journal = TweetJournal.open(directory, 1024 * 1024, 4, Duration.ofHours(1))) {
+            assertThat(journal.getQuery()).isEmpty();
+            journal.recordQuery("#javaone");
+            assertThat(journal.append(tweet(1, "first", null))).isTrue();
+            assertThat(journal.append(tweet(2, "second", null))).isTrue();
+            journal.recordQuery("#javaone");
+            assertThat(journal.history().map(Tweet::getId)).containsExactly(2L, 1L);
+
+            journal.recordQuery("#devoxx");
+            assertThat(journal.getQuery()).hasValue("#devoxx");
+            assertThat(journal.history()).isEmpty();
+            assertThat(journal.append(tweet(3, "third", null))).isTrue();
+            assertThat(journal.history().map(Tweet::getId)).containsExactly(3L);
+            // tweets of the former query remain accessible by id
+            assertThat(journal.getTweet(1)).isPresent();
+            assertThat(journal.append(tweet(1, "first", null))).isFalse();
+        }
+
+        try (TweetJournal journal = TweetJournal.open(directory, 1024 * 1024, 4, Duration.ofHours(1))) {
+            assertThat(journal.getQuery()).hasValue("#devoxx");
+            assertThat(journal.stream().map(Tweet::getId)).containsExactly(3L);
+            assertThat(journal.size()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void appendAfterClose() throws IOException {
+        final TweetJournal journal = TweetJournal.open(directory, 1024, 2, Duration.ofHours(1));
+        final Tweet tweet = tweet(4711, "first", null);
+        journal.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> journal.append(tweet));
+    }
+
+    private static Tweet tweet(final long id, final String text, final LocalDateTime createdAt) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        when(tweet.getText()).thenReturn(text);
+        when(tweet.getCreatedAt()).thenReturn(createdAt);
+        return TweetSnapshot.of(tweet);
+    }
+}
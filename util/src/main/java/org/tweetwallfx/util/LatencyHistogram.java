@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Records latencies and provides percentile statistics about them.
+ *
+ * <p>
+ * Percentiles are calculated over a sliding window containing the most recent
+ * {@code capacity} recorded latencies while the count and the maximum cover
+ * all latencies recorded since creation. Memory consumption is therefore
+ * constant regardless of the number of recorded latencies.
+ */
+public final class LatencyHistogram {
+
+    private final long[] window;
+    private int nextIndex = 0;
+    private long count = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Creates a histogram evaluating percentiles over the most recent
+     * {@code capacity} latencies.
+     *
+     * @param capacity the number of latencies to consider for percentiles
+     */
+    public LatencyHistogram(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be a positive number");
+        }
+
+        this.window = new long[capacity];
+    }
+
+    /**
+     * Records the given latency.
+     *
+     * @param latency the latency to record
+     */
+    public void record(final Duration latency) {
+        record(latency.toNanos());
+    }
+
+    /**
+     * Records the given latency in nano seconds.
+     *
+     * @param latencyNanos the latency to record in nano seconds
+     */
+    public synchronized void record(final long latencyNanos) {
+        final long nanos = Math.max(0L, latencyNanos);
+
+        window[nextIndex] = nanos;
+        nextIndex = (nextIndex + 1) % window.length;
+        count++;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * {@return a consistent snapshot of the current statistics}.
+     */
+    public Snapshot snapshot() {
+        final long[] sorted;
+        final long snapshotCount;
+        final long snapshotMax;
+
+        synchronized (this) {
+            snapshotCount = count;
+            snapshotMax = maxNanos;
+            sorted = Arrays.copyOf(window, (int) Math.min(count, window.length));
+        }
+
+        Arrays.sort(sorted);
+        return new Snapshot(
+                snapshotCount,
+                Duration.ofNanos(percentile(sorted, 0.5)),
+                Duration.ofNanos(percentile(sorted, 0.99)),
+                Duration.ofNanos(snapshotMax));
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        if (0 == sorted.length) {
+            return 0L;
+        }
+
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Snapshot of the statistics of a {@link LatencyHistogram}.
+     *
+     * <p>
+     * Param {@code count} the number of latencies recorded since creation
+     *
+     * <p>
+     * Param {@code p50} the median of the latencies in the window
+     *
+     * <p>
+     * Param {@code p99} the 99th percentile of the latencies in the window
+     *
+     * <p>
+     * Param {@code max} the maximum latency recorded since creation
+     */
+    public record Snapshot(
+            long count,
+            Duration p50,
+            Duration p99,
+            Duration max) {
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, p50=%.3fms, p99=%.3fms, max=%.3fms",
+                    count,
+                    p50.toNanos() / 1_000_000d,
+                    p99.toNanos() / 1_000_000d,
+                    max.toNanos() / 1_000_000d);
+        }
+    }
+}
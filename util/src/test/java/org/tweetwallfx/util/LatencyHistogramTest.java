@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramHasZeroStatistics() {
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram(10).snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.p50()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.p99()).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.max()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void percentilesAreCalculatedOverRecordedLatencies() {
+        final LatencyHistogram histogram = new LatencyHistogram(100);
+        LongStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.p50()).isEqualTo(Duration.ofNanos(50));
+        assertThat(snapshot.p99()).isEqualTo(Duration.ofNanos(99));
+        assertThat(snapshot.max()).isEqualTo(Duration.ofNanos(100));
+    }
+
+    @Test
+    void percentilesOnlyConsiderMostRecentLatencies() {
+        final LatencyHistogram histogram = new LatencyHistogram(10);
+        histogram.record(Duration.ofSeconds(1));
+        LongStream.rangeClosed(1, 10).forEach(histogram::record);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(11);
+        assertThat(snapshot.p99()).isEqualTo(Duration.ofNanos(10));
+        assertThat(snapshot.max()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThatThrownBy(() -> new LatencyHistogram(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}